@@ -26,6 +26,7 @@ import org.evosuite.result.TestGenerationResult;
 import org.evosuite.result.TestGenerationResultBuilder;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.rmi.service.MasterNodeRemote;
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.runtime.RuntimeSettings;
 import org.evosuite.runtime.classhandling.JDKClassResetter;
 import org.evosuite.runtime.instrumentation.MethodCallReplacementCache;
@@ -143,6 +144,8 @@ public class ClientProcess {
         RuntimeSettings.className = Properties.TARGET_CLASS;
         RuntimeSettings.applyUIDTransformation = true;
         RuntimeSettings.isRunningASystemTest = Properties.IS_RUNNING_A_SYSTEM_TEST;
+        ExecutionProfiler.getInstance().setSamplingRate(Properties.PROFILE_EXECUTION_SAMPLING_RATE);
+        ExecutionProfiler.getInstance().setActive(Properties.PROFILE_EXECUTION);
         MethodCallReplacementCache.resetSingleton();
     }
 
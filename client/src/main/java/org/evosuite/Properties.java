@@ -122,6 +122,9 @@ public class Properties {
     @Parameter(key = "reset_static_field_gets", group = "Test Creation", description = "Call static constructors also after each static field was read")
     public static boolean RESET_STATIC_FIELD_GETS = false;
 
+    @Parameter(key = "reset_dirty_static_fields", group = "Test Creation", description = "Restore only the static fields written by a test to their initial values, and call static constructors only for classes with mutable static state")
+    public static boolean RESET_DIRTY_STATIC_FIELDS = false;
+
     @Parameter(key = "reset_all_classes_during_test_generation", group = "Test Creation", description = "Test Generation does not apply the selective method of selection of class re-initalization")
     public static boolean RESET_ALL_CLASSES_DURING_TEST_GENERATION = false;
 
@@ -173,6 +176,10 @@ public class Properties {
     @Parameter(key = "dynamic_pool_size", group = "Test Creation", description = "Number of dynamic constants to keep")
     public static int DYNAMIC_POOL_SIZE = 50;
 
+    @Parameter(key = "dynamic_constant_sampling_rate", group = "Test Creation", description = "Only add one out of this many primitive values observed during test execution to the dynamic pool")
+    @IntValue(min = 1)
+    public static int DYNAMIC_CONSTANT_SAMPLING_RATE = 1;
+
     @Parameter(key = "p_special_type_call", group = "Test Creation", description = "Probability of using a non-standard call on a special case (collection/numeric)")
     @DoubleValue(min = 0.0, max = 1.0)
     public static double P_SPECIAL_TYPE_CALL = 0.05;
@@ -351,6 +358,14 @@ public class Properties {
     @Parameter(key = "map_elites_ignore_features", group = "Search Algorithm", description = "Enable this to disable feature based mapping")
     public static boolean MAP_ELITES_IGNORE_FEATURES = false;
 
+    @Parameter(key = "novelty_neighbours", group = "Search Algorithm", description = "Number of nearest neighbours used to compute the novelty of an individual in novelty search")
+    @IntValue(min = 1)
+    public static int NOVELTY_NEIGHBOURS = 15;
+
+    @Parameter(key = "novelty_archive_size", group = "Search Algorithm", description = "Maximum number of individuals in the novelty archive of novelty search. The most novel individual of each generation is archived, and the oldest one is dropped when the archive is full")
+    @IntValue(min = 0)
+    public static int NOVELTY_ARCHIVE_SIZE = 100;
+
     @Parameter(key = "algorithm", group = "Search Algorithm", description = "Search algorithm")
     public static Algorithm ALGORITHM = Algorithm.DYNAMOSA;
 
@@ -454,6 +469,9 @@ public class Properties {
     @Parameter(key = "dse_variable_resets", group = "DSE", description = "Times DSE resets the int and real variables with random values")
     public static int DSE_VARIABLE_RESETS = 2;
 
+    @Parameter(key = "dse_constraint_slicing", group = "DSE", description = "Only send to the constraint solver the independent constraint clusters that are not already satisfied by the current concrete values")
+    public static boolean DSE_CONSTRAINT_SLICING = false;
+
     // By default the target is 100
     @Parameter(key = "dse_target_coverage", group = "DSE", description = "Percentage (out of 100) of target coverage to cover")
     public static int DSE_TARGET_COVERAGE = 100;
@@ -953,6 +971,12 @@ public class Properties {
     @Parameter(key = "ctg_schedule", group = "Continuous Test Generation", description = "Schedule used to run jobs")
     public static AvailableSchedule CTG_SCHEDULE = AvailableSchedule.BUDGET;
 
+    @Parameter(key = "ctg_history_skip_unchanged", group = "Continuous Test Generation", description = "In the HISTORY schedule, do not generate tests for the classes that did not change, and keep their existing tests")
+    public static boolean CTG_HISTORY_SKIP_UNCHANGED = false;
+
+    @Parameter(key = "ctg_history_based_execution", group = "Continuous Test Generation", description = "Use the history of previous CTG runs to start the longest jobs first, and to give the time left by jobs finishing early to the jobs not started yet")
+    public static boolean CTG_HISTORY_BASED_EXECUTION = false;
+
 
     @Parameter(key = "ctg_extra_args", group = "Continuous Test Generation", description = "Extra '-D' arguments to pass to EvoSuite test generation processes")
     public static String CTG_EXTRA_ARGS = null;
@@ -1018,6 +1042,10 @@ public class Properties {
     @Parameter(key = "junit_check", group = "Output", description = "Compile and run resulting JUnit test suite (if any was created)")
     public static JUnitCheckValues JUNIT_CHECK = JUnitCheckValues.TRUE;
 
+    @Parameter(key = "junit_check_compilation_threads", group = "Output", description = "Number of threads used to compile the tests while checking that they compile. Tests are still written and executed one at a time")
+    @IntValue(min = 1)
+    public static int JUNIT_CHECK_COMPILATION_THREADS = 1;
+
     @Parameter(key = "remove_order_dependent_tests", group = "Output", description = "Number of times to compile and run the tests in shuffle order")
     @IntValue(min = 0)
     public static int REMOVE_ORDER_DEPENDENT_TESTS = 5;
@@ -1228,11 +1256,18 @@ public class Properties {
     @Parameter(key = "timeline_interpolation", group = "Output", description = "Interpolate timeline values")
     public static boolean TIMELINE_INTERPOLATION = true;
 
+    @Parameter(key = "profile_execution", group = "Output", description = "Track time and memory allocation spent in SUT code, tracer, observers, sandbox and class reset during test execution, and output them as timelines")
+    public static boolean PROFILE_EXECUTION = false;
+
+    @Parameter(key = "profile_execution_sampling_rate", group = "Output", description = "When profiling test execution, only measure one out of this many tracer callbacks and sandbox checks")
+    @IntValue(min = 1)
+    public static int PROFILE_EXECUTION_SAMPLING_RATE = 16;
+
     public enum OutputGranularity {
-        MERGED, TESTCASE
+        MERGED, TESTCASE, GROUP
     }
 
-    @Parameter(key = "output_granularity", group = "Output", description = "Write all test cases for a class into a single file or to separate files.")
+    @Parameter(key = "output_granularity", group = "Output", description = "Write all test cases for a class into a single file, to separate files, or to one file per group of tests that do not share any static, file, network or System property state (and so can run concurrently in separate JVMs).")
     public static OutputGranularity OUTPUT_GRANULARITY = OutputGranularity.MERGED;
 
     @Parameter(key = "max_coverage_depth", group = "Output", description = "Maximum depth in the calltree to count a branch as covered")
@@ -1458,6 +1493,9 @@ public class Properties {
     @Parameter(key = "timeout_reset", group = "Test Execution", description = "Milliseconds allowed to execute the static reset of a test")
     public static int TIMEOUT_RESET = 2000;
 
+    @Parameter(key = "execution_result_cache_size", group = "Test Execution", description = "Max number of results of deterministic test executions kept to avoid re-executing identical tests (0 disables the cache)")
+    public static int EXECUTION_RESULT_CACHE_SIZE = 0;
+
 
     @Parameter(key = "concolic_timeout", group = "Test Execution", description = "Milliseconds allowed per test during concolic execution")
     public static int CONCOLIC_TIMEOUT = 15000;
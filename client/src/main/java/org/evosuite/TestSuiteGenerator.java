@@ -218,6 +218,7 @@ public class TestSuiteGenerator {
             postProcessTests(testCases);
             ClientServices.getInstance().getClientNode().publishPermissionStatistics();
             PermissionStatistics.getInstance().printStatistics(LoggingUtils.getEvoLogger());
+            StatisticsSender.printExecutionProfile(LoggingUtils.getEvoLogger());
 
             // progressMonitor.setCurrentPhase("Writing JUnit test cases");
             LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Writing tests to file");
@@ -261,20 +261,25 @@ public class TimeController {
     }
 
     public synchronized boolean isThereStillTimeInThisPhase(long ms) {
+        return ms <= getLeftTimeInThisPhase();
+    }
+
+    /**
+     * @return the milliseconds left before either the client or the current
+     * phase runs out of time ({@link Long#MAX_VALUE} if the client has not
+     * started yet). It can be negative.
+     */
+    public synchronized long getLeftTimeInThisPhase() {
 
         if (state.equals(ClientState.NOT_STARTED)) {
-            return true;
+            return Long.MAX_VALUE;
         }
 
         //all time values are in milliseconds
         long left = getLeftTimeBeforeEnd();
 
-        if (ms > left) {
-            return false;
-        }
-
         /*
-         * OK, there is enough time, but have we spent too long
+         * there might be enough time, but have we spent too long
          * in the current phase?
          */
         if (currentPhaseHasTimeout()) {
@@ -282,10 +287,10 @@ public class TimeController {
             long timeSincePhaseStarted = System.currentTimeMillis() - currentPhaseStartTime;
             long phaseLeft = timeoutInMs - timeSincePhaseStarted + timeLeftFromPreviousPhases;
             logger.debug("Time left for current phase {}: {}", state, phaseLeft);
-            return ms <= phaseLeft;
+            return Math.min(left, phaseLeft);
         }
 
-        return true;
+        return left;
     }
 
     private long getLeftTimeBeforeEnd() {
@@ -21,6 +21,7 @@ package org.evosuite.coverage.ambiguity;
 
 import org.evosuite.Properties;
 import org.evosuite.coverage.line.LineCoverageTestFitness;
+import org.evosuite.coverage.rho.CoverageMatrix;
 import org.evosuite.coverage.rho.RhoAux;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.statistics.RuntimeVariable;
@@ -31,9 +32,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Comparator.comparingInt;
 
@@ -54,6 +58,12 @@ public class AmbiguityCoverageFactory extends
     private static List<StringBuilder> transposedMatrix = new ArrayList<>();
 
 
+    private static BitSet[] transposedCoverage = null;
+
+
+    private static CoverageMatrix coverageMatrix = null;
+
+
     private static double max_ambiguity_score = Double.MAX_VALUE;
 
     /**
@@ -80,6 +90,7 @@ public class AmbiguityCoverageFactory extends
             }
 
             transposedMatrix = tranposeMatrix(matrix);
+            transposedCoverage = null;
             //double ag = AmbiguityCoverageFactory.getDefaultAmbiguity(transposedMatrix) * 1.0 / ((double) goals.size());
             double ag = TestFitnessFunction.normalize(AmbiguityCoverageFactory.getDefaultAmbiguity(transposedMatrix));
             logger.info("AmbiguityScore of an existing test suite: " + ag);
@@ -140,6 +151,49 @@ public class AmbiguityCoverageFactory extends
         return transposedMatrix;
     }
 
+    /**
+     * @return for each goal, the bitset of the tests of the existing test suite
+     * that cover it
+     */
+    public static BitSet[] getTransposedCoverage() {
+        if (transposedCoverage == null) {
+            BitSet[] coverage = new BitSet[transposedMatrix.size()];
+            for (int g_i = 0; g_i < coverage.length; g_i++) {
+                StringBuilder row = transposedMatrix.get(g_i);
+                coverage[g_i] = new BitSet(row.length());
+                for (int t_i = 0; t_i < row.length(); t_i++) {
+                    if (row.charAt(t_i) == '1') {
+                        coverage[g_i].set(t_i);
+                    }
+                }
+            }
+            transposedCoverage = coverage;
+        }
+        return transposedCoverage;
+    }
+
+    /**
+     * @return the number of tests of the existing test suite
+     */
+    public static int getNumberOfExistingTests() {
+        return transposedMatrix.isEmpty() ? 0 : transposedMatrix.get(0).length();
+    }
+
+    /**
+     * @return the coverage matrix of the distinct lines of the goals, in the
+     * order of the goals
+     */
+    public static CoverageMatrix getCoverageMatrix() {
+        if (coverageMatrix == null) {
+            Set<Integer> lines = new LinkedHashSet<>();
+            for (LineCoverageTestFitness goal : getGoals()) {
+                lines.add(goal.getLine());
+            }
+            coverageMatrix = new CoverageMatrix(lines);
+        }
+        return coverageMatrix;
+    }
+
     /**
      * @param matrix
      * @return
@@ -192,11 +246,11 @@ public class AmbiguityCoverageFactory extends
      * @param matrix transposed matrix
      * @return
      */
-    public static double getAmbiguity(int number_of_components, Map<String, Integer> groups) {
+    public static double getAmbiguity(int number_of_components, Map<?, Integer> groups) {
 
         double fit = 0.0;
-        for (String s : groups.keySet()) {
-            double cardinality = groups.get(s);
+        for (Integer groupSize : groups.values()) {
+            double cardinality = groupSize;
             if (cardinality == 1.0) {
                 continue;
             }
@@ -211,5 +265,7 @@ public class AmbiguityCoverageFactory extends
     protected static void reset() {
         goals.clear();
         transposedMatrix.clear();
+        transposedCoverage = null;
+        coverageMatrix = null;
     }
 }
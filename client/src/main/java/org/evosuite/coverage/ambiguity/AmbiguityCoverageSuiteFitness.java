@@ -20,6 +20,7 @@
 package org.evosuite.coverage.ambiguity;
 
 import org.evosuite.coverage.line.LineCoverageTestFitness;
+import org.evosuite.coverage.rho.CoverageMatrix;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testsuite.TestSuiteChromosome;
@@ -49,43 +50,32 @@ public class AmbiguityCoverageSuiteFitness extends TestSuiteFitnessFunction {
     @Override
     public double getFitness(TestSuiteChromosome suite) {
 
-        List<StringBuilder> transposedMatrix = new ArrayList<>(AmbiguityCoverageFactory.getTransposedMatrix());
-        List<Set<Integer>> coveredLines = new ArrayList<>();
+        CoverageMatrix matrix = AmbiguityCoverageFactory.getCoverageMatrix();
+        BitSet[] transposedCoverage = AmbiguityCoverageFactory.getTransposedCoverage();
 
         // Execute test cases and collect the covered lines
         List<ExecutionResult> results = runTestSuite(suite);
+        List<BitSet> coveredLines = new ArrayList<>(results.size());
         for (ExecutionResult result : results) {
-            coveredLines.add(result.getTrace().getCoveredLines());
+            coveredLines.add(matrix.getCoverage(result));
         }
 
-        Map<String, Integer> groups = new HashMap<>();
-        int g_i = 0;
+        BitSet[] coveringTests = matrix.getCoveringTests(coveredLines, transposedCoverage,
+                AmbiguityCoverageFactory.getNumberOfExistingTests());
 
-        for (Integer goal : this.goals) {
-            StringBuffer str = null;
-
-            if (transposedMatrix.size() > g_i) {
-                str = new StringBuffer(transposedMatrix.get(g_i).length() + coveredLines.size());
-                str.append(transposedMatrix.get(g_i));
-            } else {
-                str = new StringBuffer(coveredLines.size());
-            }
-
-            for (Set<Integer> covered : coveredLines) {
-                str.append(covered.contains(goal) ? "1" : "0");
-            }
-
-            if (!groups.containsKey(str.toString())) {
-                groups.put(str.toString(), 1); // in the beginning they are ambiguity, so they belong to the same group '1'
-            } else {
-                groups.put(str.toString(), groups.get(str.toString()) + 1);
-            }
-
-            g_i++;
+        // goals with and without a previous coverage can not be in the same group
+        Map<BitSet, Integer> groups = new HashMap<>();
+        Map<BitSet, Integer> groupsWithoutPrevious = new HashMap<>();
+        for (int g_i = 0; g_i < coveringTests.length; g_i++) {
+            // in the beginning they are ambiguity, so they belong to the same group '1'
+            (g_i < transposedCoverage.length ? groups : groupsWithoutPrevious)
+                    .merge(coveringTests[g_i], 1, Integer::sum);
         }
 
         //double fitness = AmbiguityCoverageFactory.getAmbiguity(this.goals.size(), groups) * 1.0 / AmbiguityCoverageFactory.getMaxAmbiguityScore();
-        double fitness = TestFitnessFunction.normalize(AmbiguityCoverageFactory.getAmbiguity(this.goals.size(), groups));
+        double fitness = TestFitnessFunction.normalize(
+                AmbiguityCoverageFactory.getAmbiguity(this.goals.size(), groups)
+                        + AmbiguityCoverageFactory.getAmbiguity(this.goals.size(), groupsWithoutPrevious));
         updateIndividual(suite, fitness);
 
         return fitness;
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.branch;
+
+import org.evosuite.coverage.ControlFlowDistance;
+import org.evosuite.graphs.cfg.BytecodeInstruction;
+import org.evosuite.graphs.cfg.ControlDependency;
+import org.evosuite.testcase.execution.MethodCall;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The branches a branch is transitively control dependent on, with their
+ * approach level, ie the length of the shortest path to the branch in the
+ * control dependence graph of its method.
+ *
+ * <p>
+ * The table only depends on the CDG, so it is computed once per branch. The
+ * distance of a call to the branch is then given by the closest of these
+ * branches that was evaluated in the call, without walking the CDG again.
+ */
+final class ApproachLevelTable {
+
+    /**
+     * Actual ids of the branches, sorted by approach level
+     */
+    private final int[] branchIds;
+
+    /**
+     * Which outcome of each branch leads to the target branch
+     */
+    private final boolean[] values;
+
+    private final int[] approachLevels;
+
+    /**
+     * Approach level of the closest instruction only dependent on the root
+     * branch of the method, or -1 if there is none
+     */
+    private final int rootApproachLevel;
+
+    private ApproachLevelTable(List<ControlDependency> dependencies, List<Integer> levels,
+                               int rootApproachLevel) {
+        int size = dependencies.size();
+        this.branchIds = new int[size];
+        this.values = new boolean[size];
+        this.approachLevels = new int[size];
+        for (int i = 0; i < size; i++) {
+            branchIds[i] = dependencies.get(i).getBranch().getActualBranchId();
+            values[i] = dependencies.get(i).getBranchExpressionValue();
+            approachLevels[i] = levels.get(i);
+        }
+        this.rootApproachLevel = rootApproachLevel;
+    }
+
+    /**
+     * Compute the table with a breadth first search of the CDG, starting from
+     * the instruction of the given branch
+     */
+    static ApproachLevelTable create(Branch branch) {
+        List<ControlDependency> dependencies = new ArrayList<>();
+        List<Integer> levels = new ArrayList<>();
+        int rootApproachLevel = -1;
+
+        Set<ControlDependency> visited = new HashSet<>();
+        Set<BytecodeInstruction> expanded = new HashSet<>();
+        Deque<BytecodeInstruction> instructions = new ArrayDeque<>();
+        Deque<Integer> instructionLevels = new ArrayDeque<>();
+        instructions.add(branch.getInstruction());
+        instructionLevels.add(0);
+        expanded.add(branch.getInstruction());
+
+        while (!instructions.isEmpty()) {
+            BytecodeInstruction instruction = instructions.poll();
+            int level = instructionLevels.poll() + 1;
+
+            boolean onlyDependentOnRoot = true;
+            for (ControlDependency dependency : instruction.getControlDependencies()) {
+                Branch next = dependency.getBranch();
+                if (instruction.equals(next.getInstruction())) {
+                    continue; // avoid loops
+                }
+                onlyDependentOnRoot = false;
+                if (next.equals(branch) || !visited.add(dependency)) {
+                    continue;
+                }
+                dependencies.add(dependency);
+                levels.add(level);
+                if (expanded.add(next.getInstruction())) {
+                    instructions.add(next.getInstruction());
+                    instructionLevels.add(level);
+                }
+            }
+            if (onlyDependentOnRoot && rootApproachLevel < 0) {
+                rootApproachLevel = level;
+            }
+        }
+        return new ApproachLevelTable(dependencies, levels, rootApproachLevel);
+    }
+
+    /**
+     * @return the distance of the given call to evaluating the branch of this
+     * table, which was not evaluated in the call, or {@code null} if the call
+     * reached none of its control dependencies nor the root branch
+     */
+    ControlFlowDistance getDistance(MethodCall call) {
+        for (int i = 0; i < branchIds.length; i++) {
+            int level = approachLevels[i];
+            if (rootApproachLevel >= 0 && level >= rootApproachLevel) {
+                break;
+            }
+            double[] distances = call.getMinimalBranchDistances(branchIds[i]);
+            if (distances == null) {
+                continue;
+            }
+            // the closest evaluated dependencies, at the same approach level
+            double branchDistance = values[i] ? distances[0] : distances[1];
+            for (int j = i + 1; j < branchIds.length && approachLevels[j] == level; j++) {
+                double[] other = call.getMinimalBranchDistances(branchIds[j]);
+                if (other != null) {
+                    branchDistance = Math.min(branchDistance, values[j] ? other[0] : other[1]);
+                }
+            }
+            return new ControlFlowDistance(level, branchDistance);
+        }
+        if (rootApproachLevel >= 0) {
+            return new ControlFlowDistance(rootApproachLevel, 0.0);
+        }
+        return null;
+    }
+
+    int getNumberOfDependencies() {
+        return branchIds.length;
+    }
+}
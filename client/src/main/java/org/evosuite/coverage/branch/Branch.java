@@ -68,6 +68,11 @@ public class Branch implements Serializable, Comparable<Branch> {
      */
     private boolean isInstrumented = false;
 
+    /**
+     * Control dependencies of this branch, computed on demand from the CDG
+     */
+    private transient volatile ApproachLevelTable approachLevels = null;
+
     /**
      * Constructor for usual jump instruction Branches, that are not SWITCH
      * instructions.
@@ -298,6 +303,21 @@ public class Branch implements Serializable, Comparable<Branch> {
         this.isInstrumented = isInstrumented;
     }
 
+    /**
+     * The branches this branch is transitively control dependent on, with
+     * their approach levels. The table is built on first use; this is meant to
+     * be called by one thread only, at worst concurrent callers build the same
+     * table twice.
+     *
+     * @return a {@link org.evosuite.coverage.branch.ApproachLevelTable} object.
+     */
+    ApproachLevelTable getApproachLevels() {
+        if (approachLevels == null) {
+            approachLevels = ApproachLevelTable.create(this);
+        }
+        return approachLevels;
+    }
+
     private boolean ignoreFalse = false;
 
     public boolean ignoreFalseBranch() {
@@ -121,18 +121,16 @@ public class BranchCoverageTestFitness extends TestFitnessFunction {
         double sum = 0.0;
         boolean methodExecuted = false;
 
-        for (MethodCall call : result.getTrace().getMethodCalls()) {
-            if (call.className.equals(goal.getClassName())
-                    && call.methodName.equals(goal.getMethodName())) {
-                methodExecuted = true;
-                if (goal.getBranch() != null) {
-                    for (int i = 0; i < call.branchTrace.size(); i++) {
-                        if (call.branchTrace.get(i) == goal.getBranch().getInstruction().getInstructionId()) {
-                            if (goal.getValue())
-                                sum += call.falseDistanceTrace.get(i);
-                            else
-                                sum += call.trueDistanceTrace.get(i);
-                        }
+        for (MethodCall call : result.getTrace().getMethodCalls(goal.getClassName(),
+                goal.getMethodName())) {
+            methodExecuted = true;
+            if (goal.getBranch() != null) {
+                for (int i = 0; i < call.branchTrace.size(); i++) {
+                    if (call.branchTrace.get(i) == goal.getBranch().getInstruction().getInstructionId()) {
+                        if (goal.getValue())
+                            sum += call.falseDistanceTrace.get(i);
+                        else
+                            sum += call.trueDistanceTrace.get(i);
                     }
                 }
             }
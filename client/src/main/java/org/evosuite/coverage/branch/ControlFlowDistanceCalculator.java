@@ -21,8 +21,6 @@ package org.evosuite.coverage.branch;
 
 import org.evosuite.coverage.ControlFlowDistance;
 import org.evosuite.coverage.TestCoverageGoal;
-import org.evosuite.graphs.cfg.BytecodeInstruction;
-import org.evosuite.graphs.cfg.ControlDependency;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.MethodCall;
 import org.evosuite.testcase.statements.ConstructorStatement;
@@ -31,11 +29,6 @@ import org.objectweb.asm.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 /**
  * This class holds static methods used to calculate ControlFlowDistances or in
  * other words methods to determine, how far a given ExecutionResult was away
@@ -62,7 +55,8 @@ import java.util.Set;
  * returned distance's branch distance with an approach level of 0. Otherwise
  * the minimum over all distances for evaluating one of the Branches that the
  * given Branch is control dependent on is returned, after adding one to that
- * distance's approach level.
+ * distance's approach level. The branches a branch is transitively control
+ * dependent on are computed only once, in its {@link ApproachLevelTable}.
  * <p>
  * TODO make method that just takes a BytecodeInstruction and returns the
  * minimum over all distances to it's control dependent branches
@@ -210,156 +204,41 @@ public class ControlFlowDistanceCalculator {
         r.setApproachLevel(branch.getInstruction().getActualCFG().getDiameter() + 1);
 
         // Minimal distance between target node and path
-        for (MethodCall call : result.getTrace().getMethodCalls()) {
-            if (call.className.equals(className) && call.methodName.equals(methodName)) {
-                ControlFlowDistance d2;
-                Set<Branch> handled = new HashSet<>();
-                //				result.intermediateDistances = new HashMap<Branch,ControlFlowDistance>();
-                d2 = getNonRootDistance(result, call, branch, value, className,
-                        methodName, handled);
-                if (d2.compareTo(r) < 0) {
-                    r = d2;
-                }
+        for (MethodCall call : result.getTrace().getMethodCalls(className, methodName)) {
+            ControlFlowDistance d2 = getNonRootDistance(call, branch, value);
+            if (d2.compareTo(r) < 0) {
+                r = d2;
             }
         }
 
         return r;
     }
 
-    private static ControlFlowDistance getNonRootDistance(ExecutionResult result,
-                                                          MethodCall call, Branch branch, boolean value, String className,
-                                                          String methodName, Set<Branch> handled) {
+    private static ControlFlowDistance getNonRootDistance(MethodCall call, Branch branch,
+                                                          boolean value) {
 
-        if (branch == null)
-            throw new IllegalStateException(
-                    "expect getNonRootDistance() to only be called if this goal's branch is not a root branch");
         if (call == null)
             throw new IllegalArgumentException("null given");
 
-        //		ControlFlowDistance r = result.intermediateDistances.get(branch);
-
-        if (handled.contains(branch)) {
-            //			if(r== null)
-            return worstPossibleDistanceForMethod(branch);
-            //			else {
-            //				return r;
-            //			}
-        }
-        handled.add(branch);
-
-        List<Double> trueDistances = call.trueDistanceTrace;
-        List<Double> falseDistances = call.falseDistanceTrace;
-
         // IDEA:
         // if this goal's branch is traced in the given path, return the
         // true_/false_distance, depending on this.value
         // otherwise, look at all Branches this.branch is control dependent on
-        // and return 1 + minimum of the branch coverage goal distance over all
-        // such branches taking as value the branchExpressionValue
-
-        Set<Integer> branchTracePositions = determineBranchTracePositions(call, branch);
-
-        if (!branchTracePositions.isEmpty()) {
+        // and return the closest one that is traced, with its distance to
+        // this.branch in the CDG as approach level
 
+        double[] distances = call.getMinimalBranchDistances(branch.getActualBranchId());
+        if (distances != null) {
             // branch was traced in given path
-            ControlFlowDistance r = new ControlFlowDistance(0, Double.MAX_VALUE);
-
-            for (Integer branchTracePosition : branchTracePositions)
-                if (value)
-                    r.setBranchDistance(Math.min(r.getBranchDistance(),
-                            trueDistances.get(branchTracePosition)));
-                else
-                    r.setBranchDistance(Math.min(r.getBranchDistance(),
-                            falseDistances.get(branchTracePosition)));
-
-            if (r.getBranchDistance() == Double.MAX_VALUE)
-                throw new IllegalStateException("should be impossible");
-
-            //			result.intermediateDistances.put(branch, r);
-            return r;
-        }
-
-        ControlFlowDistance controlDependenceDistance = getControlDependenceDistancesFor(result,
-                call,
-                branch.getInstruction(),
-                className,
-                methodName,
-                handled);
-
-        controlDependenceDistance.increaseApproachLevel();
-
-        //		result.intermediateDistances.put(branch, controlDependenceDistance);
-
-        return controlDependenceDistance;
-    }
-
-    private static ControlFlowDistance getControlDependenceDistancesFor(
-            ExecutionResult result, MethodCall call, BytecodeInstruction instruction,
-            String className, String methodName, Set<Branch> handled) {
-
-        Set<ControlFlowDistance> cdDistances = getDistancesForControlDependentBranchesOf(result,
-                call,
-                instruction,
-                className,
-                methodName,
-                handled);
-
-        if (cdDistances == null)
-            throw new IllegalStateException("expect cdDistances to never be null");
-
-        return Collections.min(cdDistances);
-    }
-
-    /**
-     * Returns a set containing the ControlFlowDistances in the given result for
-     * all branches the given instruction is control dependent on
-     *
-     * @param handled
-     */
-    private static Set<ControlFlowDistance> getDistancesForControlDependentBranchesOf(
-            ExecutionResult result, MethodCall call, BytecodeInstruction instruction,
-            String className, String methodName, Set<Branch> handled) {
-
-        Set<ControlFlowDistance> r = new HashSet<>();
-        Set<ControlDependency> nextToLookAt = instruction.getControlDependencies();
-
-        for (ControlDependency next : nextToLookAt) {
-            if (instruction.equals(next.getBranch().getInstruction()))
-                continue; // avoid loops
-
-            boolean nextValue = next.getBranchExpressionValue();
-            ControlFlowDistance nextDistance = getNonRootDistance(result, call,
-                    next.getBranch(),
-                    nextValue, className,
-                    methodName, handled);
-            assert (nextDistance != null);
-            r.add(nextDistance);
+            return new ControlFlowDistance(0, value ? distances[0] : distances[1]);
         }
 
-        if (r.isEmpty()) {
-            // instruction only dependent on root branch
-            // since this method is called by getNonRootDistance(MethodCall)
-            // which in turn is only called when a MethodCall for this branch's
-            // method was found in the given result, i can safely assume that
-            // the 0-distance is a control dependence distance for the given
-            // instruction ... right?
-            r.add(new ControlFlowDistance());
-        }
-
-        return r;
-    }
-
-    private static Set<Integer> determineBranchTracePositions(MethodCall call,
-                                                              Branch branch) {
-
-        Set<Integer> r = new HashSet<>();
-        List<Integer> path = call.branchTrace;
-        for (int pos = 0; pos < path.size(); pos++) {
-            if (path.get(pos) == branch.getActualBranchId()) { //.getActualBranchId()); {
-                r.add(pos);
-            }
+        ControlFlowDistance controlDependenceDistance = branch.getApproachLevels().getDistance(call);
+        if (controlDependenceDistance == null) {
+            // no dependency leads to the root branch: should not happen in a CDG
+            return worstPossibleDistanceForMethod(branch);
         }
-        return r;
+        return controlDependenceDistance;
     }
 
 }
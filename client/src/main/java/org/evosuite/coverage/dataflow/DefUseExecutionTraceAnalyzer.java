@@ -56,16 +56,8 @@ public abstract class DefUseExecutionTraceAnalyzer {
     public static int getPreviousDefinitionId(String targetVariable,
                                               ExecutionTrace objectTrace, Integer targetDUPos, Integer objectId) {
 
-        int prevPos = -1;
-        int prevDef = -1;
-        Map<Integer, Integer> defMap = objectTrace.getPassedDefinitions(targetVariable).get(objectId);
-        for (Integer duPos : defMap.keySet())
-            if (duPos < targetDUPos && duPos > prevPos) {
-                prevDef = defMap.get(duPos);
-                prevPos = duPos;
-            }
-
-        return prevDef;
+        return objectTrace.getDefinitionTrace().getIdBefore(targetVariable, objectId,
+                targetDUPos);
     }
 
     /**
@@ -85,19 +77,9 @@ public abstract class DefUseExecutionTraceAnalyzer {
     public static int getNextOverwritingDefinitionPosition(Definition targetDefinition,
                                                            ExecutionTrace objectTrace, Integer goalDefPos, Integer objectId) {
 
-        int lastPos = Integer.MAX_VALUE;
-        Map<Integer, HashMap<Integer, Integer>> objectMap = objectTrace.getPassedDefinitions(targetDefinition.getVariableName());
-        if (objectMap == null)
-            return lastPos;
-        Map<Integer, Integer> defMap = objectMap.get(objectId);
-        if (defMap == null)
-            return lastPos;
-        for (Integer defPos : defMap.keySet())
-            if (defPos > goalDefPos && defPos < lastPos
-                    && defMap.get(defPos) != targetDefinition.getDefId())
-                lastPos = defPos;
-
-        return lastPos;
+        return objectTrace.getDefinitionTrace().getNextPositionWithOtherId(
+                targetDefinition.getVariableName(), objectId, goalDefPos,
+                targetDefinition.getDefId());
     }
 
     /**
@@ -110,18 +92,8 @@ public abstract class DefUseExecutionTraceAnalyzer {
      */
     public static List<Integer> getUsePositions(Use targetUse, ExecutionTrace trace,
                                                 int objectId) {
-        ArrayList<Integer> r = new ArrayList<>();
-        Map<Integer, HashMap<Integer, Integer>> objectMap = trace.getPassedUses(targetUse.getVariableName());
-        if (objectMap == null)
-            return r;
-        Map<Integer, Integer> useMap = objectMap.get(objectId);
-        if (useMap == null)
-            return r;
-        for (Integer usePos : useMap.keySet())
-            if (useMap.get(usePos) == targetUse.getUseId())
-                r.add(usePos);
-
-        return r;
+        return trace.getUseTrace().getPositions(targetUse.getVariableName(), objectId,
+                targetUse.getUseId());
     }
 
     /**
@@ -135,18 +107,8 @@ public abstract class DefUseExecutionTraceAnalyzer {
     public static List<Integer> getDefinitionPositions(Definition targetDefinition,
                                                        ExecutionTrace trace, int objectId) {
 
-        ArrayList<Integer> r = new ArrayList<>();
-        Map<Integer, HashMap<Integer, Integer>> objectMap = trace.getPassedDefinitions(targetDefinition.getVariableName());
-        if (objectMap == null)
-            return r;
-        Map<Integer, Integer> defMap = objectMap.get(objectId);
-        if (defMap == null)
-            return r;
-        for (Integer defPos : defMap.keySet())
-            if (defMap.get(defPos) == targetDefinition.getDefId())
-                r.add(defPos);
-
-        return r;
+        return trace.getDefinitionTrace().getPositions(targetDefinition.getVariableName(),
+                objectId, targetDefinition.getDefId());
     }
 
     /**
@@ -171,23 +133,11 @@ public abstract class DefUseExecutionTraceAnalyzer {
 
         if (startingDUPos > endDUPos)
             throw new IllegalArgumentException("start must be lower or equal end");
-        Map<Integer, Integer> r = new HashMap<>();
-        Map<Integer, HashMap<Integer, Integer>> objectMap = trace.getPassedDefinitions(targetDefinition.getVariableName());
-        if (objectMap == null)
-            return r;
-        Map<Integer, Integer> defMap = objectMap.get(objectId);
-        if (defMap == null)
-            return r;
-        for (Integer defPos : defMap.keySet()) {
-            if (defPos < startingDUPos || defPos > endDUPos)
-                continue;
-            int defId = defMap.get(defPos);
-            if (defId == targetDefinition.getDefId())
-                throw new IllegalStateException(
-                        "expect given trace not to have passed goalDefinition in the given duCounter-range");
-            if (r.get(defId) == null)
-                r.put(defId, defPos);
-        }
+        Map<Integer, Integer> r = trace.getDefinitionTrace().getFirstPositionsBetween(
+                targetDefinition.getVariableName(), objectId, startingDUPos, endDUPos);
+        if (r.containsKey(targetDefinition.getDefId()))
+            throw new IllegalStateException(
+                    "expect given trace not to have passed goalDefinition in the given duCounter-range");
         return r;
     }
 
@@ -269,23 +219,7 @@ public abstract class DefUseExecutionTraceAnalyzer {
     public static int getActiveDefinitionIdAt(String targetVariable,
                                               ExecutionTrace trace, int usePos, int objectId) {
 
-        int lastDef = -1;
-        int lastPos = -1;
-        Map<Integer, HashMap<Integer, Integer>> objectMap = trace.getPassedDefinitions(targetVariable);
-        if (objectMap == null)
-            return -1;
-        Map<Integer, Integer> defMap = objectMap.get(objectId);
-        if (defMap == null)
-            return -1;
-        for (Integer defPos : defMap.keySet()) {
-            if (defPos > usePos)
-                continue;
-            if (lastPos < defPos) {
-                lastDef = defMap.get(defPos);
-                lastPos = defPos;
-            }
-        }
-        return lastDef;
+        return trace.getDefinitionTrace().getIdAtOrBefore(targetVariable, objectId, usePos);
     }
 
     public static Object getActiveObjectAtDefinition(ExecutionTrace trace, String targetVariable,
@@ -113,4 +113,9 @@ public class InputObserver extends ExecutionObserver {
         inputCoverage = new LinkedHashMap<>();
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
 }
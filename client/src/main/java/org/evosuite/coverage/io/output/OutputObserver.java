@@ -103,4 +103,9 @@ public class OutputObserver extends ExecutionObserver {
         outputCoverage = new LinkedHashMap<>();
     }
 
+    @Override
+    public boolean isResultCacheable() {
+        return true;
+    }
+
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.rho;
+
+import org.evosuite.testcase.execution.ExecutionResult;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The lines covered by each test, as bitsets with one bit per line.
+ *
+ * <p>
+ * The bit of a line goal is its position in the goals the matrix is created
+ * with. Lines that are not goals get the next bits, as they are first seen, so
+ * two tests cover the same lines if and only if their bitsets are equal.
+ *
+ * <p>
+ * The bitset of a test is computed once per execution: as long as a test is
+ * not changed, its last execution result is reused by the fitness functions,
+ * and so is its bitset.
+ */
+public class CoverageMatrix {
+
+    private final Map<Integer, Integer> lineIndexes = new HashMap<>();
+
+    private final int numberOfGoals;
+
+    /**
+     * ExecutionResult does not override equals, so this is by identity
+     */
+    private final Map<ExecutionResult, BitSet> coverageByResult = new WeakHashMap<>();
+
+    /**
+     * @param goalLines the lines of the goals, in the order of the goals,
+     *                  without duplicates
+     */
+    public CoverageMatrix(Collection<Integer> goalLines) {
+        for (Integer line : goalLines) {
+            if (lineIndexes.putIfAbsent(line, lineIndexes.size()) != null) {
+                throw new IllegalArgumentException("Duplicate line goal: " + line);
+            }
+        }
+        this.numberOfGoals = lineIndexes.size();
+    }
+
+    public int getNumberOfGoals() {
+        return numberOfGoals;
+    }
+
+    /**
+     * @return the lines of the target class covered by the given execution. The
+     * bitset is cached, and must not be modified.
+     */
+    public BitSet getCoverage(ExecutionResult result) {
+        BitSet coverage = coverageByResult.get(result);
+        if (coverage == null) {
+            coverage = toBitSet(result.getTrace().getCoveredLines());
+            coverageByResult.put(result, coverage);
+        }
+        return coverage;
+    }
+
+    public BitSet toBitSet(Collection<Integer> lines) {
+        BitSet bits = new BitSet(numberOfGoals);
+        for (Integer line : lines) {
+            bits.set(lineIndexes.computeIfAbsent(line, k -> lineIndexes.size()));
+        }
+        return bits;
+    }
+
+    /**
+     * Transpose the coverage of the given tests: for each goal, the bitset of
+     * the tests that cover it
+     *
+     * @param tests    the coverage of each test
+     * @param previous for each goal, the bitset of other tests that cover it
+     *                 (eg, of an existing test suite), or {@code null}. It is not
+     *                 modified.
+     * @param offset   the bit of the first of the given tests, when there are
+     *                 previous tests
+     */
+    public BitSet[] getCoveringTests(List<BitSet> tests, BitSet[] previous, int offset) {
+        BitSet[] coveringTests = new BitSet[numberOfGoals];
+        for (int goal = 0; goal < numberOfGoals; goal++) {
+            coveringTests[goal] = previous != null && goal < previous.length
+                    ? (BitSet) previous[goal].clone() : new BitSet();
+        }
+        for (int test = 0; test < tests.size(); test++) {
+            BitSet coverage = tests.get(test);
+            for (int goal = coverage.nextSetBit(0); goal >= 0 && goal < numberOfGoals;
+                 goal = coverage.nextSetBit(goal + 1)) {
+                boolean hasPrevious = previous != null && goal < previous.length;
+                coveringTests[goal].set(hasPrevious ? offset + test : test);
+            }
+        }
+        return coveringTests;
+    }
+}
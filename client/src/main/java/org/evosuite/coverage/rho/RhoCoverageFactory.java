@@ -29,7 +29,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import static java.util.Comparator.comparingInt;
 
@@ -58,6 +62,12 @@ public class RhoCoverageFactory extends
 
     private static final List<List<Integer>> matrix = new ArrayList<>();
 
+
+    private static CoverageMatrix coverageMatrix = null;
+
+
+    private static Set<BitSet> existingCoverage = null;
+
     /**
      * Read the coverage of a test suite from a file
      */
@@ -187,6 +197,36 @@ public class RhoCoverageFactory extends
         return matrix.contains(newTest);
     }
 
+    /**
+     * @param newTest the coverage of a test, as given by {@link #getCoverageMatrix()}
+     * @return whether a test of the existing test suite has the same coverage
+     */
+    public static boolean exists(BitSet newTest) {
+        if (existingCoverage == null) {
+            Set<BitSet> coverage = new HashSet<>();
+            for (List<Integer> test : matrix) {
+                coverage.add(getCoverageMatrix().toBitSet(test));
+            }
+            existingCoverage = coverage;
+        }
+        return existingCoverage.contains(newTest);
+    }
+
+    /**
+     * @return the coverage matrix of the distinct lines of the goals, in the
+     * order of the goals
+     */
+    public static CoverageMatrix getCoverageMatrix() {
+        if (coverageMatrix == null) {
+            Set<Integer> lines = new LinkedHashSet<>();
+            for (LineCoverageTestFitness goal : getGoals()) {
+                lines.add(goal.getLine());
+            }
+            coverageMatrix = new CoverageMatrix(lines);
+        }
+        return coverageMatrix;
+    }
+
     // only for testing
     protected static void reset() {
         goals.clear();
@@ -194,5 +234,7 @@ public class RhoCoverageFactory extends
         number_of_test_cases = 0;
         rho = 1.0;
         matrix.clear();
+        coverageMatrix = null;
+        existingCoverage = null;
     }
 }
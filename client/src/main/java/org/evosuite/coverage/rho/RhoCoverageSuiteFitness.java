@@ -36,7 +36,7 @@ public class RhoCoverageSuiteFitness extends TestSuiteFitnessFunction {
     private int previous_number_of_ones = 0;
     private int previous_number_of_test_cases = 0;
 
-    private final Set<Set<Integer>> coverage_matrix_generated_so_far = new LinkedHashSet<>();
+    private final Set<BitSet> coverage_matrix_generated_so_far = new LinkedHashSet<>();
 
     @Override
     public double getFitness(TestSuiteChromosome suite) {
@@ -45,7 +45,7 @@ public class RhoCoverageSuiteFitness extends TestSuiteFitnessFunction {
 
     protected double getFitness(TestSuiteChromosome suite, boolean updateFitness) {
 
-        Set<Set<Integer>> tmp_coverage_matrix = new LinkedHashSet<>(this.coverage_matrix_generated_so_far);
+        Set<BitSet> tmp_coverage_matrix = new HashSet<>(this.coverage_matrix_generated_so_far);
 
         double fitness = 1.0;
 
@@ -53,28 +53,25 @@ public class RhoCoverageSuiteFitness extends TestSuiteFitnessFunction {
         int number_of_ones = RhoCoverageFactory.getNumber_of_Ones() + this.previous_number_of_ones;
         int number_of_test_cases = RhoCoverageFactory.getNumber_of_Test_Cases() + this.previous_number_of_test_cases;
 
+        CoverageMatrix matrix = RhoCoverageFactory.getCoverageMatrix();
+
         List<ExecutionResult> results = runTestSuite(suite);
         for (ExecutionResult result : results) {
 
             // Execute test cases and collect the covered lines
-            Set<Integer> coveredLines = result.getTrace().getCoveredLines();
+            BitSet coveredLines = matrix.getCoverage(result);
 
             if (Properties.STRATEGY == Properties.Strategy.ENTBUG) {
-                // order set
-                List<Integer> l_coveredLines = new ArrayList<>(coveredLines);
-                Collections.sort(l_coveredLines);
-                Set<Integer> coveredLinesOrdered = new LinkedHashSet<>(l_coveredLines);
-
                 // there is coverage, and already exists on the original test
                 // suite, and already exists locally
-                if ((coveredLinesOrdered.size() != 0
-                        && tmp_coverage_matrix.add(coveredLinesOrdered))
-                        && !RhoCoverageFactory.exists(l_coveredLines)) {
-                    number_of_ones += coveredLinesOrdered.size();
+                if ((!coveredLines.isEmpty()
+                        && tmp_coverage_matrix.add(coveredLines))
+                        && !RhoCoverageFactory.exists(coveredLines)) {
+                    number_of_ones += coveredLines.cardinality();
                     number_of_test_cases++;
                 }
             } else {
-                number_of_ones += coveredLines.size();
+                number_of_ones += coveredLines.cardinality();
                 number_of_test_cases++;
             }
         }
@@ -110,6 +107,7 @@ public class RhoCoverageSuiteFitness extends TestSuiteFitnessFunction {
     }
 
     public void addTestCoverage(Set<Integer> test_coverage) {
-        this.coverage_matrix_generated_so_far.add(test_coverage);
+        this.coverage_matrix_generated_so_far.add(
+                RhoCoverageFactory.getCoverageMatrix().toBitSet(test_coverage));
     }
 }
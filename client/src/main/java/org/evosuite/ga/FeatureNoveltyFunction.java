@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import org.evosuite.utils.VantagePointTree;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Novelty function where each individual is described by a feature vector,
+ * and the distance between two individuals is the distance between their
+ * vectors. The nearest neighbours are then found with an index over the
+ * vectors, instead of computing all the distances.
+ */
+public abstract class FeatureNoveltyFunction<T extends Chromosome<T>> extends NoveltyFunction<T> {
+
+    /**
+     * @return the feature vector of the individual. All the vectors of this
+     * function have the same length.
+     */
+    public abstract double[] getFeatures(T individual);
+
+    /**
+     * Distance between two feature vectors. It must satisfy the triangle
+     * inequality, as it is used to index the vectors.
+     */
+    public abstract double getFeatureDistance(double[] features1, double[] features2);
+
+    @Override
+    public double getDistance(T individual1, T individual2) {
+        return getFeatureDistance(getFeatures(individual1), getFeatures(individual2));
+    }
+
+    @Override
+    public Map<T, Double> getNovelty(List<T> individuals, List<T> archive, int k) {
+        List<T> all = getNeighbourCandidates(individuals, archive);
+        List<double[]> features = new ArrayList<>(all.size());
+        for (T individual : all) {
+            features.add(getFeatures(individual));
+        }
+
+        VantagePointTree tree = new VantagePointTree(features, this::getFeatureDistance);
+        Map<T, Double> novelty = new IdentityHashMap<>();
+        for (int i = 0; i < individuals.size(); i++) {
+            novelty.put(individuals.get(i), getMean(tree.getNearestDistances(i, k)));
+        }
+        return novelty;
+    }
+}
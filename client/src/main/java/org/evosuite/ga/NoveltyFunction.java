@@ -19,7 +19,14 @@
  */
 package org.evosuite.ga;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public abstract class NoveltyFunction<T extends Chromosome<T>> {
 
@@ -35,4 +42,59 @@ public abstract class NoveltyFunction<T extends Chromosome<T>> {
 
         return distance;
     }
+
+    /**
+     * Compute the novelty of each individual, as its mean distance to its k
+     * nearest neighbours among the other individuals and the archive.
+     *
+     * @param individuals the individuals to evaluate
+     * @param archive     other individuals, that are only neighbours. The ones
+     *                    that are also in the individuals are skipped.
+     * @param k           the number of neighbours
+     * @return the novelty of each individual, by identity
+     */
+    public Map<T, Double> getNovelty(List<T> individuals, List<T> archive, int k) {
+        List<T> all = getNeighbourCandidates(individuals, archive);
+        Map<T, Double> novelty = new IdentityHashMap<>();
+        for (int i = 0; i < individuals.size(); i++) {
+            double[] distances = new double[all.size() - 1];
+            int d_i = 0;
+            for (int j = 0; j < all.size(); j++) {
+                if (j != i) {
+                    distances[d_i++] = getDistance(individuals.get(i), all.get(j));
+                }
+            }
+            Arrays.sort(distances);
+            novelty.put(individuals.get(i), getMean(Arrays.copyOf(distances, Math.min(k, distances.length))));
+        }
+        return novelty;
+    }
+
+    /**
+     * @return the individuals, followed by the archived individuals that are
+     * not among them
+     */
+    protected List<T> getNeighbourCandidates(List<T> individuals, List<T> archive) {
+        List<T> all = new ArrayList<>(individuals);
+        Set<T> evaluated = Collections.newSetFromMap(new IdentityHashMap<>());
+        evaluated.addAll(individuals);
+        for (T archived : archive) {
+            // an archived individual that is still in the population is not its own neighbour
+            if (!evaluated.contains(archived)) {
+                all.add(archived);
+            }
+        }
+        return all;
+    }
+
+    protected static double getMean(double[] distances) {
+        if (distances.length == 0) {
+            return 0.0;
+        }
+        double sum = 0.0;
+        for (double distance : distances) {
+            sum += distance;
+        }
+        return sum / distances.length;
+    }
 }
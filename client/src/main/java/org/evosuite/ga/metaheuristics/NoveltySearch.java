@@ -40,6 +40,12 @@ public class NoveltySearch extends GeneticAlgorithm<TestChromosome> {
 
     private NoveltyFunction<TestChromosome> noveltyFunction;
 
+    /**
+     * The most novel individuals of the previous generations, from the oldest
+     * to the most recent one
+     */
+    private final LinkedList<TestChromosome> noveltyArchive = new LinkedList<>();
+
     public NoveltySearch(ChromosomeFactory<TestChromosome> factory) {
         super(factory);
 
@@ -65,23 +71,36 @@ public class NoveltySearch extends GeneticAlgorithm<TestChromosome> {
     protected void calculateNoveltyAndSortPopulation() {
         logger.debug("Calculating novelty for " + population.size() + " individuals");
 
-        Iterator<TestChromosome> iterator = population.iterator();
-        Map<TestChromosome, Double> noveltyMap = new LinkedHashMap<>();
-
-        while (iterator.hasNext()) {
-            TestChromosome c = iterator.next();
-            if (isFinished()) {
-                if (c.isChanged())
-                    iterator.remove();
-            } else {
-                // TODO: This needs to take the archive into account
-                double novelty = noveltyFunction.getNovelty(c, population);
-                noveltyMap.put(c, novelty);
-            }
+        if (isFinished()) {
+            population.removeIf(TestChromosome::isChanged);
         }
+        Map<TestChromosome, Double> noveltyMap = noveltyFunction.getNovelty(population,
+                noveltyArchive, Properties.NOVELTY_NEIGHBOURS);
 
         // Sort population
         sortPopulation(population, noveltyMap);
+        updateNoveltyArchive(noveltyMap);
+    }
+
+    /**
+     * Archive the most novel individual of the current population
+     */
+    protected void updateNoveltyArchive(Map<TestChromosome, Double> noveltyMap) {
+        if (Properties.NOVELTY_ARCHIVE_SIZE == 0 || population.isEmpty()
+                || noveltyMap.get(population.get(0)) <= 0.0) {
+            return;
+        }
+        noveltyArchive.add(population.get(0));
+        while (noveltyArchive.size() > Properties.NOVELTY_ARCHIVE_SIZE) {
+            noveltyArchive.removeFirst();
+        }
+    }
+
+    /**
+     * @return the archived individuals, from the oldest to the most recent one
+     */
+    protected List<TestChromosome> getNoveltyArchive() {
+        return Collections.unmodifiableList(noveltyArchive);
     }
 
     @Override
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ * <p>
+ * This file is part of EvoSuite.
+ * <p>
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ * <p>
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mapelites;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.evosuite.assertion.Inspector;
+
+import java.io.Serializable;
+
+/**
+ * The grid of MAP-Elites: each inspector of the target class is a feature
+ * with a few discrete values, and a cell is a combination of these values.
+ *
+ * <p>
+ * A cell is identified by a long, its index in the grid read as a mixed radix
+ * number with one digit per feature, so that extracting the features of an
+ * object does not allocate anything besides the values returned by the
+ * inspectors.
+ *
+ * @author Felix Prasse
+ */
+public final class FeatureGrid implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Inspector[] inspectors;
+
+    /**
+     * Number of values of each feature
+     */
+    private final int[] radices;
+
+    /**
+     * What to add to the group of a value to get its digit
+     */
+    private final int[] offsets;
+
+    private final boolean[] nullable;
+
+    private final long cellCount;
+
+    /**
+     * @param inspectors the inspectors, in a consistent order
+     * @throws ArithmeticException if the number of cells does not fit in a long
+     */
+    public FeatureGrid(final Inspector[] inspectors) {
+        this.inspectors = inspectors;
+        this.radices = new int[inspectors.length];
+        this.offsets = new int[inspectors.length];
+        this.nullable = new boolean[inspectors.length];
+
+        long count = 1;
+        for (int i = 0; i < inspectors.length; ++i) {
+            final Class<?> type = inspectors[i].getReturnType();
+            final Class<?> wrappedType = ClassUtils.primitiveToWrapper(type);
+
+            int radix;
+            if (Number.class.isAssignableFrom(wrappedType)) {
+                radix = 3;
+                this.offsets[i] = 1; // the group of numbers is their sign
+            } else if (wrappedType.isEnum()) {
+                radix = Math.max(1, wrappedType.getEnumConstants().length);
+            } else if (Character.class.isAssignableFrom(wrappedType)
+                    || Boolean.class.isAssignableFrom(wrappedType)
+                    || String.class.isAssignableFrom(wrappedType)) {
+                radix = 2;
+            } else {
+                throw new IllegalArgumentException("Unsupported type: " + type.getName());
+            }
+
+            if (!type.isPrimitive()) {
+                this.nullable[i] = true;
+                this.offsets[i] += 1;
+                radix += 1;
+            }
+
+            this.radices[i] = radix;
+            count = Math.multiplyExact(count, radix);
+        }
+        this.cellCount = count;
+    }
+
+    public int getFeatureCount() {
+        return this.inspectors.length;
+    }
+
+    public long getCellCount() {
+        return this.cellCount;
+    }
+
+    /**
+     * @return the cell of the given instance of the target class
+     */
+    public long getCell(final Object instance) {
+        long cell = 0;
+
+        for (int i = 0; i < this.inspectors.length; ++i) {
+            Object value;
+            try {
+                value = this.inspectors[i].getValue(instance);
+            } catch (Exception e) {
+                value = null;
+            }
+
+            final int digit;
+            if (value == null && this.nullable[i]) {
+                digit = 0;
+            } else {
+                digit = getGroup(value) + this.offsets[i];
+            }
+            cell = cell * this.radices[i] + digit;
+        }
+
+        return cell;
+    }
+
+    /**
+     * @return the group of the given value within the values of its type
+     */
+    static int getGroup(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        if (value instanceof Integer) {
+            return Integer.signum((Integer) value);
+        } else if (value instanceof Short) {
+            return Integer.signum((Short) value);
+        } else if (value instanceof Byte) {
+            return Integer.signum((Byte) value);
+        } else if (value instanceof Long) {
+            return Long.signum((Long) value);
+        } else if (value instanceof Float) {
+            return Integer.signum(((Float) value).compareTo(0f));
+        } else if (value instanceof Double) {
+            return Integer.signum(((Double) value).compareTo(0d));
+        } else if (value instanceof String) {
+            return ((String) value).isEmpty() ? 0 : 1;
+        } else if (value instanceof Character) {
+            return Character.isLetterOrDigit((Character) value) ? 1 : 0;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).ordinal();
+        } else {
+            throw new RuntimeException("Unsupported type: " + value.getClass().getName());
+        }
+    }
+}
@@ -20,7 +20,6 @@
 package org.evosuite.ga.metaheuristics.mapelites;
 
 import org.evosuite.Properties;
-import org.evosuite.assertion.Inspector;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.ConstructionFailedException;
 import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
@@ -35,6 +34,7 @@ import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.testcase.statements.*;
 import org.evosuite.testcase.variable.VariableReference;
 import org.evosuite.utils.IterUtil;
+import org.evosuite.utils.LongObjectMap;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,23 +63,29 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
 
     private static final Logger logger = LoggerFactory.getLogger(MAPElites.class);
 
-    private final Map<FitnessFunctionWrapper, Map<FeatureVector, TestChromosome>> populationMap;
-    private final Set<FeatureVector> droppedFeatureVectors;
+    /**
+     * The elites of each goal, by cell of the feature grid
+     */
+    private final Map<FitnessFunctionWrapper, LongObjectMap<TestChromosome>> populationMap;
+
+    /**
+     * The cells found so far for any goal, including the ones of covered goals
+     */
+    private final LongObjectMap<Boolean> foundCells;
 
-    private final int featureVectorPossibilityCount;
+    private final long featureVectorPossibilityCount;
     private final int featureCount;
 
     private final List<TestChromosome> bestIndividuals;
 
-    private static final List<FeatureVector> IGNORE_VECTORS =
-            Arrays.asList(new FeatureVector(new Inspector[0], null));
+    private static final long[] IGNORE_CELLS = {0L};
 
     private final CrossOverFunction<TestChromosome> crossoverFunction = new SinglePointCrossOver<>();
 
     public MAPElites(ChromosomeFactory<TestChromosome> factory) {
         super(factory);
         this.bestIndividuals = new LinkedList<>();
-        this.droppedFeatureVectors = new LinkedHashSet<>();
+        this.foundCells = new LongObjectMap<>();
         TestResultObserver observer = new TestResultObserver();
         this.featureVectorPossibilityCount = observer.getPossibilityCount();
         this.featureCount = observer.getFeatureVectorLength();
@@ -90,7 +96,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
 
     public void addTestFitnessFunctions(List<TestFitnessFunction> functions) {
         for (TestFitnessFunction function : functions) {
-            this.populationMap.put(new FitnessFunctionWrapper(function), new LinkedHashMap<>());
+            this.populationMap.put(new FitnessFunctionWrapper(function), new LongObjectMap<>());
             this.addFitnessFunction(function);
         }
     }
@@ -111,7 +117,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
             if (Randomness.nextDouble() <= chance) {
                 branch.getCounter().increment();
 
-                TestChromosome chromosome = Randomness.choice(this.populationMap.get(branch).values());
+                TestChromosome chromosome = getRandomElite(this.populationMap.get(branch));
 
                 if (chromosome != null) {
                     toMutate.add(chromosome);
@@ -131,8 +137,8 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     private Set<TestChromosome> getToMutateAll() {
         Set<TestChromosome> toMutate = new LinkedHashSet<>(populationMap.values().size());
 
-        for (Map<FeatureVector, TestChromosome> entry : populationMap.values()) {
-            TestChromosome chromosome = Randomness.choice(entry.values());
+        for (LongObjectMap<TestChromosome> entry : populationMap.values()) {
+            TestChromosome chromosome = getRandomElite(entry);
 
             if (chromosome != null) {
                 toMutate.add(chromosome);
@@ -142,6 +148,14 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
         return toMutate;
     }
 
+    private static TestChromosome getRandomElite(LongObjectMap<TestChromosome> elites) {
+        if (elites.isEmpty()) {
+            return null;
+        }
+
+        return elites.getValue(Randomness.nextInt(elites.size()));
+    }
+
     private List<FitnessFunctionWrapper> getMinimalBranches() {
         return IterUtil.minList(this.populationMap.keySet(),
                 comparing(FitnessFunctionWrapper::getCounter));
@@ -164,9 +178,9 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
         }
 
         selectedBranch.getCounter().increment();
-        Map<FeatureVector, TestChromosome> entry = this.populationMap.get(selectedBranch);
+        LongObjectMap<TestChromosome> entry = this.populationMap.get(selectedBranch);
 
-        TestChromosome chromosome = Randomness.choice(entry.values());
+        TestChromosome chromosome = getRandomElite(entry);
 
         if (chromosome != null) {
             toMutate.add(chromosome);
@@ -337,13 +351,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     }
 
     private int getFoundVectorCount() {
-        Set<FeatureVector> vectors = new LinkedHashSet<>();
-
-        this.populationMap.values().forEach(entry -> vectors.addAll(entry.keySet()));
-
-        vectors.addAll(this.droppedFeatureVectors);
-
-        return vectors.size();
+        return this.foundCells.size();
     }
 
     private void sendFeatureData() {
@@ -364,7 +372,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     }
 
     private double getDensity(int foundVectorCount) {
-        int n = this.featureVectorPossibilityCount;
+        long n = this.featureVectorPossibilityCount;
         int z = this.getFoundVectorCount();
 
         double density = z / (double) n;
@@ -372,29 +380,30 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     }
 
     private void analyzeChromosome(final TestChromosome chromosome) {
-        final Iterator<Entry<FitnessFunctionWrapper, Map<FeatureVector, TestChromosome>>> it =
+        final Iterator<Entry<FitnessFunctionWrapper, LongObjectMap<TestChromosome>>> it =
                 this.populationMap.entrySet().iterator();
 
+        final long[] features;
+
+        if (Properties.MAP_ELITES_IGNORE_FEATURES) {
+            features = IGNORE_CELLS;
+        } else {
+            features = chromosome.getLastExecutionResult().getFeatureCells();
+        }
+
         while (it.hasNext()) {
-            final Entry<FitnessFunctionWrapper, Map<FeatureVector, TestChromosome>> entry = it.next();
+            final Entry<FitnessFunctionWrapper, LongObjectMap<TestChromosome>> entry = it.next();
             final FitnessFunctionWrapper branchFitness = entry.getKey();
-            final Map<FeatureVector, TestChromosome> featureMap = entry.getValue();
+            final LongObjectMap<TestChromosome> featureMap = entry.getValue();
 
             final double fitness = branchFitness.getFitness(chromosome);
 
-            final List<FeatureVector> features;
-
-            if (Properties.MAP_ELITES_IGNORE_FEATURES) {
-                features = IGNORE_VECTORS;
-            } else {
-                features = chromosome.getLastExecutionResult().getFeatureVectors();
-            }
-
-            for (FeatureVector feature : features) {
+            for (long feature : features) {
                 TestChromosome old = featureMap.get(feature);
 
                 if (old == null || branchFitness.getFitness(old) >= fitness) {
                     featureMap.put(feature, chromosome);
+                    this.foundCells.put(feature, Boolean.TRUE);
                     branchFitness.getCounter().reset();
                 }
             }
@@ -403,7 +412,6 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
                 // Remove from map. Covering chromosomes are stored in Archive.getArchiveInstance() and this.coveringChromosomes.
                 it.remove();
 
-                this.droppedFeatureVectors.addAll(featureMap.keySet());
                 this.bestIndividuals.add(chromosome);
             }
         }
@@ -442,8 +450,10 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     }
 
     private void updateAndSortBest() {
-        for (Map<FeatureVector, TestChromosome> branch : this.populationMap.values()) {
-            this.bestIndividuals.addAll(branch.values());
+        for (LongObjectMap<TestChromosome> branch : this.populationMap.values()) {
+            for (int i = 0; i < branch.size(); i++) {
+                this.bestIndividuals.add(branch.getValue(i));
+            }
         }
 
         if (isMaximizationFunction()) {
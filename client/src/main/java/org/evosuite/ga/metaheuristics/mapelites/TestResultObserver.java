@@ -37,26 +37,28 @@ public class TestResultObserver extends ExecutionObserver implements Serializabl
 
     private static final long serialVersionUID = 1L;
 
-    private final Inspector[] inspectors;
+    private final FeatureGrid grid;
 
     private final Class<?> targetClass;
 
     public TestResultObserver() {
         this.targetClass = Properties.getInitializedTargetClass();
 
-        this.inspectors =
+        Inspector[] inspectors =
                 InspectorManager.getInstance().getInspectors(this.targetClass).toArray(new Inspector[0]);
 
         // Sort by method name to ensure a consistent feature vector order.
-        Arrays.sort(this.inspectors, (a, b) -> a.getMethodCall().compareTo(b.getMethodCall()));
+        Arrays.sort(inspectors, (a, b) -> a.getMethodCall().compareTo(b.getMethodCall()));
+
+        this.grid = new FeatureGrid(inspectors);
     }
 
-    public int getPossibilityCount() {
-        return FeatureVector.getPossibilityCount(this.inspectors);
+    public long getPossibilityCount() {
+        return this.grid.getCellCount();
     }
 
     public int getFeatureVectorLength() {
-        return this.inspectors.length;
+        return this.grid.getFeatureCount();
     }
 
     @Override
@@ -78,8 +80,7 @@ public class TestResultObserver extends ExecutionObserver implements Serializabl
     @Override
     public void testExecutionFinished(ExecutionResult result, Scope scope) {
         for (Object instance : scope.getObjects(this.targetClass)) {
-            FeatureVector vector = new FeatureVector(this.inspectors, instance);
-            result.addFeatureVector(vector);
+            result.addFeatureCell(this.grid.getCell(instance));
         }
     }
 
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fitness values of a list of solutions for a set of goals, read once
+ * from the fitness maps of the solutions.
+ *
+ * <p>
+ * Ranking compares each pair of solutions on every goal, which otherwise
+ * means two map lookups per goal and per comparison. The values of a solution
+ * are contiguous, so that a dominance test between two solutions is a scan of
+ * two slices of one array.
+ *
+ * <p>
+ * The matrix is filled sequentially: a value that is not cached in a solution
+ * is computed by the fitness function, which might execute the test and
+ * update the fitness maps.
+ */
+public class FitnessMatrix<T extends Chromosome<T>> {
+
+    private final List<T> solutions;
+
+    private final Map<T, Integer> indexes;
+
+    private final int numberOfGoals;
+
+    /**
+     * The fitness of solution s for goal g is at s * numberOfGoals + g
+     */
+    private final double[] values;
+
+    /**
+     * @param solutions the solutions, which are then identified by their
+     *                  position in the list
+     * @param goals     the goals, which are then identified by their position
+     *                  in iteration order
+     */
+    public FitnessMatrix(List<T> solutions, Collection<? extends FitnessFunction<T>> goals) {
+        this.solutions = solutions;
+        this.indexes = new IdentityHashMap<>(solutions.size());
+        this.numberOfGoals = goals.size();
+        this.values = new double[solutions.size() * numberOfGoals];
+        for (int s = 0; s < solutions.size(); s++) {
+            T solution = solutions.get(s);
+            indexes.put(solution, s);
+            int g = 0;
+            for (FitnessFunction<T> goal : goals) {
+                values[s * numberOfGoals + g++] = solution.getFitness(goal);
+            }
+        }
+    }
+
+    public int getNumberOfSolutions() {
+        return solutions.size();
+    }
+
+    public int getNumberOfGoals() {
+        return numberOfGoals;
+    }
+
+    public T getSolution(int solution) {
+        return solutions.get(solution);
+    }
+
+    /**
+     * @return the position of the given solution, or -1 if it is not in the
+     * matrix
+     */
+    public int indexOf(T solution) {
+        Integer index = indexes.get(solution);
+        return index == null ? -1 : index;
+    }
+
+    public double getFitness(int goal, int solution) {
+        return values[solution * numberOfGoals + goal];
+    }
+
+    /**
+     * Compares two solutions in terms of dominance on all the goals, as
+     * {@link org.evosuite.ga.comparators.DominanceComparator}
+     *
+     * @return -1 if s1 dominates s2, +1 if s2 dominates s1, 0 if both are
+     * non-dominated
+     */
+    public int compareDominance(int s1, int s2) {
+        boolean dominate1 = false;
+        boolean dominate2 = false;
+
+        int offset1 = s1 * numberOfGoals;
+        int offset2 = s2 * numberOfGoals;
+        for (int g = 0; g < numberOfGoals; g++) {
+            int flag = Double.compare(values[offset1 + g], values[offset2 + g]);
+            if (flag < 0) {
+                if (dominate2) {
+                    return 0;
+                }
+                dominate1 = true;
+            } else if (flag > 0) {
+                if (dominate1) {
+                    return 0;
+                }
+                dominate2 = true;
+            }
+        }
+
+        if (dominate1 == dominate2) {
+            return 0;
+        } else if (dominate1) {
+            return -1;
+        } else {
+            return 1;
+        }
+    }
+
+    /**
+     * Compares two solutions on one goal, as
+     * {@link org.evosuite.ga.comparators.PreferenceSortingComparator}
+     *
+     * @return -1 if s1 is better for the goal, +1 if s2 is, or else the
+     * comparison of their secondary objectives
+     */
+    public int comparePreference(int goal, int s1, int s2) {
+        double value1 = getFitness(goal, s1);
+        double value2 = getFitness(goal, s2);
+        if (value1 < value2) {
+            return -1;
+        } else if (value1 > value2) {
+            return +1;
+        } else {
+            return solutions.get(s1).compareSecondaryObjective(solutions.get(s2));
+        }
+    }
+}
@@ -38,8 +38,6 @@ package org.evosuite.ga.operators.ranking;
 import org.evosuite.Properties;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.FitnessFunction;
-import org.evosuite.ga.comparators.DominanceComparator;
-import org.evosuite.ga.comparators.PreferenceSortingComparator;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,21 +77,23 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
 
         this.fronts = new ArrayList<>(solutions.size());
 
+        // all the comparisons below are on the same fitness values
+        FitnessMatrix<T> matrix = new FitnessMatrix<>(solutions, uncovered_goals);
+
         // first apply the "preference sorting" to the first front only
         // then compute the ranks according to the non-dominate sorting algorithm
-        List<T> zero_front = this.getZeroFront(solutions, uncovered_goals);
+        List<T> zero_front = this.getZeroFront(matrix);
         this.fronts.add(zero_front);
         int frontIndex = 1;
 
         if (zero_front.size() < Properties.POPULATION) {
             int rankedSolutions = zero_front.size();
-            DominanceComparator<T> comparator = new DominanceComparator<>(uncovered_goals);
 
             List<T> remaining = new ArrayList<>(solutions.size());
             remaining.addAll(solutions);
             remaining.removeAll(zero_front);
             while (rankedSolutions < Properties.POPULATION && remaining.size() > 0) {
-                List<T> new_front = this.getNonDominatedSolutions(remaining, comparator, frontIndex);
+                List<T> new_front = this.getNonDominatedSolutions(remaining, matrix, frontIndex);
                 this.fronts.add(new_front);
                 remaining.removeAll(new_front);
                 rankedSolutions += new_front.size();
@@ -115,38 +115,37 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
     /**
      * Returns the first (i.e. non-dominated) sub-front.
      *
-     * @param solutionSet     the solutions to rank
-     * @param uncovered_goals the goals used for ranking
+     * @param matrix the fitness values of the solutions to rank for the goals
+     *               used for ranking
      * @return the non-dominated solutions (first sub-front)
      */
-    private List<T> getZeroFront(List<T> solutionSet, Set<? extends FitnessFunction<T>> uncovered_goals) {
-        Set<T> zero_front = new LinkedHashSet<>(solutionSet.size());
-        for (FitnessFunction<T> f : uncovered_goals) {
-            // for each uncovered goal, peak up the best tests using the proper comparator
-            PreferenceSortingComparator<T> comp = new PreferenceSortingComparator<>(f);
-
-            T best = null;
-            for (T test : solutionSet) {
-                int flag = comp.compare(test, best);
+    private List<T> getZeroFront(FitnessMatrix<T> matrix) {
+        Set<T> zero_front = new LinkedHashSet<>(matrix.getNumberOfSolutions());
+        for (int goal = 0; goal < matrix.getNumberOfGoals(); goal++) {
+            // for each uncovered goal, peak up the best tests as the PreferenceSortingComparator
+            int best = -1;
+            for (int test = 0; test < matrix.getNumberOfSolutions(); test++) {
+                int flag = best < 0 ? -1 : matrix.comparePreference(goal, test, best);
                 if (flag < 0 || (flag == 0 && Randomness.nextBoolean())) {
                     best = test;
                 }
             }
-            assert best != null;
+            assert best >= 0;
 
-            best.setRank(0);
-            zero_front.add(best);
+            matrix.getSolution(best).setRank(0);
+            zero_front.add(matrix.getSolution(best));
         }
         return new ArrayList<>(zero_front);
     }
 
-    private List<T> getNonDominatedSolutions(List<T> solutions, DominanceComparator<T> comparator, int frontIndex) {
+    private List<T> getNonDominatedSolutions(List<T> solutions, FitnessMatrix<T> matrix, int frontIndex) {
         List<T> front = new ArrayList<>(solutions.size());
         for (T p : solutions) {
             boolean isDominated = false;
             List<T> dominatedSolutions = new ArrayList<>(solutions.size());
+            int pIndex = matrix.indexOf(p);
             for (T best : front) {
-                int flag = comparator.compare(p, best);
+                int flag = matrix.compareDominance(pIndex, matrix.indexOf(best));
                 if (flag < 0) {
                     dominatedSolutions.add(best);
                 }
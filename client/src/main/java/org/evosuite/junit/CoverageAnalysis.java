@@ -202,14 +202,17 @@ public class CoverageAnalysis {
         ExecutionResult executionResult = new ExecutionResult(dummy.getTestCase());
 
         Set<TestFitnessFunction> coveredGoals = new HashSet<>();
+        CoverageGoalIndex index = new CoverageGoalIndex(allGoals);
 
         List<JUnitResult> results = executeTests(testClass);
         for (JUnitResult testResult : results) {
             executionResult.setTrace(testResult.getExecutionTrace());
             dummy.setLastExecutionResult(executionResult);
 
-            for (TestFitnessFunction goal : allGoals) {
-                if (goal.isCovered(dummy)) {
+            BitSet candidates = index.getCandidateGoals(testResult.getExecutionTrace());
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                TestFitnessFunction goal = allGoals.get(i);
+                if (!coveredGoals.contains(goal) && goal.isCovered(dummy)) {
                     coveredGoals.add(goal);
                 }
             }
@@ -481,6 +484,15 @@ public class CoverageAnalysis {
         boolean[][] coverage_matrix = new boolean[results.size()][goals.size() + 1]; // +1 because we also want to include the test result
         BitSet covered = new BitSet(goals.size());
 
+        // only the goals related to what a test executed need to be checked against it
+        CoverageGoalIndex index = null;
+        Set<?> mutants = null;
+        if (criterion == Criterion.MUTATION || criterion == Criterion.STRONGMUTATION) {
+            mutants = new HashSet<>(goals);
+        } else {
+            index = new CoverageGoalIndex(goals);
+        }
+
         for (int index_test = 0; index_test < results.size(); index_test++) {
             JUnitResult tR = results.get(index_test);
 
@@ -489,46 +501,32 @@ public class CoverageAnalysis {
             dummy.getTestCase().clearCoveredGoals();
             dummy.setLastExecutionResult(executionResult);
 
-            if (criterion == Criterion.MUTATION
-                    || criterion == Criterion.STRONGMUTATION) {
-                for (Integer mutationID : trace.getTouchedMutants()) {
-                    Mutation mutation = MutationPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getMutant(mutationID);
-
-                    if (goals.contains(mutation)) {
-                        MutationObserver.activateMutation(mutationID);
-                        List<JUnitResult> mutationResults = executeTests(tR.getJUnitClass());
-                        MutationObserver.deactivateMutation();
-
-                        for (JUnitResult mR : mutationResults) {
-                            if (mR.getFailureCount() != tR.getFailureCount()) {
-                                logger.info("Mutation killed: " + mutationID);
-                                covered.set(mutation.getId());
-                                coverage_matrix[index_test][mutationID] = true;
-                                break;
-                            }
-                        }
-                    }
-                }
-            } else {
+            // mutants are analyzed once all the tests are, see analyzeMutants
+            if (criterion != Criterion.MUTATION
+                    && criterion != Criterion.STRONGMUTATION) {
 
                 if (criterion == Criterion.EXCEPTION) {
                     // TODO collect exception goals from execution results
                 }
 
-                for (int index_component = 0; index_component < goals.size(); index_component++) {
+                BitSet candidates = index.getCandidateGoals(trace);
+                for (int index_component = candidates.nextSetBit(0); index_component >= 0;
+                     index_component = candidates.nextSetBit(index_component + 1)) {
                     TestFitnessFunction goal = (TestFitnessFunction) goals.get(index_component);
 
                     if (goal.isCovered(dummy)) {
                         covered.set(index_component);
                         coverage_matrix[index_test][index_component] = true;
-                    } else {
-                        coverage_matrix[index_test][index_component] = false;
                     }
                 }
             }
 
             coverage_matrix[index_test][goals.size()] = tR.wasSuccessful();
         }
+
+        if (criterion == Criterion.MUTATION || criterion == Criterion.STRONGMUTATION) {
+            analyzeMutants(results, mutants, covered, coverage_matrix);
+        }
         totalCoveredGoals += covered.cardinality();
 
         if (Properties.COVERAGE_MATRIX) {
@@ -563,6 +561,53 @@ public class CoverageAnalysis {
         }
     }
 
+    /**
+     * Execute the tests against the mutants they infected, one mutant at a
+     * time, until one of them kills the mutant (or against all of them, if the
+     * coverage matrix is needed). Mutants that were reached but not infected
+     * cannot change the outcome of a test, so they are not executed.
+     */
+    private static void analyzeMutants(List<JUnitResult> results, Set<?> mutants, BitSet covered,
+                                       boolean[][] coverage_matrix) {
+        List<ExecutionTrace> traces = new ArrayList<>(results.size());
+        for (JUnitResult tR : results) {
+            traces.add(tR.getExecutionTrace());
+        }
+        MutantSchedule schedule = new MutantSchedule(traces);
+        MutationPool pool = MutationPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT());
+
+        for (Integer mutationID : schedule.getInfectedMutants()) {
+            Mutation mutation = pool.getMutant(mutationID);
+            if (!mutants.contains(mutation)) {
+                continue;
+            }
+
+            for (Integer index_test : schedule.getTests(mutationID)) {
+                JUnitResult tR = results.get(index_test);
+
+                MutationObserver.activateMutation(mutationID);
+                JUnitResult mR = executeTest(tR);
+                MutationObserver.deactivateMutation();
+
+                if (mR == null) {
+                    // we don't know whether the test kills the mutant
+                    logger.warn("Could not find the result of " + tR.getName() + " against mutant " + mutationID);
+                    continue;
+                }
+                boolean killed = mR.getFailureCount() != tR.getFailureCount();
+                schedule.recordExecution(index_test, killed);
+                if (killed) {
+                    logger.info("Mutation killed: " + mutationID);
+                    covered.set(mutation.getId());
+                    coverage_matrix[index_test][mutationID] = true;
+                    if (!Properties.COVERAGE_MATRIX) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
     private static void printReport(List<JUnitResult> results) {
 
         Iterator<String> it = targetClasses.iterator();
@@ -638,6 +683,48 @@ public class CoverageAnalysis {
         return results;
     }
 
+    /**
+     * Execute again a single test, eg against a mutant. If the test cannot be
+     * run on its own, its whole class is run again
+     *
+     * @return the new result of the test, or {@code null} if it was not found
+     */
+    static JUnitResult executeTest(JUnitResult test) {
+        // JUnit 4 results are named class#method
+        String name = test.getName();
+        if (name.contains("#")) {
+            String methodName = name.substring(name.lastIndexOf('#') + 1);
+            JUnitResult result = findResult(runTests(test.getJUnitClass(), methodName), name);
+            if (result != null) {
+                return result;
+            }
+            // eg, runners that do not filter their tests by method name
+        }
+        return findResult(runTests(test.getJUnitClass(), null), name);
+    }
+
+    private static List<JUnitResult> runTests(Class<?> testClass, String methodName) {
+        ExecutionTracer.enable();
+        ExecutionTracer.setCheckCallerThread(false);
+        ExecutionTracer.getExecutionTracer().clear();
+
+        Thread.currentThread().setContextClassLoader(testClass.getClassLoader());
+        JUnitRunner jR = new JUnitRunner(testClass, methodName);
+        jR.run();
+
+        ExecutionTracer.disable();
+        return jR.getTestResults();
+    }
+
+    private static JUnitResult findResult(List<JUnitResult> results, String name) {
+        for (JUnitResult result : results) {
+            if (result.getName().equals(name)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
     /**
      * Determine if a class contains JUnit tests
      *
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import org.evosuite.coverage.branch.BranchCoverageTestFitness;
+import org.evosuite.coverage.line.LineCoverageTestFitness;
+import org.evosuite.coverage.method.MethodTraceCoverageTestFitness;
+import org.evosuite.testcase.TestFitnessFunction;
+import org.evosuite.testcase.execution.ExecutionTrace;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index from the entries of an execution trace (covered branches,
+ * lines and methods) to the coverage goals that can only be covered if those
+ * entries are in the trace.
+ *
+ * <p>
+ * When measuring the coverage of existing tests, this avoids checking every
+ * goal against every test: only the goals that are indexed by an entry of
+ * the trace, plus the goals of types that are not indexed, need to be checked.
+ */
+class CoverageGoalIndex {
+
+    private final int numberOfGoals;
+
+    private final Map<Integer, List<Integer>> trueBranches = new HashMap<>();
+
+    private final Map<Integer, List<Integer>> falseBranches = new HashMap<>();
+
+    /**
+     * Root branches, ie, goals covered by just calling the method
+     */
+    private final Map<String, List<Integer>> methods = new HashMap<>();
+
+    private final Map<Integer, List<Integer>> lines = new HashMap<>();
+
+    /**
+     * Canonical method names, as used by {@link MethodTraceCoverageTestFitness}
+     */
+    private final Map<String, List<Integer>> methodTraces = new HashMap<>();
+
+    /**
+     * Goals that are not indexed, and so have to be always checked
+     */
+    private final BitSet notIndexed = new BitSet();
+
+    /**
+     * @param goals the goals, which are then identified by their position in the list
+     */
+    public CoverageGoalIndex(List<?> goals) {
+        this.numberOfGoals = goals.size();
+        for (int i = 0; i < goals.size(); i++) {
+            Object goal = goals.get(i);
+
+            // exact class checks, as subclasses might have different coverage conditions
+            if (goal.getClass() == BranchCoverageTestFitness.class) {
+                BranchCoverageTestFitness branchGoal = (BranchCoverageTestFitness) goal;
+                if (branchGoal.getBranch() == null) {
+                    add(methods, branchGoal.getClassName() + "." + branchGoal.getMethod(), i);
+                } else if (branchGoal.getBranchExpressionValue()) {
+                    add(trueBranches, branchGoal.getBranch().getActualBranchId(), i);
+                } else {
+                    add(falseBranches, branchGoal.getBranch().getActualBranchId(), i);
+                }
+            } else if (goal.getClass() == LineCoverageTestFitness.class) {
+                add(lines, ((LineCoverageTestFitness) goal).getLine(), i);
+            } else if (goal.getClass() == MethodTraceCoverageTestFitness.class) {
+                MethodTraceCoverageTestFitness methodGoal = (MethodTraceCoverageTestFitness) goal;
+                add(methodTraces, methodGoal.getClassName() + "." + methodGoal.getMethod(), i);
+            } else {
+                notIndexed.set(i);
+            }
+        }
+    }
+
+    private static <K> void add(Map<K, List<Integer>> index, K key, int goal) {
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(goal);
+    }
+
+    private static <K> void addCandidates(Map<K, List<Integer>> index, Collection<K> keys, BitSet candidates) {
+        if (index.isEmpty()) {
+            return;
+        }
+        for (K key : keys) {
+            List<Integer> goals = index.get(key);
+            if (goals != null) {
+                for (int goal : goals) {
+                    candidates.set(goal);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the positions of the goals that might be covered by a test with the given trace.
+     * All the other goals are certainly not covered.
+     */
+    public BitSet getCandidateGoals(ExecutionTrace trace) {
+        BitSet candidates = (BitSet) notIndexed.clone();
+        addCandidates(trueBranches, trace.getCoveredTrueBranches(), candidates);
+        addCandidates(falseBranches, trace.getCoveredFalseBranches(), candidates);
+        addCandidates(methods, trace.getCoveredMethods(), candidates);
+        addCandidates(lines, trace.getCoveredLines(), candidates);
+        if (!methodTraces.isEmpty()) {
+            List<String> canonicalNames = new ArrayList<>();
+            for (String key : trace.getMethodExecutionCount().keySet()) {
+                canonicalNames.add(key.replace('$', '.'));
+            }
+            addCandidates(methodTraces, canonicalNames, candidates);
+        }
+        return candidates;
+    }
+
+    public int getNumberOfGoals() {
+        return numberOfGoals;
+    }
+}
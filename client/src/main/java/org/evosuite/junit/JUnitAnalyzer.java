@@ -49,6 +49,14 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
@@ -82,6 +90,13 @@ public abstract class JUnitAnalyzer {
      * Try to compile each test separately, and remove the ones that cannot be
      * compiled
      *
+     * <p>
+     * Writing a test executes it, and so it is always done on the current
+     * thread, one test at a time. The compilation of each test does not
+     * depend on the SUT, and so it can be done by other threads (see
+     * {@link Properties#JUNIT_CHECK_COMPILATION_THREADS}) while the next
+     * tests are written.
+     *
      * @param tests
      */
     public static void removeTestsThatDoNotCompile(List<TestCase> tests) {
@@ -92,44 +107,113 @@ public abstract class JUnitAnalyzer {
             return;
         }
 
-        Iterator<TestCase> iter = tests.iterator();
+        ExecutorService compilers = null;
+        // to be removed from the privileged threads once the pool is shut down
+        Set<Thread> compilerThreads = ConcurrentHashMap.newKeySet();
+        if (Properties.JUNIT_CHECK_COMPILATION_THREADS > 1) {
+            compilers = Executors.newFixedThreadPool(Properties.JUNIT_CHECK_COMPILATION_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "EvoSuite JUnit compiler");
+                thread.setDaemon(true);
+                // javac needs to write the compiled classes
+                Sandbox.addPrivilegedThread(thread);
+                compilerThreads.add(thread);
+                return thread;
+            });
+        }
 
-        while (iter.hasNext()) {
-            if (!TimeController.getInstance().hasTimeToExecuteATestCase()) {
-                break;
-            }
+        // tmp folder -> its test, and whether it compiled. In the order of the tests
+        Map<File, Pair<TestCase, Future<Boolean>>> compilations = new LinkedHashMap<>();
+        Set<TestCase> failed = Collections.newSetFromMap(new IdentityHashMap<>());
 
-            TestCase test = iter.next();
+        try {
+            for (TestCase test : tests) {
+                if (!TimeController.getInstance().hasTimeToExecuteATestCase()) {
+                    break;
+                }
 
-            File dir = createNewTmpDir();
-            if (dir == null) {
-                logger.warn("Failed to create tmp dir");
-                return;
-            }
-            logger.debug("Created tmp folder: " + dir.getAbsolutePath());
+                File dir = createNewTmpDir();
+                if (dir == null) {
+                    logger.warn("Failed to create tmp dir");
+                    break;
+                }
+                logger.debug("Created tmp folder: " + dir.getAbsolutePath());
 
-            try {
                 List<TestCase> singleList = new ArrayList<>();
                 singleList.add(test);
-                List<File> generated = compileTests(singleList, dir);
-                if (generated == null) {
-                    iter.remove();
-                    String code = test.toCode();
-                    logger.error("Failed to compile test case:\n" + code);
-                }
-            } finally {
-                //let's be sure we clean up all what we wrote on disk
-                if (dir != null) {
+                Future<Boolean> compiled;
+                if (compilers == null) {
                     try {
-                        FileUtils.deleteDirectory(dir);
-                        logger.debug("Deleted tmp folder: " + dir.getAbsolutePath());
-                    } catch (Exception e) {
-                        logger.error("Cannot delete tmp dir: " + dir.getAbsolutePath(), e);
+                        List<File> generated = writeTests(singleList, dir);
+                        compiled = CompletableFuture.completedFuture(generated != null && compileTests(generated));
+                    } finally {
+                        // compiled already, so it does not need to stay on disk
+                        deleteTmpDir(dir);
                     }
+                } else {
+                    List<File> generated = writeTests(singleList, dir);
+                    compiled = generated == null ? CompletableFuture.completedFuture(false)
+                            : compilers.submit(() -> compileTests(generated));
                 }
+                compilations.put(dir, Pair.of(test, compiled));
+            }
+
+            for (Pair<TestCase, Future<Boolean>> compilation : compilations.values()) {
+                boolean compiled;
+                try {
+                    long left = Math.max(0, TimeController.getInstance().getLeftTimeInThisPhase());
+                    compiled = compilation.getRight().get(left, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    // do not remove tests we could not check
+                    break;
+                } catch (TimeoutException e) {
+                    logger.warn("Ran out of time while checking that the tests compile");
+                    break;
+                } catch (ExecutionException e) {
+                    logger.error("" + e.getCause(), e.getCause());
+                    compiled = false;
+                }
+                if (!compiled) {
+                    failed.add(compilation.getLeft());
+                }
+            }
+        } finally {
+            if (compilers != null) {
+                compilers.shutdownNow();
+                try {
+                    // do not delete the tmp folders while javac is still using them
+                    compilers.awaitTermination(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (Thread thread : compilerThreads) {
+                    Sandbox.removePrivilegedThread(thread);
+                }
+                //let's be sure we clean up all what we wrote on disk
+                for (File dir : compilations.keySet()) {
+                    deleteTmpDir(dir);
+                }
+            }
+        }
+
+        Iterator<TestCase> iter = tests.iterator();
+        while (iter.hasNext()) {
+            TestCase test = iter.next();
+            if (failed.contains(test)) {
+                iter.remove();
+                String code = test.toCode();
+                logger.error("Failed to compile test case:\n" + code);
             }
+        }
+    }
 
-        } // end of while
+    private static void deleteTmpDir(File dir) {
+        try {
+            FileUtils.deleteDirectory(dir);
+            logger.debug("Deleted tmp folder: " + dir.getAbsolutePath());
+        } catch (Exception e) {
+            logger.error("Cannot delete tmp dir: " + dir.getAbsolutePath(), e);
+        }
     }
 
     /**
@@ -306,6 +390,19 @@ public abstract class JUnitAnalyzer {
     private static int NUM = 0;
 
     private static List<File> compileTests(List<TestCase> tests, File dir) {
+        List<File> generated = writeTests(tests, dir);
+        if (generated == null || !compileTests(generated)) {
+            return null;
+        }
+        return generated;
+    }
+
+    /**
+     * Write the JUnit files of the given tests. This executes the tests.
+     *
+     * @return the generated files, or {@code null} if writing failed
+     */
+    private static List<File> writeTests(List<TestCase> tests, File dir) {
 
         TestSuiteWriter suite = new TestSuiteWriter();
         suite.insertAllTests(tests);
@@ -315,22 +412,31 @@ public abstract class JUnitAnalyzer {
         String name = Properties.TARGET_CLASS.substring(beginIndex);
         name += "_" + (NUM++) + "_tmp_" + Properties.JUNIT_SUFFIX; //postfix
 
-        try {
-            //now generate the JUnit test case
-            List<File> generated = suite.writeTestSuite(name, dir.getAbsolutePath(), Collections.EMPTY_LIST);
-            for (File file : generated) {
-                if (!file.exists()) {
-                    logger.error("Supposed to generate " + file
-                            + " but it does not exist");
-                    return null;
-                }
+        //now generate the JUnit test case
+        List<File> generated = suite.writeTestSuite(name, dir.getAbsolutePath(), Collections.EMPTY_LIST);
+        for (File file : generated) {
+            if (!file.exists()) {
+                logger.error("Supposed to generate " + file
+                        + " but it does not exist");
+                return null;
             }
+        }
+        return generated;
+    }
 
+    /**
+     * Compile the given JUnit files. This does not depend on the state of the
+     * SUT, and so can be done concurrently on different files.
+     *
+     * @return whether the files were compiled
+     */
+    private static boolean compileTests(List<File> generated) {
+        try {
             //try to compile the test cases
             JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
             if (compiler == null) {
                 logger.error("No Java compiler is available");
-                return null;
+                return false;
             }
 
             DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
@@ -371,7 +477,7 @@ public abstract class JUnitAnalyzer {
                 for (Diagnostic<?> diagnostic : diagnostics.getDiagnostics()) {
                     if (diagnostic.getMessage(null).startsWith("error while writing")) {
                         logger.error("Error is due to file permissions, ignoring...");
-                        return generated;
+                        return true;
                     }
                     logger.error("Diagnostic: " + diagnostic.getMessage(null) + ": "
                             + diagnostic.getLineNumber());
@@ -388,14 +494,14 @@ public abstract class JUnitAnalyzer {
                     }
                 }
                 logger.error(buffer.toString());
-                return null;
+                return false;
             }
 
-            return generated;
+            return true;
 
         } catch (IOException e) {
             logger.error("" + e, e);
-            return null;
+            return false;
         }
     }
 
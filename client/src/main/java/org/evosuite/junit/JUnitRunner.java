@@ -53,16 +53,31 @@ public class JUnitRunner {
 
     private final Class<?> junitClass;
 
+    /**
+     * The only test method to run, or {@code null} to run all of them
+     */
+    private final String methodName;
+
 
     public JUnitRunner(Class<?> junitClass) {
+        this(junitClass, null);
+    }
+
+    /**
+     * @param methodName the only test method of the class to run (only
+     *                   supported for JUnit 4), or {@code null} to run all of them
+     */
+    public JUnitRunner(Class<?> junitClass, String methodName) {
         this.testResults = new ArrayList<>();
         this.junitClass = junitClass;
+        this.methodName = methodName;
     }
 
     public void run() {
 
         if (Properties.TEST_FORMAT == Properties.OutputFormat.JUNIT4) {
-            Request request = Request.aClass(this.junitClass);
+            Request request = this.methodName == null ? Request.aClass(this.junitClass)
+                    : Request.method(this.junitClass, this.methodName);
             logger.warn("Running Junit 4 test");
             JUnitCore junit = new JUnitCore();
             junit.addListener(new JUnit4RunListener(this));
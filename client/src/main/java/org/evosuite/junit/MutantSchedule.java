@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import org.evosuite.testcase.execution.ExecutionTrace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The order in which existing tests are executed against mutants, when
+ * measuring their mutation score.
+ *
+ * <p>
+ * Only the tests that infected a mutant, ie, reached it with a zero infection
+ * distance, can kill it, so only these are scheduled for the mutant. The tests
+ * of a mutant are sorted by their kill probability so far, so that, when the
+ * analysis stops at the first kill, a live mutant costs as few executions as
+ * possible.
+ */
+class MutantSchedule {
+
+    /**
+     * Indexes of the tests that infected each mutant, in order of the tests
+     */
+    private final Map<Integer, List<Integer>> infectingTests = new LinkedHashMap<>();
+
+    private final int[] executions;
+
+    private final int[] kills;
+
+    /**
+     * @param traces the execution traces of the tests without mutants, which
+     *               are then identified by their position in the list
+     */
+    public MutantSchedule(List<ExecutionTrace> traces) {
+        this.executions = new int[traces.size()];
+        this.kills = new int[traces.size()];
+        for (int test = 0; test < traces.size(); test++) {
+            for (Integer mutantId : traces.get(test).getInfectedMutants()) {
+                infectingTests.computeIfAbsent(mutantId, k -> new ArrayList<>()).add(test);
+            }
+        }
+    }
+
+    /**
+     * @return the ids of the mutants infected by at least one test
+     */
+    public List<Integer> getInfectedMutants() {
+        return new ArrayList<>(infectingTests.keySet());
+    }
+
+    /**
+     * @return the tests that infected the given mutant, the ones most likely to
+     * kill a mutant first
+     */
+    public List<Integer> getTests(int mutantId) {
+        List<Integer> tests = new ArrayList<>(infectingTests.getOrDefault(mutantId, Collections.emptyList()));
+        // stable, so ties are in order of the tests
+        tests.sort((a, b) -> Double.compare(getKillProbability(b), getKillProbability(a)));
+        return tests;
+    }
+
+    /**
+     * Record the outcome of the execution of a test against a mutant
+     */
+    public void recordExecution(int test, boolean killed) {
+        executions[test]++;
+        if (killed) {
+            kills[test]++;
+        }
+    }
+
+    /**
+     * @return the estimated probability of the given test to kill a mutant it
+     * infects, with a uniform prior so that untried tests come between the
+     * ones that kill and the ones that do not
+     */
+    double getKillProbability(int test) {
+        return (kills[test] + 1.0) / (executions[test] + 2.0);
+    }
+}
@@ -23,6 +23,7 @@ import org.evosuite.TestGenerationContext;
 import org.evosuite.coverage.mutation.Mutation;
 import org.evosuite.coverage.mutation.MutationObserver;
 import org.evosuite.coverage.mutation.MutationPool;
+import org.evosuite.testcase.execution.ExecutionTrace;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
@@ -89,10 +90,14 @@ public class MutationAnalysisRunner extends BlockJUnit4ClassRunner {
             logger.info("Failure: " + resultListener.lastFailure.getMessage());
         }
 
-        Set<Integer> touchedMutants = ExecutionTracer.getExecutionTracer().getTrace().getTouchedMutants();
-        logger.info("Touched mutants: " + touchedMutants.size());
-        // Now run it for all touched mutants
-        for (Integer mutantID : touchedMutants) {
+        ExecutionTrace trace = ExecutionTracer.getExecutionTracer().getTrace();
+        logger.info("Touched mutants: " + trace.getTouchedMutants().size());
+        // A mutant that never changed the state when it was reached behaves
+        // like the original program, so only the infected ones can be killed
+        Set<Integer> infectedMutants = trace.getInfectedMutants();
+        logger.info("Infected mutants: " + infectedMutants.size());
+        // Now run it for all infected mutants
+        for (Integer mutantID : infectedMutants) {
             // logger.info("Current mutant: "+mutantID);
             Mutation m = MutationPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getMutant(mutantID);
             if (killedMutants.contains(m)) {
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTrace;
+import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.evosuite.testcase.statements.environment.AccessedEnvironment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analysis of the state shared by the tests of a suite, to find groups of
+ * tests that do not depend on each other's execution order.
+ *
+ * <p>
+ * Two tests depend on each other if one of them writes some state that the
+ * other one reads or writes: static fields of a class (including running its
+ * static initializer, or assigning them in a statement of the test), files in
+ * the VFS, the virtual network, or System properties. Tests in different groups
+ * never share such state, and so the groups can be run concurrently, eg in
+ * separate JVMs. Tests in the same group should be run sequentially, in their
+ * original order.
+ */
+public class TestDependencyAnalysis {
+
+    private static final String STATIC_STATE = "static:";
+
+    private static final String FILE = "file:";
+
+    private static final String NETWORK = "network";
+
+    private static final String PROPERTIES = "properties";
+
+    /**
+     * Tests that read and write each resource
+     */
+    private static class Accesses {
+        private final List<Integer> tests = new ArrayList<>();
+        private boolean written = false;
+    }
+
+    private final Map<String, Accesses> resources = new LinkedHashMap<>();
+
+    private final int[] parent;
+
+    private TestDependencyAnalysis(int numberOfTests) {
+        parent = new int[numberOfTests];
+        for (int i = 0; i < numberOfTests; i++) {
+            parent[i] = i;
+        }
+    }
+
+    /**
+     * @param results the results of executing the tests of a suite, in the order
+     *                in which the tests are written
+     * @return the independent groups, each one being the positions of its tests
+     * in ascending order. Groups are sorted by their first test.
+     */
+    public static List<List<Integer>> getIndependentGroups(List<ExecutionResult> results) {
+        TestDependencyAnalysis analysis = new TestDependencyAnalysis(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            ExecutionResult result = results.get(i);
+            if (result == null || result.getTrace() == null || result.hasTimeout()) {
+                /*
+                 * we don't know what the test accessed, or it might still be
+                 * running in some thread, so it could depend on any other test
+                 */
+                return analysis.getSingleGroup();
+            }
+            analysis.addAccesses(i, result);
+        }
+
+        for (Accesses accesses : analysis.resources.values()) {
+            if (!accesses.written) {
+                // only reads, so the order does not matter
+                continue;
+            }
+            for (int test : accesses.tests) {
+                analysis.union(accesses.tests.get(0), test);
+            }
+        }
+        return analysis.getGroups();
+    }
+
+    private void addAccesses(int test, ExecutionResult result) {
+        ExecutionTrace trace = result.getTrace();
+        for (String className : trace.getClassesWithStaticWrites()) {
+            access(STATIC_STATE + className, test, true);
+        }
+        for (String className : trace.getInitializedClasses()) {
+            access(STATIC_STATE + className, test, true);
+        }
+        for (String className : trace.getClassesWithStaticReads()) {
+            access(STATIC_STATE + className, test, false);
+        }
+        // assignments done by the test itself are not instrumented
+        for (String className : ClassReInitializer.getClassesWithAssignedStaticFields(result.test,
+                result.getExecutedStatements())) {
+            access(STATIC_STATE + className, test, true);
+        }
+
+        // the VFS does not tell reads from writes
+        AccessedEnvironment environment = result.test.getAccessedEnvironment();
+        for (String file : environment.getViewOfAccessedFiles()) {
+            access(FILE + file, test, true);
+        }
+        if (environment.isNetworkAccessed()) {
+            access(NETWORK, test, true);
+        }
+
+        if (result.wasAnyPropertyWritten()) {
+            access(PROPERTIES, test, true);
+        } else if (result.getReadProperties() != null && !result.getReadProperties().isEmpty()) {
+            access(PROPERTIES, test, false);
+        }
+    }
+
+    private void access(String resource, int test, boolean write) {
+        Accesses accesses = resources.computeIfAbsent(resource, k -> new Accesses());
+        List<Integer> tests = accesses.tests;
+        if (tests.isEmpty() || tests.get(tests.size() - 1) != test) {
+            tests.add(test);
+        }
+        accesses.written |= write;
+    }
+
+    private int find(int test) {
+        while (parent[test] != test) {
+            parent[test] = parent[parent[test]];
+            test = parent[test];
+        }
+        return test;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA != rootB) {
+            // keep the smallest test as root, so groups are sorted by first test
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private List<List<Integer>> getGroups() {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < parent.length; i++) {
+            groups.computeIfAbsent(find(i), k -> new ArrayList<>()).add(i);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private List<List<Integer>> getSingleGroup() {
+        List<List<Integer>> groups = new ArrayList<>();
+        if (parent.length > 0) {
+            for (int i = 1; i < parent.length; i++) {
+                union(0, i);
+            }
+            groups.addAll(getGroups());
+        }
+        return groups;
+    }
+}
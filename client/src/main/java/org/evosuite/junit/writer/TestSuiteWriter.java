@@ -25,6 +25,7 @@ import org.evosuite.Properties.Criterion;
 import org.evosuite.Properties.OutputGranularity;
 import org.evosuite.TimeController;
 import org.evosuite.coverage.dataflow.DefUseCoverageTestFitness;
+import org.evosuite.junit.TestDependencyAnalysis;
 import org.evosuite.junit.UnitTestAdapter;
 import org.evosuite.junit.naming.methods.CoverageGoalTestNameGenerationStrategy;
 import org.evosuite.junit.naming.methods.NumberedTestNameGenerationStrategy;
@@ -86,6 +87,12 @@ public class TestSuiteWriter implements Opcodes {
 
     private final TestCodeVisitor visitor = new TestCodeVisitor();
 
+    /**
+     * The imports of the suite being written. They depend on all its tests,
+     * and so are the same for all its files.
+     */
+    private String suiteImports = null;
+
     private final static String NEWLINE = java.lang.System.getProperty("line.separator");
 
     private TestNameGenerationStrategy nameGenerator = null;
@@ -198,7 +205,9 @@ public class TestSuiteWriter implements Opcodes {
 
         List<File> generated = new ArrayList<>();
         String dir = TestSuiteWriterUtils.makeDirectory(directory);
-        String content = "";
+        StringBuilder content = new StringBuilder();
+        // reused for each file
+        StringBuilder builder = new StringBuilder();
 
         // Execute all tests
         executor.newObservers();
@@ -239,23 +248,38 @@ public class TestSuiteWriter implements Opcodes {
         // let's try to remove any remaining assertions. TODO: Better solution
         removeAssertionsAfterException(results);
 
+        suiteImports = getImports(results);
 
         if (Properties.OUTPUT_GRANULARITY == OutputGranularity.MERGED || testCases.size() == 0) {
             File file = new File(dir + "/" + name + ".java");
             //executor.newObservers();
-            content = getUnitTestsAllInSameFile(name, results);
-            FileIOUtils.writeFile(content, file);
+            appendUnitTestsAllInSameFile(builder, name, results);
+            FileIOUtils.writeFile(builder, file);
+            content.append(builder);
             generated.add(file);
+        } else if (Properties.OUTPUT_GRANULARITY == OutputGranularity.GROUP) {
+            List<List<Integer>> groups = TestDependencyAnalysis.getIndependentGroups(results);
+            logger.info("Writing {} tests as {} independent groups", testCases.size(), groups.size());
+            for (int i = 0; i < groups.size(); i++) {
+                File file = new File(dir + "/" + name + "_" + i + ".java"); // e.g., dir/Foo_ESTest_0.java
+                builder.setLength(0);
+                appendUnitTestsInAFile(builder, name, i, groups.get(i), results);
+                FileIOUtils.writeFile(builder, file);
+                content.append(builder);
+                generated.add(file);
+            }
         } else {
             for (int i = 0; i < testCases.size(); i++) {
                 File file = new File(dir + "/" + name + "_" + i + ".java"); // e.g., dir/Foo_ESTest_0.java
                 //executor.newObservers();
-                String testCode = getOneUnitTestInAFile(name, i, results);
-                FileIOUtils.writeFile(testCode, file);
-                content += testCode;
+                builder.setLength(0);
+                appendUnitTestsInAFile(builder, name, i, Collections.singletonList(i), results);
+                FileIOUtils.writeFile(builder, file);
+                content.append(builder);
                 generated.add(file);
             }
         }
+        suiteImports = null;
 
         if (Properties.TEST_SCAFFOLDING && !Properties.NO_RUNTIME_DEPENDENCY) {
             String scaffoldingName = Scaffolding.getFileName(name);
@@ -264,12 +288,12 @@ public class TestSuiteWriter implements Opcodes {
                     TestSuiteWriterUtils.hasAnySecurityException(results));
             FileIOUtils.writeFile(scaffoldingContent, file);
             generated.add(file);
-            content += scaffoldingContent;
+            content.append(scaffoldingContent);
         }
 
         writeCoveredGoalsFile();
 
-        TestGenerationResultBuilder.getInstance().setTestSuiteCode(content);
+        TestGenerationResultBuilder.getInstance().setTestSuiteCode(content.toString());
         return generated;
     }
 
@@ -314,10 +338,10 @@ public class TestSuiteWriter implements Opcodes {
     /**
      * Create JUnit file for given class name
      *
-     * @param name Name of the class file
-     * @return String representation of JUnit test file
+     * @param builder where to append the JUnit test file
+     * @param name    Name of the class file
      */
-    private String getUnitTestsAllInSameFile(String name, List<ExecutionResult> results) {
+    private void appendUnitTestsAllInSameFile(StringBuilder builder, String name, List<ExecutionResult> results) {
 
         /*
          * if there was any security exception, then we need to scaffold the
@@ -325,8 +349,6 @@ public class TestSuiteWriter implements Opcodes {
          */
         boolean wasSecurityException = TestSuiteWriterUtils.hasAnySecurityException(results);
 
-        StringBuilder builder = new StringBuilder();
-
         builder.append(getHeader(name, name, results));
 
         if (!Properties.TEST_SCAFFOLDING && !Properties.NO_RUNTIME_DEPENDENCY) {
@@ -341,33 +363,34 @@ public class TestSuiteWriter implements Opcodes {
             }
         }
         builder.append(getFooter());
-
-        return builder.toString();
     }
 
     /**
-     * Create JUnit file for given class name
+     * Create JUnit file for some of the tests of the given class name
      *
-     * @param name   Name of the class file
-     * @param testId a int.
-     * @return String representation of JUnit test file
+     * @param builder where to append the JUnit test file
+     * @param name    Name of the class file
+     * @param fileId  suffix of the name of the class file
+     * @param testIds the tests to write in the file
      */
-    private String getOneUnitTestInAFile(String name, int testId, List<ExecutionResult> results) {
-
-        boolean wasSecurityException = results.get(testId).hasSecurityException();
+    private void appendUnitTestsInAFile(StringBuilder builder, String name, int fileId, List<Integer> testIds,
+                                        List<ExecutionResult> results) {
 
-        StringBuilder builder = new StringBuilder();
+        boolean wasSecurityException = false;
+        for (int testId : testIds) {
+            wasSecurityException |= results.get(testId).hasSecurityException();
+        }
 
-        builder.append(getHeader(name + "_" + testId, name, results));
+        builder.append(getHeader(name + "_" + fileId, name, results));
 
         if (!Properties.TEST_SCAFFOLDING) {
-            builder.append(new Scaffolding().getBeforeAndAfterMethods(name + "_" + testId, wasSecurityException, results));
+            builder.append(new Scaffolding().getBeforeAndAfterMethods(name + "_" + fileId, wasSecurityException, results));
         }
 
-        builder.append(testToString(testId, testId, results.get(testId)));
+        for (int testId : testIds) {
+            builder.append(testToString(testId, testId, results.get(testId)));
+        }
         builder.append(getFooter());
-
-        return builder.toString();
     }
 
     /**
@@ -538,7 +561,7 @@ public class TestSuiteWriter implements Opcodes {
         builder.append(NEWLINE);
 
         builder.append(adapter.getImports());
-        builder.append(getImports(results));
+        builder.append(suiteImports != null ? suiteImports : getImports(results));
 
         if (TestSuiteWriterUtils.needToUseAgent() && !Properties.NO_RUNTIME_DEPENDENCY) {
             builder.append(getRunner());
@@ -688,12 +711,8 @@ public class TestSuiteWriter implements Opcodes {
             CODE_SPACE = INNER_INNER_INNER_BLOCK_SPACE;
         }
 
-        for (String line : adapter.getTestString(id, test,
-                result.exposeExceptionMapping(), visitor).split("\\r?\\n")) {
-            builder.append(CODE_SPACE);
-            builder.append(line);
-            builder.append(NEWLINE);
-        }
+        TestSuiteWriterUtils.appendIndentedLines(builder, adapter.getTestString(id, test,
+                result.exposeExceptionMapping(), visitor), CODE_SPACE, NEWLINE);
 
         if (wasSecurityException) {
             Set<Class<?>> exceptions = test.getDeclaredExceptions();
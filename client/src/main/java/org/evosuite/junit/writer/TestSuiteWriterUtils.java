@@ -55,6 +55,40 @@ public class TestSuiteWriterUtils {
     protected final static Logger logger = LoggerFactory.getLogger(TestSuiteWriterUtils.class);
 
 
+    /**
+     * Append each line of the given code, prefixed by the indentation.
+     * Lines are the same as in <code>code.split("\\r?\\n")</code>, but
+     * without creating a string per line.
+     */
+    public static void appendIndentedLines(StringBuilder builder, String code, String indentation, String newline) {
+        int end = code.length();
+        if (end == 0) {
+            builder.append(indentation).append(newline);
+            return;
+        }
+        // as in split, ignore trailing empty lines
+        while (end > 0 && code.charAt(end - 1) == '\n') {
+            end--;
+            if (end > 0 && code.charAt(end - 1) == '\r') {
+                end--;
+            }
+        }
+        int start = 0;
+        while (start < end) {
+            int lineEnd = code.indexOf('\n', start);
+            if (lineEnd < 0 || lineEnd > end) {
+                lineEnd = end;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > start && code.charAt(lineEnd - 1) == '\r' && lineEnd < end) {
+                lineEnd--;
+            }
+            builder.append(indentation).append(code, start, lineEnd).append(newline);
+            start = next;
+        }
+    }
+
+
     /**
      * Check the configuration settings to see if we are doing any instrumentation.
      * If so, we ll need to use the Java Agent in the generated tests
@@ -22,9 +22,10 @@ package org.evosuite.novelty;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.coverage.branch.Branch;
 import org.evosuite.coverage.branch.BranchPool;
-import org.evosuite.ga.NoveltyFunction;
+import org.evosuite.ga.FeatureNoveltyFunction;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.ExecutionTrace;
 import org.evosuite.testcase.execution.TestCaseExecutor;
@@ -32,9 +33,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
-public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
+public class BranchNoveltyFunction extends FeatureNoveltyFunction<TestChromosome> {
 
     private static final Logger logger = LoggerFactory.getLogger(BranchNoveltyFunction.class);
 
@@ -42,6 +45,11 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
 
     private final Set<String> branchlessMethods = new LinkedHashSet<>();
 
+    /**
+     * ExecutionResult does not override equals, so this is by identity
+     */
+    private final Map<ExecutionResult, double[]> featuresByResult = new WeakHashMap<>();
+
     public BranchNoveltyFunction() {
         for (Branch branch : BranchPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getAllBranches()) {
             if (!branch.isInstrumented()) {
@@ -67,39 +75,60 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * One feature per branch, with its normalized true distance or NaN if
+     * the branch was not evaluated, and one feature per branchless method, 1
+     * if it was covered and 0 otherwise. Features are computed once per
+     * execution.
+     */
     @Override
-    public double getDistance(TestChromosome individual1, TestChromosome individual2) {
-        ExecutionResult result1 = getExecutionResult(individual1);
-        ExecutionResult result2 = getExecutionResult(individual2);
-
-        ExecutionTrace trace1 = result1.getTrace();
-        ExecutionTrace trace2 = result2.getTrace();
-
-        double difference = 0.0;
+    public double[] getFeatures(TestChromosome individual) {
+        ExecutionResult result = getExecutionResult(individual);
+        double[] features = featuresByResult.get(result);
+        if (features != null) {
+            return features;
+        }
 
+        ExecutionTrace trace = result.getTrace();
+        features = new double[branches.size() + branchlessMethods.size()];
+        int f_i = 0;
         for (Integer branch : branches) {
-            if (trace1.hasTrueDistance(branch) && trace2.hasTrueDistance(branch)) {
-                double distance1 = trace1.getTrueDistance(branch);
-                double distance2 = trace2.getTrueDistance(branch);
-
-                difference += Math.abs(distance1 - distance2);
-
-            } else if (trace1.hasTrueDistance(branch) || trace2.hasTrueDistance(branch)) {
-                difference += 1.0;
-            }
+            features[f_i++] = trace.hasTrueDistance(branch)
+                    ? TestFitnessFunction.normalize(trace.getTrueDistance(branch)) : Double.NaN;
         }
-
-        Set<String> methods1 = trace1.getCoveredBranchlessMethods();
-        Set<String> methods2 = trace2.getCoveredBranchlessMethods();
+        Set<String> methods = trace.getCoveredBranchlessMethods();
         for (String branchlessMethod : branchlessMethods) {
-            if (methods1.contains(branchlessMethod) != methods2.contains(branchlessMethod)) {
+            features[f_i++] = methods.contains(branchlessMethod) ? 1.0 : 0.0;
+        }
+        featuresByResult.put(result, features);
+        return features;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The mean over all features of: 1 if a branch was evaluated by only one
+     * of the tests, and the difference of the values otherwise. As normalized
+     * distances are below 1, this is a metric.
+     */
+    @Override
+    public double getFeatureDistance(double[] features1, double[] features2) {
+        if (features1.length == 0) {
+            return 0.0;
+        }
+        double difference = 0.0;
+        for (int f_i = 0; f_i < features1.length; f_i++) {
+            boolean evaluated1 = !Double.isNaN(features1[f_i]);
+            boolean evaluated2 = !Double.isNaN(features2[f_i]);
+            if (evaluated1 && evaluated2) {
+                difference += Math.abs(features1[f_i] - features2[f_i]);
+            } else if (evaluated1 || evaluated2) {
                 difference += 1.0;
             }
         }
-
-        difference /= (branches.size() + branchlessMethods.size());
-
-        return difference;
+        return difference / features1.length;
     }
 
 }
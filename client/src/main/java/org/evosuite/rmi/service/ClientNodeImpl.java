@@ -29,11 +29,14 @@ import org.evosuite.ga.stoppingconditions.RMIStoppingCondition;
 import org.evosuite.junit.CoverageAnalysis;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.result.TestGenerationResultBuilder;
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestChromosome;
 import org.evosuite.utils.FileIOUtils;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
@@ -47,7 +50,7 @@ import java.util.*;
 import java.util.concurrent.*;
 
 public class ClientNodeImpl<T extends Chromosome<T>>
-        implements ClientNodeLocal<T>, ClientNodeRemote<T> {
+        implements ClientNodeLocal<T>, ClientNodeRemote {
 
     private static final Logger logger = LoggerFactory.getLogger(ClientNodeImpl.class);
     private static final long serialVersionUID = 485858845631346580L;
@@ -85,6 +88,28 @@ public class ClientNodeImpl<T extends Chromosome<T>>
 
     protected final ExecutorService searchExecutor = Executors.newSingleThreadExecutor();
 
+    /**
+     * Sends emigrants to the master off the search thread. At most one batch
+     * waits to be sent: a newer batch replaces it, as it comes from a more
+     * recent population.
+     */
+    private final ExecutorService migrationExecutor = new ThreadPoolExecutor(1, 1,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+            runnable -> {
+                Thread thread = new Thread(runnable, "Migration sender in client process");
+                thread.setDaemon(true);
+                Sandbox.addPrivilegedThread(thread);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardOldestPolicy());
+
+    /**
+     * Only used on the migration thread
+     */
+    private final MigrationEncoder migrationEncoder = new MigrationEncoder();
+
+    private final MigrationDecoder migrationDecoder = new MigrationDecoder();
+
     private final BlockingQueue<OutputVariable> outputVariableQueue = new LinkedBlockingQueue<>();
 
     private Collection<Set<T>> bestSolutions;
@@ -195,19 +220,60 @@ public class ClientNodeImpl<T extends Chromosome<T>>
 
     @Override
     public void emigrate(Set<T> immigrants) {
-        try {
-            logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending " + immigrants.size() + " immigrants");
-            masterNode.evosuite_migrate(clientRmiIdentifier, immigrants);
-        } catch (RemoteException e) {
-            logger.error(ClientProcess.getPrettyPrintIdentifier() + "Cannot send immigrating individuals to master", e);
+        // the search goes on while the copies are encoded and sent
+        List<TestCase> copies = getTestCases(immigrants);
+
+        migrationExecutor.execute(() -> {
+            try {
+                MigrationPacket packet = migrationEncoder.encode(copies);
+                logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending " + packet.size() + " immigrants, "
+                        + packet.getNewTests().size() + " of them not sent before");
+                masterNode.evosuite_migrate(clientRmiIdentifier, packet);
+            } catch (RemoteException e) {
+                // the master might not have received the packet
+                migrationEncoder.reset();
+                logger.error(ClientProcess.getPrettyPrintIdentifier() + "Cannot send immigrating individuals to master", e);
+            }
+        });
+    }
+
+    /**
+     * @return copies of the test cases of the given chromosomes, which are
+     * all that is sent of migrants
+     */
+    private List<TestCase> getTestCases(Set<T> chromosomes) {
+        List<TestCase> tests = new ArrayList<>(chromosomes.size());
+        for (T chromosome : chromosomes) {
+            if (!(chromosome instanceof TestChromosome)) {
+                throw new IllegalArgumentException("Only test chromosomes can be sent to other clients: "
+                        + chromosome.getClass().getName());
+            }
+            tests.add(((TestChromosome) chromosome).getTestCase().clone());
+        }
+        return tests;
+    }
+
+    /**
+     * @return new chromosomes for the given test cases, without execution
+     * result, so that they are executed when their fitness is needed
+     */
+    @SuppressWarnings("unchecked")
+    private Set<T> getChromosomes(List<TestCase> tests) {
+        Set<T> chromosomes = new LinkedHashSet<>(tests.size());
+        for (TestCase test : tests) {
+            TestChromosome chromosome = new TestChromosome();
+            chromosome.setTestCase(test.clone());
+            chromosomes.add((T) chromosome);
         }
+        return chromosomes;
     }
 
     @Override
     public void sendBestSolution(Set<T> solutions) {
         try {
             logger.debug(ClientProcess.getPrettyPrintIdentifier() + "sending best solutions to " + ClientProcess.DEFAULT_CLIENT_NAME);
-            masterNode.evosuite_collectBestSolutions(clientRmiIdentifier, solutions);
+            masterNode.evosuite_collectBestSolutions(clientRmiIdentifier,
+                    new MigrationEncoder().encode(getTestCases(solutions)));
         } catch (RemoteException e) {
             logger.error(ClientProcess.getPrettyPrintIdentifier() + "Cannot send best solution to master", e);
         }
@@ -227,6 +293,7 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         this.state = state;
 
         TimeController.getInstance().updateState(state);
+        ExecutionProfiler.getInstance().setPhase(state.name());
 
         try {
             masterNode.evosuite_informChangeOfStateInClient(clientRmiIdentifier, state, information);
@@ -352,6 +419,8 @@ public class ClientNodeImpl<T extends Chromosome<T>>
             statisticsThread = null;
         }
 
+        migrationExecutor.shutdownNow();
+
         changeState(ClientState.FINISHED);
     }
 
@@ -520,16 +589,29 @@ public class ClientNodeImpl<T extends Chromosome<T>>
     }
 
     @Override
-    public void immigrate(Set<T> migrants) throws RemoteException {
+    public void immigrate(MigrationPacket migrants) throws RemoteException {
         logger.debug(ClientProcess.getPrettyPrintIdentifier() + "receiving "
                 + (migrants != null ? migrants.size() : 0) + " immigrants");
-        fireEvent(migrants);
+        if (migrants == null) {
+            return;
+        }
+
+        List<TestCase> tests;
+        synchronized (migrationDecoder) {
+            try {
+                tests = migrationDecoder.decode(migrants);
+            } catch (IllegalStateException e) {
+                // the master resets its encoder
+                throw new RemoteException("Cannot decode immigrants", e);
+            }
+        }
+        fireEvent(getChromosomes(tests));
     }
 
     @Override
-    public void collectBestSolutions(Set<T> solutions) throws RemoteException {
+    public void collectBestSolutions(MigrationPacket solutions) throws RemoteException {
         logger.debug(ClientProcess.getPrettyPrintIdentifier() + "added solution to set");
-        bestSolutions.add(solutions);
+        bestSolutions.add(getChromosomes(new MigrationDecoder().decode(solutions)));
     }
 
     @Override
@@ -19,11 +19,8 @@
  */
 package org.evosuite.rmi.service;
 
-import org.evosuite.ga.Chromosome;
-
 import java.rmi.Remote;
 import java.rmi.RemoteException;
-import java.util.Set;
 
 /**
  * Client Node view in the master process.
@@ -31,7 +28,7 @@ import java.util.Set;
  * @author arcuri
  */
 
-public interface ClientNodeRemote<T extends Chromosome<T>> extends Remote {
+public interface ClientNodeRemote extends Remote {
 
     void startNewSearch() throws RemoteException;
 
@@ -52,7 +49,7 @@ public interface ClientNodeRemote<T extends Chromosome<T>> extends Remote {
 
     void printClassStatistics() throws RemoteException;
 
-    void immigrate(Set<T> migrants) throws RemoteException;
+    void immigrate(MigrationPacket migrants) throws RemoteException;
 
-    void collectBestSolutions(Set<T> solutions) throws RemoteException;
+    void collectBestSolutions(MigrationPacket solutions) throws RemoteException;
 }
@@ -27,7 +27,6 @@ import org.evosuite.statistics.RuntimeVariable;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Master Node view in the client process.
@@ -57,7 +56,7 @@ public interface MasterNodeRemote extends Remote {
 
     void evosuite_updateProperty(String clientRmiIdentifier, String propertyName, Object value) throws RemoteException, IllegalArgumentException, IllegalAccessException, NoSuchParameterException;
 
-    void evosuite_migrate(String clientRmiIdentifier, Set<? extends Chromosome<?>> migrants) throws RemoteException;
+    void evosuite_migrate(String clientRmiIdentifier, MigrationPacket migrants) throws RemoteException;
 
-    void evosuite_collectBestSolutions(String clientRmiIdentifier, Set<? extends Chromosome<?>> solutions) throws RemoteException;
+    void evosuite_collectBestSolutions(String clientRmiIdentifier, MigrationPacket solutions) throws RemoteException;
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.testcase.TestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the packets of a {@link MigrationEncoder}, in the order they were
+ * encoded
+ */
+public class MigrationDecoder {
+
+    private final int capacity;
+
+    private final Map<Integer, TestCase> tests = new HashMap<>();
+
+    public MigrationDecoder() {
+        this(MigrationEncoder.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the capacity of the encoder at the other end of the link
+     */
+    public MigrationDecoder(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the tests of the packet, in order. They are shared with the
+     * decoder, so they must be cloned before being modified.
+     * @throws IllegalStateException if the packet refers to a test that is not
+     *                               known, ie a previous packet was lost
+     */
+    public List<TestCase> decode(MigrationPacket packet) {
+        if (packet.isReset()) {
+            tests.clear();
+        }
+
+        List<TestCase> decoded = new ArrayList<>(packet.size());
+        for (int id : packet.getIds()) {
+            TestCase test;
+            if (id >= packet.getFirstNewId()) {
+                // new tests come in the same order as in the encoder
+                test = packet.getNewTests().get(id - packet.getFirstNewId());
+                if (tests.put(id, test) == null) {
+                    tests.remove(id - capacity);
+                }
+            } else {
+                test = tests.get(id);
+                if (test == null) {
+                    throw new IllegalStateException("Unknown test " + id + ", a packet was lost");
+                }
+            }
+            decoded.add(test);
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.utils.TestCaseStructure;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the tests sent on one link between two processes, eg from a client
+ * to the master, as the delta against the tests sent before on the link.
+ *
+ * <p>
+ * The encoder remembers the last {@code capacity} distinct tests it sent, and
+ * the {@link MigrationDecoder} at the other end of the link the same ones,
+ * as long as the packets are decoded in the order they are encoded. If a
+ * packet might have been lost, {@link #reset()} makes the next packet start
+ * from scratch on both ends.
+ *
+ * <p>
+ * Tests are compared by {@link TestCaseStructure structure}, as the tests
+ * sent are usually clones of the ones sent before.
+ *
+ * <p>
+ * The encoded tests must not be modified afterwards.
+ */
+public class MigrationEncoder {
+
+    /**
+     * A test, compared to other tests by structure
+     */
+    private static final class TestKey {
+
+        private final TestCase test;
+
+        private final int hash;
+
+        private TestKey(TestCase test) {
+            this.test = test;
+            long h = TestCaseStructure.hash(test);
+            this.hash = (int) (h ^ (h >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TestKey that = (TestKey) o;
+            return hash == that.hash && TestCaseStructure.isSame(test, that.test);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Default number of tests remembered on a link
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+
+    private final Map<TestKey, Integer> ids = new HashMap<>();
+
+    /**
+     * The remembered tests, oldest first
+     */
+    private final Deque<TestKey> sent = new ArrayDeque<>();
+
+    private int nextId = 0;
+
+    private boolean reset = true;
+
+    public MigrationEncoder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MigrationEncoder(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public MigrationPacket encode(Collection<TestCase> tests) {
+        boolean resetPacket = reset;
+        reset = false;
+
+        int firstNewId = nextId;
+        List<TestCase> newTests = new ArrayList<>();
+        int[] packetIds = new int[tests.size()];
+        int i = 0;
+        for (TestCase test : tests) {
+            TestKey key = new TestKey(test);
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = nextId++;
+                newTests.add(test);
+                ids.put(key, id);
+                sent.addLast(key);
+                if (sent.size() > capacity) {
+                    // the decoder forgets the same test when it gets the new one
+                    ids.remove(sent.removeFirst());
+                }
+            }
+            packetIds[i++] = id;
+        }
+        return new MigrationPacket(resetPacket, firstNewId, newTests, packetIds);
+    }
+
+    /**
+     * Forget all the tests sent so far, eg because the last packet might not
+     * have been received
+     */
+    public void reset() {
+        ids.clear();
+        sent.clear();
+        nextId = 0;
+        reset = true;
+    }
+}
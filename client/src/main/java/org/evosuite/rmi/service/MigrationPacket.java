@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.testcase.TestCase;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Test cases sent between the client processes of a parallel search, eg
+ * migrants, as encoded by a {@link MigrationEncoder}.
+ *
+ * <p>
+ * Only the statements of the tests are sent: execution results and fitness
+ * values are computed again by the receiver when it needs them. A test that
+ * was already sent on the same link is only sent as its id.
+ */
+public class MigrationPacket implements Serializable {
+
+    private static final long serialVersionUID = -1391587733616542567L;
+
+    /**
+     * Whether the receiver has to forget the tests of the previous packets
+     */
+    private final boolean reset;
+
+    /**
+     * The id of the first test of {@link #newTests}, the others having the
+     * next ids
+     */
+    private final int firstNewId;
+
+    private final List<TestCase> newTests;
+
+    /**
+     * The ids of all the tests, in order
+     */
+    private final int[] ids;
+
+    MigrationPacket(boolean reset, int firstNewId, List<TestCase> newTests, int[] ids) {
+        this.reset = reset;
+        this.firstNewId = firstNewId;
+        this.newTests = newTests;
+        this.ids = ids;
+    }
+
+    boolean isReset() {
+        return reset;
+    }
+
+    int getFirstNewId() {
+        return firstNewId;
+    }
+
+    List<TestCase> getNewTests() {
+        return newTests;
+    }
+
+    int[] getIds() {
+        return ids;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
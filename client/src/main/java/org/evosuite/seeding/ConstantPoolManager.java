@@ -39,6 +39,11 @@ public class ConstantPoolManager {
      */
     private static final int DYNAMIC_POOL_INDEX = 2;
 
+    /**
+     * Primitive values observed during test execution, not yet added to the dynamic pool
+     */
+    private DynamicConstantBuffer dynamicConstants;
+
     private ConstantPoolManager() {
         init();
     }
@@ -52,6 +57,10 @@ public class ConstantPoolManager {
                     new DynamicConstantVariableProbabilityPool()};
         }
 
+        // keep some more values than the pool, as there might be duplicates
+        dynamicConstants = new DynamicConstantBuffer(Properties.DYNAMIC_POOL_SIZE * 4,
+                Properties.DYNAMIC_CONSTANT_SAMPLING_RATE);
+
         initDefaultProbabilities();
     }
 
@@ -99,7 +108,39 @@ public class ConstantPoolManager {
         pools[DYNAMIC_POOL_INDEX].add(value);
     }
 
+    /*
+     * Primitive values are buffered, as these are called by the instrumentation
+     * on branches, and so can be called many times in tight loops
+     */
+
+    public void addDynamicConstant(int value) {
+        dynamicConstants.add(value);
+    }
+
+    public void addDynamicConstant(long value) {
+        dynamicConstants.add(value);
+    }
+
+    public void addDynamicConstant(float value) {
+        dynamicConstants.add(value);
+    }
+
+    public void addDynamicConstant(double value) {
+        dynamicConstants.add(value);
+    }
+
+    /**
+     * Add the primitive values buffered during test execution to the dynamic pool
+     */
+    public void flushDynamicConstants() {
+        if (!dynamicConstants.isEmpty()) {
+            // variable probability pools count how often each value is added
+            dynamicConstants.drainTo(pools[DYNAMIC_POOL_INDEX], !Properties.VARIABLE_POOL);
+        }
+    }
+
     public ConstantPool getConstantPool() {
+        flushDynamicConstants();
         double p = Randomness.nextDouble();
         double k = 0d;
         for (int i = 0; i < probabilities.length; i++) {
@@ -115,6 +156,7 @@ public class ConstantPoolManager {
     }
 
     public ConstantPool getDynamicConstantPool() {
+        flushDynamicConstants();
         return pools[DYNAMIC_POOL_INDEX];
     }
 
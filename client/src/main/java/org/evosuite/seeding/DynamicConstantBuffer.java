@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.seeding;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of the primitive values observed during test execution (eg, the
+ * operands of branch conditions), which are later drained into a
+ * {@link ConstantPool} in a batch.
+ *
+ * <p>
+ * Adding a value does not allocate nor box anything, as values are
+ * instrumentation callbacks on the hot path of the SUT. Only one out of
+ * {@code samplingRate} values is kept, and once the buffer is full the oldest
+ * values are overwritten: the pools only keep the most recent values anyway.
+ * Duplicates can be removed when draining, unless the pool needs to know how
+ * often each value occurs.
+ *
+ * <p>
+ * There is no synchronization: as for the pools themselves, values added
+ * concurrently by different SUT threads might get lost, but indexes are
+ * always masked, so this can not fail.
+ */
+class DynamicConstantBuffer {
+
+    private static final byte INT = 0;
+    private static final byte LONG = 1;
+    private static final byte FLOAT = 2;
+    private static final byte DOUBLE = 3;
+
+    private final int samplingRate;
+
+    private final int mask;
+
+    /**
+     * The values, as raw bits
+     */
+    private final long[] values;
+
+    private final byte[] types;
+
+    private int writeIndex = 0;
+
+    private int readIndex = 0;
+
+    private int skipped = 0;
+
+    /**
+     * Open addressing hash set used to remove duplicates when draining
+     */
+    private final long[] seenValues;
+
+    private final byte[] seenTypes;
+
+    private final boolean[] seenUsed;
+
+    /**
+     * @param minCapacity  the minimum number of values to keep between two drains
+     * @param samplingRate keep only one out of this many values
+     */
+    DynamicConstantBuffer(int minCapacity, int samplingRate) {
+        if (samplingRate < 1) {
+            throw new IllegalArgumentException("Invalid sampling rate: " + samplingRate);
+        }
+        int capacity = Integer.highestOneBit(Math.max(16, minCapacity - 1)) << 1;
+        this.samplingRate = samplingRate;
+        this.mask = capacity - 1;
+        this.values = new long[capacity];
+        this.types = new byte[capacity];
+        this.seenValues = new long[capacity * 2];
+        this.seenTypes = new byte[capacity * 2];
+        this.seenUsed = new boolean[capacity * 2];
+    }
+
+    int getCapacity() {
+        return values.length;
+    }
+
+    void add(int value) {
+        put(value, INT);
+    }
+
+    void add(long value) {
+        put(value, LONG);
+    }
+
+    void add(float value) {
+        put(Float.floatToIntBits(value), FLOAT);
+    }
+
+    void add(double value) {
+        put(Double.doubleToLongBits(value), DOUBLE);
+    }
+
+    private void put(long bits, byte type) {
+        if (samplingRate > 1) {
+            if (++skipped < samplingRate) {
+                return;
+            }
+            skipped = 0;
+        }
+        int index = writeIndex++ & mask;
+        values[index] = bits;
+        types[index] = type;
+    }
+
+    boolean isEmpty() {
+        return writeIndex == readIndex;
+    }
+
+    /**
+     * Add the buffered values to the given pool, from the oldest to the most
+     * recent one, and empty the buffer
+     *
+     * @param removeDuplicates whether to add each distinct value only once
+     */
+    void drainTo(ConstantPool pool, boolean removeDuplicates) {
+        int end = writeIndex;
+        int count = end - readIndex;
+        if (count < 0 || count > values.length) {
+            // either it wrapped around, or values were added concurrently
+            count = values.length;
+        }
+        readIndex = end;
+        if (count == 0) {
+            return;
+        }
+
+        if (removeDuplicates) {
+            Arrays.fill(seenUsed, false);
+        }
+        for (int i = end - count; i != end; i++) {
+            int index = i & mask;
+            long bits = values[index];
+            byte type = types[index];
+            if (!removeDuplicates || markSeen(bits, type)) {
+                pool.add(toObject(bits, type));
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the value was already seen in this drain
+     */
+    private boolean markSeen(long bits, byte type) {
+        int slots = seenValues.length;
+        long hash = (bits ^ (bits >>> 32)) * 0x9E3779B97F4A7C15L + type;
+        int slot = (int) (hash ^ (hash >>> 32)) & (slots - 1);
+        while (seenUsed[slot]) {
+            if (seenValues[slot] == bits && seenTypes[slot] == type) {
+                return false;
+            }
+            slot = (slot + 1) & (slots - 1);
+        }
+        seenUsed[slot] = true;
+        seenValues[slot] = bits;
+        seenTypes[slot] = type;
+        return true;
+    }
+
+    private static Object toObject(long bits, byte type) {
+        switch (type) {
+            case INT:
+                return (int) bits;
+            case LONG:
+                return bits;
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            default:
+                return Double.longBitsToDouble(bits);
+        }
+    }
+}
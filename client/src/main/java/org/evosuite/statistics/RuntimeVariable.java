@@ -400,6 +400,24 @@ public enum RuntimeVariable {
     Time_Coverage,
     Time_StateDistance,
     Time_Diversity,
+    /**
+     * Execution profiling (see profile_execution): cumulative time in milliseconds
+     * spent in each stage of test execution
+     */
+    SUTTimeTimeline,
+    TracerTimeTimeline,
+    ObserverTimeTimeline,
+    SandboxTimeTimeline,
+    ClassResetTimeTimeline,
+    /**
+     * Execution profiling (see profile_execution): cumulative memory in kilobytes
+     * allocated in each stage of test execution
+     */
+    SUTAllocationTimeline,
+    TracerAllocationTimeline,
+    ObserverAllocationTimeline,
+    SandboxAllocationTimeline,
+    ClassResetAllocationTimeline,
     /* -------------------------------------------------------------------- */
     /**
      * Count of branch comparison types in bytecode (static)
@@ -112,6 +112,7 @@ public class StatisticsListener<T extends Chromosome<T>> implements SearchListen
             individuals.offer(algorithm.getBestIndividual());
             // send timeline variable directly
             ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.TotalExceptionsTimeline, ExceptionCoverageSuiteFitness.getMaxExceptionsCovered());
+            StatisticsSender.sendExecutionProfileToMaster();
         }
     }
 
@@ -126,6 +127,7 @@ public class StatisticsListener<T extends Chromosome<T>> implements SearchListen
         ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Generations, algorithm.getAge());
         ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Fitness_Evaluations, numFitnessEvaluations);
         ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.TotalExceptionsTimeline, ExceptionCoverageSuiteFitness.getMaxExceptionsCovered());
+        StatisticsSender.sendExecutionProfileToMaster();
 
         if (algorithm.getBestIndividual() instanceof TestSuiteChromosome) {
             reportTestSuiteResult((TestSuiteChromosome) algorithm.getBestIndividual());
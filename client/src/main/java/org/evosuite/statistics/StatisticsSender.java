@@ -26,11 +26,13 @@ import org.evosuite.coverage.branch.BranchPool;
 import org.evosuite.coverage.exception.ExceptionCoverageSuiteFitness;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.rmi.ClientServices;
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.ExecutionTrace;
 import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.testsuite.TestSuiteChromosome;
+import org.slf4j.Logger;
 
 import java.util.*;
 
@@ -47,6 +49,25 @@ import java.util.*;
  */
 public class StatisticsSender {
 
+    /**
+     * Timelines of the profiled stages, indexed by {@link ExecutionProfiler.Stage#ordinal()}
+     */
+    private static final RuntimeVariable[] PROFILE_TIME_VARIABLES = {
+            RuntimeVariable.SUTTimeTimeline,
+            RuntimeVariable.TracerTimeTimeline,
+            RuntimeVariable.ObserverTimeTimeline,
+            RuntimeVariable.SandboxTimeTimeline,
+            RuntimeVariable.ClassResetTimeTimeline
+    };
+
+    private static final RuntimeVariable[] PROFILE_ALLOCATION_VARIABLES = {
+            RuntimeVariable.SUTAllocationTimeline,
+            RuntimeVariable.TracerAllocationTimeline,
+            RuntimeVariable.ObserverAllocationTimeline,
+            RuntimeVariable.SandboxAllocationTimeline,
+            RuntimeVariable.ClassResetAllocationTimeline
+    };
+
     /**
      * Send the given individual to the Client, plus any other needed info
      *
@@ -91,6 +112,48 @@ public class StatisticsSender {
         sendIndividualToMaster(testSuite);
     }
 
+    /**
+     * Send the current totals of the execution profiler to Master, as values
+     * of the profiling timelines. Does nothing if profiling is not enabled.
+     */
+    public static void sendExecutionProfileToMaster() {
+        if (!Properties.PROFILE_EXECUTION)
+            return;
+
+        ExecutionProfiler profiler = ExecutionProfiler.getInstance();
+        for (ExecutionProfiler.Stage stage : ExecutionProfiler.Stage.values()) {
+            ClientServices.getInstance().getClientNode().trackOutputVariable(
+                    PROFILE_TIME_VARIABLES[stage.ordinal()], profiler.getTotalTime(stage) / 1_000_000.0);
+            ClientServices.getInstance().getClientNode().trackOutputVariable(
+                    PROFILE_ALLOCATION_VARIABLES[stage.ordinal()], profiler.getTotalAllocation(stage) / 1024.0);
+        }
+    }
+
+    /**
+     * Print, for each search phase (and goal, if any), the time and memory spent in
+     * each stage of test execution. Does nothing if profiling is not enabled.
+     *
+     * @param logger
+     */
+    public static void printExecutionProfile(Logger logger) {
+        if (!Properties.PROFILE_EXECUTION)
+            return;
+
+        Map<String, long[]> time = ExecutionProfiler.getInstance().getTimeByContext();
+        Map<String, long[]> allocation = ExecutionProfiler.getInstance().getAllocationByContext();
+        logger.info("* Execution profile (ms / KB):");
+        for (Map.Entry<String, long[]> entry : time.entrySet()) {
+            long[] bytes = allocation.get(entry.getKey());
+            StringBuilder line = new StringBuilder("  - " + entry.getKey() + ":");
+            for (ExecutionProfiler.Stage stage : ExecutionProfiler.Stage.values()) {
+                line.append(" ").append(stage).append("=")
+                        .append(entry.getValue()[stage.ordinal()] / 1_000_000).append("/")
+                        .append(bytes == null ? 0 : bytes[stage.ordinal()] / 1024);
+            }
+            logger.info(line.toString());
+        }
+    }
+
     // -------- private methods ------------------------
 
     private static void sendExceptionInfo(TestSuiteChromosome testSuite) {
@@ -29,6 +29,7 @@ import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.ga.stoppingconditions.StoppingCondition;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.rmi.service.ClientState;
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
@@ -182,7 +183,9 @@ public class IndividualTestStrategy extends TestGenerationStrategy {
 
                 // Perform search
                 logger.info("Starting evolution for goal " + fitnessFunction);
+                ExecutionProfiler.getInstance().setGoal(fitnessFunction.toString());
                 ga.generateSolution();
+                ExecutionProfiler.getInstance().setGoal(null);
 
                 if (ga.getBestIndividual().getFitness() == 0.0) {
                     if (Properties.PRINT_COVERED_GOALS)
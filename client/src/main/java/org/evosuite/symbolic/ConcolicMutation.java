@@ -20,6 +20,7 @@
 package org.evosuite.symbolic;
 
 import org.evosuite.symbolic.expr.*;
+import org.evosuite.symbolic.solver.ConstraintSlicer;
 import org.evosuite.symbolic.solver.SolverResult;
 import org.evosuite.symbolic.solver.SolverUtils;
 import org.evosuite.testcase.TestCase;
@@ -158,59 +159,7 @@ public class ConcolicMutation {
      * @return
      */
     private static List<Constraint<?>> reduce(List<Constraint<?>> constraints) {
-
         Constraint<?> target = constraints.get(constraints.size() - 1);
-        Set<Variable<?>> dependencies = getVariables(target);
-
-        LinkedList<Constraint<?>> coi = new LinkedList<>();
-        coi.add(target);
-
-        for (int i = constraints.size() - 2; i >= 0; i--) {
-            Constraint<?> constraint = constraints.get(i);
-            Set<Variable<?>> variables = getVariables(constraint);
-            for (Variable<?> var : dependencies) {
-                if (variables.contains(var)) {
-                    dependencies.addAll(variables);
-                    coi.addFirst(constraint);
-                    break;
-                }
-            }
-        }
-        return coi;
-    }
-
-    /**
-     * Determine the set of variable referenced by this constraint
-     *
-     * @param constraint
-     * @return
-     */
-    private static Set<Variable<?>> getVariables(Constraint<?> constraint) {
-        Set<Variable<?>> variables = new HashSet<>();
-        getVariables(constraint.getLeftOperand(), variables);
-        getVariables(constraint.getRightOperand(), variables);
-        return variables;
-    }
-
-    /**
-     * Recursively determine constraints in expression
-     *
-     * @param expr
-     * @param variables
-     */
-    private static void getVariables(Expression<?> expr, Set<Variable<?>> variables) {
-        if (expr instanceof Variable<?>) {
-            variables.add((Variable<?>) expr);
-        } else if (expr instanceof BinaryExpression<?>) {
-            BinaryExpression<?> bin = (BinaryExpression<?>) expr;
-            getVariables(bin.getLeftOperand(), variables);
-            getVariables(bin.getRightOperand(), variables);
-        } else if (expr instanceof UnaryExpression<?>) {
-            UnaryExpression<?> un = (UnaryExpression<?>) expr;
-            getVariables(un.getOperand(), variables);
-        } else if (expr instanceof Constraint<?>) {
-            // ignore
-
-        }
+        return ConstraintSlicer.sliceFor(constraints, target);
     }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.ConstraintEvaluator;
+import org.evosuite.symbolic.expr.fp.RealVariable;
+import org.evosuite.symbolic.expr.str.StringVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Constraint independence optimization for solver queries.
+ * <p>
+ * Two constraints are dependent if they share a variable, directly or transitively through other
+ * constraints of the query. The query is partitioned into the resulting independent clusters, so that
+ * only the clusters that actually need solving are sent to the solver.
+ */
+public abstract class ConstraintSlicer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConstraintSlicer.class);
+
+    public static final String CONSTRAINTS_CANNOT_BE_NULL = "Constraints cannot be null.";
+    public static final String TARGET_IS_NOT_PART_OF_THE_CONSTRAINTS = "Target constraint is not part of the constraints.";
+
+    /**
+     * Partitions the constraints into clusters that do not share any variable. The order of the
+     * constraints inside each cluster, and the order of the clusters (by first constraint), follows the
+     * order of the given collection.
+     *
+     * @param constraints
+     * @return the list of independent clusters
+     */
+    public static List<List<Constraint<?>>> partition(Collection<Constraint<?>> constraints) {
+        if (constraints == null) throw new IllegalArgumentException(CONSTRAINTS_CANNOT_BE_NULL);
+
+        List<Constraint<?>> constraintList = new ArrayList<>(constraints);
+        int[] parent = new int[constraintList.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        // union all constraints that mention the same variable
+        Map<Variable<?>, Integer> firstOccurrence = new HashMap<>();
+        for (int i = 0; i < constraintList.size(); i++) {
+            for (Variable<?> variable : constraintList.get(i).getVariables()) {
+                Integer other = firstOccurrence.get(variable);
+                if (other == null) {
+                    firstOccurrence.put(variable, i);
+                } else {
+                    union(parent, i, other);
+                }
+            }
+        }
+
+        Map<Integer, List<Constraint<?>>> clustersByRoot = new HashMap<>();
+        List<List<Constraint<?>>> clusters = new ArrayList<>();
+        for (int i = 0; i < constraintList.size(); i++) {
+            int root = find(parent, i);
+            List<Constraint<?>> cluster = clustersByRoot.get(root);
+            if (cluster == null) {
+                cluster = new ArrayList<>();
+                clustersByRoot.put(root, cluster);
+                clusters.add(cluster);
+            }
+            cluster.add(constraintList.get(i));
+        }
+        return clusters;
+    }
+
+    /**
+     * Returns the constraints of the cluster the target constraint belongs to, i.e. the transitive cone of
+     * influence of the target.
+     *
+     * @param constraints
+     * @param target      a constraint contained in <code>constraints</code>
+     * @return the constraints the target depends on, including the target itself
+     */
+    public static List<Constraint<?>> sliceFor(List<Constraint<?>> constraints, Constraint<?> target) {
+        if (constraints == null) throw new IllegalArgumentException(CONSTRAINTS_CANNOT_BE_NULL);
+
+        Set<Variable<?>> dependencies = target.getVariables();
+        if (dependencies.isEmpty()) {
+            LinkedList<Constraint<?>> slice = new LinkedList<>();
+            slice.add(target);
+            return slice;
+        }
+
+        for (List<Constraint<?>> cluster : partition(constraints)) {
+            if (cluster.contains(target)) {
+                return new LinkedList<>(cluster);
+            }
+        }
+        throw new IllegalArgumentException(TARGET_IS_NOT_PART_OF_THE_CONSTRAINTS);
+    }
+
+    /**
+     * Drops all the independent clusters of the query that are already satisfied by the current
+     * concrete values of their variables, i.e. by the model of the execution the query was derived from.
+     * The concrete values of the variables in the dropped clusters are kept as the reused part of the
+     * model.
+     *
+     * @param constraints
+     * @return the sliced query
+     */
+    public static SlicedQuery slice(Collection<Constraint<?>> constraints) {
+        if (constraints == null) throw new IllegalArgumentException(CONSTRAINTS_CANNOT_BE_NULL);
+
+        List<Constraint<?>> query = new ArrayList<>();
+        Map<String, Object> reusedModel = new HashMap<>();
+        for (List<Constraint<?>> cluster : partition(constraints)) {
+            if (isSatisfiedByConcreteValues(cluster)) {
+                for (Constraint<?> constraint : cluster) {
+                    addConcreteValues(constraint.getVariables(), reusedModel);
+                }
+            } else {
+                query.addAll(cluster);
+            }
+        }
+
+        logger.debug("Sliced query from {} to {} constraints", constraints.size(), query.size());
+        return new SlicedQuery(query, reusedModel);
+    }
+
+    private static boolean isSatisfiedByConcreteValues(List<Constraint<?>> cluster) {
+        ConstraintEvaluator evaluator = new ConstraintEvaluator();
+        try {
+            for (Constraint<?> constraint : cluster) {
+                Boolean evaluation = (Boolean) constraint.accept(evaluator, null);
+                if (evaluation == null || !evaluation) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // the evaluator does not support every expression, let the solver decide
+            logger.debug("Could not evaluate cluster with concrete values: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Only the variable types the solvers report in their models are reused.
+     *
+     * @param variables
+     * @param model
+     */
+    private static void addConcreteValues(Set<Variable<?>> variables, Map<String, Object> model) {
+        for (Variable<?> variable : variables) {
+            if (variable instanceof IntegerVariable
+                    || variable instanceof RealVariable
+                    || variable instanceof StringVariable) {
+                model.put(variable.getName(), variable.getConcreteValue());
+            }
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int i, int j) {
+        int rootI = find(parent, i);
+        int rootJ = find(parent, j);
+        if (rootI != rootJ) {
+            // keep the smallest index as root so that clusters stay in query order
+            parent[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+        }
+    }
+
+    /**
+     * Result of slicing a query: the constraints that still need to be solved, plus the values of the
+     * variables whose constraints were already satisfied.
+     */
+    public static final class SlicedQuery {
+
+        private final List<Constraint<?>> query;
+        private final Map<String, Object> reusedModel;
+
+        private SlicedQuery(List<Constraint<?>> query, Map<String, Object> reusedModel) {
+            this.query = query;
+            this.reusedModel = reusedModel;
+        }
+
+        public List<Constraint<?>> getQuery() {
+            return query;
+        }
+
+        public Map<String, Object> getReusedModel() {
+            return new HashMap<>(reusedModel);
+        }
+
+        public boolean isEmpty() {
+            return query.isEmpty();
+        }
+
+        /**
+         * Completes the model of the sliced query with the reused values.
+         *
+         * @param solverResult the result obtained for the sliced query
+         * @return a result covering all the variables of the original query
+         */
+        public SolverResult merge(SolverResult solverResult) {
+            if (solverResult == null || !solverResult.isSAT()) {
+                return solverResult;
+            }
+            Map<String, Object> model = getReusedModel();
+            model.putAll(solverResult.getModel());
+            return SolverResult.newSAT(model);
+        }
+    }
+}
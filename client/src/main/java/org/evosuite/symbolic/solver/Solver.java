@@ -19,6 +19,7 @@
  */
 package org.evosuite.symbolic.solver;
 
+import org.evosuite.Properties;
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.Variable;
 import org.evosuite.symbolic.expr.bv.IntegerVariable;
@@ -70,6 +71,18 @@ public abstract class Solver {
      * @throws SolverErrorException      the solver reported an error after its execution
      */
     public SolverResult solve(Collection<Constraint<?>> constraints) throws SolverTimeoutException, SolverParseException, SolverEmptyQueryException, SolverErrorException, IOException {
+        if (Properties.DSE_CONSTRAINT_SLICING && !constraints.isEmpty()) {
+            ConstraintSlicer.SlicedQuery slicedQuery = ConstraintSlicer.slice(constraints);
+            if (slicedQuery.isEmpty()) {
+                // the current concrete values already satisfy every constraint
+                return SolverResult.newSAT(slicedQuery.getReusedModel());
+            }
+            return slicedQuery.merge(solveWithCache(slicedQuery.getQuery()));
+        }
+        return solveWithCache(constraints);
+    }
+
+    private SolverResult solveWithCache(Collection<Constraint<?>> constraints) throws SolverTimeoutException, SolverParseException, SolverEmptyQueryException, SolverErrorException, IOException {
         if (solverCache.hasCachedResult(constraints)) {
             return solverCache.getCachedResult();
         }
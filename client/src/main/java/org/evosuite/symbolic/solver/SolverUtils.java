@@ -167,24 +167,10 @@ public abstract class SolverUtils {
         Constraint<?> target = constraints.get(constraints.size() - 1);
         Set<Variable<?>> dependencies = getVariables(target);
 
-        LinkedList<Constraint<?>> coi = new LinkedList<>();
         if (dependencies.size() <= 0)
-            return coi;
-
-        coi.add(target);
-
-        for (int i = constraints.size() - 2; i >= 0; i--) {
-            Constraint<?> constraint = constraints.get(i);
-            Set<Variable<?>> variables = getVariables(constraint);
-            for (Variable<?> var : dependencies) {
-                if (variables.contains(var)) {
-                    dependencies.addAll(variables);
-                    coi.addFirst(constraint);
-                    break;
-                }
-            }
-        }
-        return coi;
+            return new LinkedList<>();
+
+        return ConstraintSlicer.sliceFor(constraints, target);
     }
 
     /**
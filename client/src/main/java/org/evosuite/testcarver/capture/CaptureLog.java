@@ -133,21 +133,22 @@ public final class CaptureLog implements Cloneable {
      * Main constructor
      */
     public CaptureLog() {
-        this.objectIds = new ArrayList<>();
-        this.methodNames = new ArrayList<>();
+        // ints, booleans and strings are stored in compact columns, as there can be millions of records
+        this.objectIds = new CaptureLogColumns.IntColumn();
+        this.methodNames = new CaptureLogColumns.StringColumn();
         this.params = new ArrayList<>();
-        this.captureIds = new ArrayList<>();
+        this.captureIds = new CaptureLogColumns.IntColumn();
         this.returnValues = new ArrayList<>();
-        this.descList = new ArrayList<>();
+        this.descList = new CaptureLogColumns.StringColumn();
 
         this.oidRecMapping = new LinkedHashMap<>();
-        this.oidInitRecNo = new ArrayList<>();
-        this.oidClassNames = new ArrayList<>();
-        this.oids = new ArrayList<>();
-        this.oidFirstInits = new ArrayList<>();
-        this.oidDependencies = new ArrayList<>();
+        this.oidInitRecNo = new CaptureLogColumns.IntColumn();
+        this.oidClassNames = new CaptureLogColumns.StringColumn();
+        this.oids = new CaptureLogColumns.IntColumn();
+        this.oidFirstInits = new CaptureLogColumns.IntColumn();
+        this.oidDependencies = new CaptureLogColumns.IntColumn();
 
-        this.isStaticCallList = new ArrayList<>();
+        this.isStaticCallList = new CaptureLogColumns.BooleanColumn();
 
         this.oidNamesOfAccessedFields = new LinkedHashMap<>();
 
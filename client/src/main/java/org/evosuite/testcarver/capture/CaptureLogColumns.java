@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Compact storage for the columns of a {@link CaptureLog}.
+ *
+ * <p>
+ * A log has one record per observed call, and tests carved from long system
+ * tests can have millions of them. The columns are still exposed as lists,
+ * but store primitive values, and strings (method names, descriptors, class
+ * names) as indexes in a table of distinct strings.
+ */
+final class CaptureLogColumns {
+
+    private CaptureLogColumns() {
+    }
+
+    /**
+     * List of ints backed by an array
+     */
+    static final class IntColumn extends AbstractList<Integer> implements RandomAccess {
+
+        private int[] values = new int[16];
+
+        private int size = 0;
+
+        @Override
+        public Integer get(int index) {
+            return getInt(index);
+        }
+
+        int getInt(int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        @Override
+        public Integer set(int index, Integer value) {
+            checkIndex(index);
+            int old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean add(Integer value) {
+            addInt(value);
+            return true;
+        }
+
+        void addInt(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            modCount++;
+        }
+
+        @Override
+        public void clear() {
+            if (values.length > 1024) {
+                // do not keep the memory of a huge log
+                values = new int[16];
+            }
+            size = 0;
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+    }
+
+    /**
+     * List of strings, each one stored as the index of the string in a table
+     * of distinct strings
+     */
+    static final class StringColumn extends AbstractList<String> implements RandomAccess {
+
+        private final List<String> strings = new ArrayList<>();
+
+        private final Map<String, Integer> stringIds = new HashMap<>();
+
+        private final IntColumn ids = new IntColumn();
+
+        private static final int NULL_ID = -1;
+
+        private int intern(String value) {
+            if (value == null) {
+                return NULL_ID;
+            }
+            Integer id = stringIds.get(value);
+            if (id == null) {
+                id = strings.size();
+                strings.add(value);
+                stringIds.put(value, id);
+            }
+            return id;
+        }
+
+        @Override
+        public String get(int index) {
+            int id = ids.getInt(index);
+            return id == NULL_ID ? null : strings.get(id);
+        }
+
+        @Override
+        public String set(int index, String value) {
+            String old = get(index);
+            ids.set(index, intern(value));
+            return old;
+        }
+
+        @Override
+        public boolean add(String value) {
+            ids.addInt(intern(value));
+            modCount++;
+            return true;
+        }
+
+        /**
+         * Also forgets all the strings
+         */
+        @Override
+        public void clear() {
+            ids.clear();
+            strings.clear();
+            stringIds.clear();
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return ids.size();
+        }
+
+        int getNumberOfDistinctStrings() {
+            return strings.size();
+        }
+    }
+
+    /**
+     * List of booleans, stored as bits. Nulls are not allowed.
+     */
+    static final class BooleanColumn extends AbstractList<Boolean> implements RandomAccess {
+
+        private final BitSet values = new BitSet();
+
+        private int size = 0;
+
+        @Override
+        public Boolean get(int index) {
+            checkIndex(index);
+            return values.get(index);
+        }
+
+        @Override
+        public Boolean set(int index, Boolean value) {
+            checkIndex(index);
+            boolean old = values.get(index);
+            values.set(index, value);
+            return old;
+        }
+
+        @Override
+        public boolean add(Boolean value) {
+            values.set(size++, value);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+            size = 0;
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+    }
+}
@@ -125,7 +125,7 @@ public class CarvingRunListener extends RunListener {
     private void processLog(Description description, final CaptureLog log) {
         final CaptureLogAnalyzer analyzer = new CaptureLogAnalyzer();
         final EvoTestCaseCodeGenerator codeGen = new EvoTestCaseCodeGenerator();
-        logger.debug("Current log: " + log);
+        logger.debug("Current log: {}", log);
         List<Class<?>> observedClasses = getObservedClasses(log);
         for (Class<?> targetClass : observedClasses) {
             logger.debug("Current observed class: {}", targetClass.getName());
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The definitions (or uses) passed during an execution, by variable and by
+ * object.
+ *
+ * <p>
+ * For each variable and object, the duCounter positions at which a definition
+ * (or use) was passed are kept in a sorted array of ints, together with the
+ * id of the definition (or use). Positions are increasing during an
+ * execution, so adding an entry is an append, and questions such as "which
+ * definition was active at position p" are a binary search.
+ */
+public class DefUseTrace {
+
+    /**
+     * The entries of one variable on one object, sorted by position
+     */
+    private static final class Entries {
+
+        private int[] positions = new int[4];
+
+        private int[] ids = new int[4];
+
+        private int size = 0;
+
+        private void add(int position, int id) {
+            // the tracer ignores other threads, and the duCounter is incremented after each entry
+            assert size == 0 || positions[size - 1] < position;
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            positions[size] = position;
+            ids[size] = id;
+            size++;
+        }
+
+        /**
+         * @return the index of the first entry after the given position, or
+         * {@code size} if there is none
+         */
+        private int indexAfter(int position) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (positions[middle] <= position) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private final Map<String, Map<Integer, Entries>> entries = new HashMap<>();
+
+    /**
+     * Record that the given definition (or use) was passed
+     *
+     * @param variableName the name of the variable
+     * @param objectId     the id of the object, or 0 for static variables
+     * @param position     the duCounter at which it was passed
+     * @param id           the id of the definition (or use)
+     */
+    public void add(String variableName, int objectId, int position, int id) {
+        entries.computeIfAbsent(variableName, k -> new HashMap<>())
+                .computeIfAbsent(objectId, k -> new Entries())
+                .add(position, id);
+    }
+
+    private Entries getEntries(String variableName, int objectId) {
+        Map<Integer, Entries> objects = entries.get(variableName);
+        return objects == null ? null : objects.get(objectId);
+    }
+
+    /**
+     * @return the id of the last entry strictly before the given position, or
+     * -1 if there is none
+     */
+    public int getIdBefore(String variableName, int objectId, int position) {
+        return getIdAtOrBefore(variableName, objectId, position - 1);
+    }
+
+    /**
+     * @return the id of the last entry at or before the given position, or -1
+     * if there is none
+     */
+    public int getIdAtOrBefore(String variableName, int objectId, int position) {
+        Entries current = getEntries(variableName, objectId);
+        if (current == null) {
+            return -1;
+        }
+        int index = current.indexAfter(position) - 1;
+        return index < 0 ? -1 : current.ids[index];
+    }
+
+    /**
+     * @return the position of the first entry after the given position whose id
+     * is not the given one, or {@link Integer#MAX_VALUE} if there is none
+     */
+    public int getNextPositionWithOtherId(String variableName, int objectId, int position, int id) {
+        Entries current = getEntries(variableName, objectId);
+        if (current == null) {
+            return Integer.MAX_VALUE;
+        }
+        for (int i = current.indexAfter(position); i < current.size; i++) {
+            if (current.ids[i] != id) {
+                return current.positions[i];
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return the positions of all the entries with the given id, in ascending
+     * order
+     */
+    public List<Integer> getPositions(String variableName, int objectId, int id) {
+        List<Integer> positions = new ArrayList<>();
+        Entries current = getEntries(variableName, objectId);
+        if (current == null) {
+            return positions;
+        }
+        for (int i = 0; i < current.size; i++) {
+            if (current.ids[i] == id) {
+                positions.add(current.positions[i]);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * @return the ids of the entries in the given range of positions (both
+     * included), each one pointing to its first position in the range, in the
+     * order of these positions
+     */
+    public Map<Integer, Integer> getFirstPositionsBetween(String variableName, int objectId,
+                                                         int start, int end) {
+        Map<Integer, Integer> firstPositions = new LinkedHashMap<>();
+        Entries current = getEntries(variableName, objectId);
+        if (current == null) {
+            return firstPositions;
+        }
+        for (int i = current.indexAfter(start - 1); i < current.size && current.positions[i] <= end; i++) {
+            firstPositions.putIfAbsent(current.ids[i], current.positions[i]);
+        }
+        return firstPositions;
+    }
+}
@@ -113,6 +113,15 @@ public abstract class ExecutionObserver {
      */
     public abstract void clear();
 
+    /**
+     * Whether everything this observer produces is stored in the {@link ExecutionResult}
+     * in {@link #testExecutionFinished}, so that the result of a test can be reused
+     * instead of executing the test again
+     */
+    public boolean isResultCacheable() {
+        return false;
+    }
+
     /**
      * Determine the set of variables that somehow lead to this statement
      *
@@ -23,7 +23,6 @@ import org.evosuite.assertion.OutputTrace;
 import org.evosuite.coverage.io.input.InputCoverageGoal;
 import org.evosuite.coverage.io.output.OutputCoverageGoal;
 import org.evosuite.coverage.mutation.Mutation;
-import org.evosuite.ga.metaheuristics.mapelites.FeatureVector;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.statements.Statement;
 import org.slf4j.Logger;
@@ -77,6 +76,12 @@ public class ExecutionResult implements Cloneable {
      */
     protected boolean hasSecurityException = false;
 
+    /**
+     * Did the execution complete normally, ie without timeout nor any
+     * interruption of the executor?
+     */
+    protected boolean completedNormally = false;
+
     /**
      * Set of System properties that were read during test execution
      */
@@ -87,7 +92,9 @@ public class ExecutionResult implements Cloneable {
      */
     protected boolean wasAnyPropertyWritten;
 
-    private List<FeatureVector> featureVectors = new ArrayList<>(1);
+    private long[] featureCells = new long[1];
+
+    private int numberOfFeatureCells = 0;
 
     /**
      * @return the executedStatements
@@ -388,6 +395,14 @@ public class ExecutionResult implements Cloneable {
         hasSecurityException = value;
     }
 
+    public boolean hasCompletedNormally() {
+        return completedNormally;
+    }
+
+    public void setCompletedNormally(boolean value) {
+        completedNormally = value;
+    }
+
     /**
      * @return the executionTime
      */
@@ -412,6 +427,9 @@ public class ExecutionResult implements Cloneable {
         copy.trace = trace.lazyClone();
         copy.explicitExceptions.putAll(explicitExceptions);
         copy.executionTime = executionTime;
+        copy.executedStatements = executedStatements;
+        copy.hasSecurityException = hasSecurityException;
+        copy.completedNormally = completedNormally;
         copy.inputGoals = new LinkedHashMap<>(inputGoals);
         copy.outputGoals = new LinkedHashMap<>(outputGoals);
         for (Class<?> clazz : traces.keySet()) {
@@ -422,7 +440,8 @@ public class ExecutionResult implements Cloneable {
             copy.readProperties.addAll(readProperties);
         }
         copy.wasAnyPropertyWritten = wasAnyPropertyWritten;
-        copy.featureVectors = new ArrayList<>(this.featureVectors);
+        copy.featureCells = this.featureCells.clone();
+        copy.numberOfFeatureCells = this.numberOfFeatureCells;
 
         return copy;
     }
@@ -472,20 +491,24 @@ public class ExecutionResult implements Cloneable {
     }
 
     /**
-     * Add a feature vector for MAPElites
+     * Add the cell of an instance of the target class in the feature grid of
+     * MAPElites
      *
-     * @param vector The feature vector.
+     * @param cell The cell, as computed by the feature grid.
      */
-    public void addFeatureVector(FeatureVector vector) {
-        this.featureVectors.add(vector);
+    public void addFeatureCell(long cell) {
+        if (this.numberOfFeatureCells == this.featureCells.length) {
+            this.featureCells = Arrays.copyOf(this.featureCells, this.numberOfFeatureCells * 2);
+        }
+        this.featureCells[this.numberOfFeatureCells++] = cell;
     }
 
     /**
-     * Get the feature vectors for MAPElites
+     * Get the feature grid cells for MAPElites
      *
-     * @return The feature vector if set or {@code null}
+     * @return A copy of the cells, one per instance of the target class
      */
-    public List<FeatureVector> getFeatureVectors() {
-        return Collections.unmodifiableList(this.featureVectors);
+    public long[] getFeatureCells() {
+        return Arrays.copyOf(this.featureCells, this.numberOfFeatureCells);
     }
 }
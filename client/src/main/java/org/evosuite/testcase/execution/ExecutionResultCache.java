@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.environment.AccessedEnvironment;
+import org.evosuite.testcase.utils.TestCaseStructure;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the results of executed tests, used to avoid re-executing
+ * tests that are structurally identical to tests that were already executed
+ * (eg, re-generated sequences, or offspring identical to their parents).
+ *
+ * <p>
+ * Tests are identified by a {@link TestCaseStructure#hash(TestCase) hash} of
+ * their statements. As different tests can have the same hash, a hit is only
+ * returned if the cached test is the {@link TestCaseStructure#isSame(TestCase, TestCase) same}
+ * as the executed test.
+ *
+ * <p>
+ * Only results of deterministic executions should be stored, see
+ * {@link #isCacheable(ExecutionResult)}. Least recently used entries are
+ * evicted once the max size is reached.
+ */
+public class ExecutionResultCache {
+
+    private static final class Entry {
+        private final TestCase test;
+        private final ExecutionResult result;
+
+        private Entry(TestCase test, ExecutionResult result) {
+            this.test = test;
+            this.result = result;
+        }
+    }
+
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries;
+
+    private int hits = 0;
+
+    private int misses = 0;
+
+    public ExecutionResultCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache size: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = -2316396137441874384L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > ExecutionResultCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Compute the key under which the result of executing the given test is stored.
+     * Besides the statements, this also depends on the timeout and on what the
+     * execution tracer is currently recording.
+     *
+     * <p>
+     * Note: statements can be modified in place, so the key has to be computed
+     * every time the test is executed.
+     */
+    public static long computeKey(TestCase tc, int timeout) {
+        long key = timeout;
+        key = 31 * key + (ExecutionTracer.isEnabled() ? 1 : 0);
+        key = 31 * key + (ExecutionTraceImpl.traceCalls ? 1 : 0);
+        key = 31 * key + (ExecutionTraceImpl.traceCoverage ? 1 : 0);
+        key = 31 * key + (ExecutionTraceImpl.disableContext ? 1 : 0);
+        return 1_000_003L * key + TestCaseStructure.hash(tc);
+    }
+
+    /**
+     * Whether the given result can be reused for other executions of the same test,
+     * ie, there is nothing in it that depends on anything else than the test itself.
+     * Results of executions that did not complete normally (eg, interrupted
+     * executions) are never reused.
+     */
+    public static boolean isCacheable(ExecutionResult result) {
+        if (!result.hasCompletedNormally() || result.hasTimeout() || result.hasSecurityException()
+                || result.wasAnyPropertyWritten() || result.getTrace() == null) {
+            return false;
+        }
+        AccessedEnvironment environment = result.test.getAccessedEnvironment();
+        return !environment.isFileSystemAccessed() && !environment.isNetworkAccessed();
+    }
+
+    /**
+     * @return a copy of the cached result of executing {@code tc}, or {@code null} if there is none
+     */
+    public ExecutionResult get(long key, TestCase tc) {
+        Entry entry = entries.get(key);
+        if (entry == null || !TestCaseStructure.isSame(entry.test, tc)) {
+            misses++;
+            return null;
+        }
+        hits++;
+        ExecutionResult copy = entry.result.clone();
+        copy.setTest(tc);
+        return copy;
+    }
+
+    /**
+     * Store the result of executing {@code tc}. Both test and result are
+     * copied, as they can be modified after the execution.
+     */
+    public void put(long key, TestCase tc, ExecutionResult result) {
+        TestCase copy = tc.clone();
+        ExecutionResult resultCopy = result.clone();
+        resultCopy.setTest(copy);
+        entries.put(key, new Entry(copy, resultCopy));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
@@ -250,6 +250,20 @@ public interface ExecutionTrace {
      */
     Map<Integer, HashMap<Integer, Integer>> getPassedUses(String variableName);
 
+    /**
+     * Retrieve the data definitions, sorted by duCounter
+     *
+     * @return a {@link org.evosuite.testcase.execution.DefUseTrace} object.
+     */
+    DefUseTrace getDefinitionTrace();
+
+    /**
+     * Retrieve the data uses, sorted by duCounter
+     *
+     * @return a {@link org.evosuite.testcase.execution.DefUseTrace} object.
+     */
+    DefUseTrace getUseTrace();
+
     /**
      * Retrieve the exception thrown in this trace
      *
@@ -264,6 +278,15 @@ public interface ExecutionTrace {
      */
     List<MethodCall> getMethodCalls();
 
+    /**
+     * Retrieve the traced calls of the given method
+     *
+     * @param className  the name of the class of the method
+     * @param methodName the name and descriptor of the method
+     * @return the calls, in the same order as in {@link #getMethodCalls()}
+     */
+    List<MethodCall> getMethodCalls(String className, String methodName);
+
     /**
      * Retrieve the names of all called methods
      *
@@ -562,6 +585,14 @@ public interface ExecutionTrace {
      */
     Set<String> getClassesWithStaticWrites();
 
+    /**
+     * Retrieve the names of the static fields affected by a PUTSTATIC, for
+     * each class in {@link #getClassesWithStaticWrites()}.
+     *
+     * @return
+     */
+    Map<String, Set<String>> getStaticFieldWrites();
+
     /**
      * Retrieve a list of those classes that were affected by a GETSTATIC.
      *
@@ -227,6 +227,11 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
     private final Map<Integer, Double> falseDistancesSum = Collections.synchronizedMap(new HashMap<>());
     // finished_calls;
     public List<MethodCall> finishedCalls = Collections.synchronizedList(new ArrayList<>());
+    // finished calls by class and method name, built on demand
+    private Map<String, Map<String, List<MethodCall>>> finishedCallsByMethod = null;
+    // the finished calls as they were when indexed
+    private List<MethodCall> indexedCalls = null;
+    private int indexedCallsSize = -1;
     public Map<Integer, Object> knownCallerObjects = Collections.synchronizedMap(new HashMap<>());
     // to differentiate between different MethodCalls
     private int methodId = 0;
@@ -240,6 +245,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
             .synchronizedMap(new HashMap<>());
     public Map<String, HashMap<Integer, HashMap<Integer, Integer>>> passedUses = Collections
             .synchronizedMap(new HashMap<>());
+    // the same data, sorted by duCounter for position queries
+    private DefUseTrace definitionTrace = new DefUseTrace();
+    private DefUseTrace useTrace = new DefUseTrace();
 
     public Map<String, HashMap<Integer, HashMap<Integer, Object>>> passedDefinitionObject = Collections
             .synchronizedMap(new HashMap<>());
@@ -555,6 +563,8 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         coveredDefs = new HashMap<>();
         passedDefinitions = new HashMap<>();
         passedUses = new HashMap<>();
+        definitionTrace = new DefUseTrace();
+        useTrace = new DefUseTrace();
         passedDefinitionObject = new HashMap<>();
         passedUseObject = new HashMap<>();
         branchesTrace = new ArrayList<>();
@@ -565,6 +575,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         initializedClasses = new ArrayList<>();
         classesWithStaticReads = new HashSet<>();
         classesWithStaticWrites = new HashSet<>();
+        staticFieldWrites = new HashMap<>();
     }
 
     /**
@@ -603,6 +614,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         copy.mutantDistances.putAll(mutantDistances);
         copy.passedDefinitions.putAll(passedDefinitions);
         copy.passedUses.putAll(passedUses);
+        // shared, as the maps of the passed definitions and uses above
+        copy.definitionTrace = definitionTrace;
+        copy.useTrace = useTrace;
         copy.passedDefinitionObject.putAll(passedDefinitionObject);
         copy.passedUseObject.putAll(passedUseObject);
         copy.branchesTrace.addAll(branchesTrace);
@@ -614,6 +628,9 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         copy.initializedClasses.addAll(initializedClasses);
         copy.classesWithStaticReads.addAll(classesWithStaticReads);
         copy.classesWithStaticWrites.addAll(classesWithStaticWrites);
+        for (Entry<String, Set<String>> entry : staticFieldWrites.entrySet()) {
+            copy.staticFieldWrites.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
 
         copy.methodId = methodId;
         copy.duCounter = duCounter;
@@ -672,6 +689,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         defsObject.put(duCounter, object);
         passedDefinitions.get(varName).put(objectID, defs);
         passedDefinitionObject.get(varName).put(objectID, defsObject);
+        definitionTrace.add(varName, objectID, duCounter, defID);
 
         // logger.trace(duCounter+": set active definition for var
         // "+def.getDUVariableName()+" on object "+objectID+" to Def "+defID);
@@ -1049,6 +1067,37 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         return finishedCalls;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The finished calls are indexed on the first lookup, and indexed again
+     * only if they changed since. The index is not safely published, so
+     * lookups are meant to be done by one thread only, once the execution
+     * has finished.
+     */
+    @Override
+    public List<MethodCall> getMethodCalls(String className, String methodName) {
+        if (finishedCallsByMethod == null || indexedCalls != finishedCalls
+                || indexedCallsSize != finishedCalls.size()) {
+            Map<String, Map<String, List<MethodCall>>> callsByMethod = new HashMap<>();
+            synchronized (finishedCalls) {
+                for (MethodCall call : finishedCalls) {
+                    callsByMethod.computeIfAbsent(call.className, k -> new HashMap<>())
+                            .computeIfAbsent(call.methodName, k -> new ArrayList<>())
+                            .add(call);
+                }
+                indexedCallsSize = finishedCalls.size();
+            }
+            finishedCallsByMethod = callsByMethod;
+            indexedCalls = finishedCalls;
+        }
+        Map<String, List<MethodCall>> calls = finishedCallsByMethod.get(className);
+        if (calls == null || !calls.containsKey(methodName)) {
+            return Collections.emptyList();
+        }
+        return calls.get(methodName);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -1120,6 +1169,22 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         return passedUses.get(variableName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefUseTrace getDefinitionTrace() {
+        return definitionTrace;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefUseTrace getUseTrace() {
+        return useTrace;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -1735,6 +1800,7 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         usesObject.put(duCounter, object);
         passedUses.get(varName).put(objectID, uses);
         passedUseObject.get(varName).put(objectID, usesObject);
+        useTrace.add(varName, objectID, duCounter, useID);
         duCounter++;
     }
 
@@ -1857,9 +1923,16 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
      */
     private HashSet<String> classesWithStaticWrites = new HashSet<>();
 
+    /**
+     * The names of the static fields written (i.e. PUTSTATIC) during test
+     * execution, for each class in <code>classesWithStaticWrites</code>.
+     */
+    private HashMap<String, Set<String>> staticFieldWrites = new HashMap<>();
+
     @Override
     public void putStaticPassed(String classNameWithDots, String fieldName) {
         classesWithStaticWrites.add(classNameWithDots);
+        staticFieldWrites.computeIfAbsent(classNameWithDots, k -> new HashSet<>()).add(fieldName);
     }
 
     /**
@@ -1878,6 +1951,11 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
         return classesWithStaticWrites;
     }
 
+    @Override
+    public Map<String, Set<String>> getStaticFieldWrites() {
+        return staticFieldWrites;
+    }
+
     /**
      * This field keeps the names of those classes that were initialized (ie
      * <clinit> was completed during this test execution). The list has no
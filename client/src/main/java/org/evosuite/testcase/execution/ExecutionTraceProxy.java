@@ -364,6 +364,14 @@ public class ExecutionTraceProxy implements ExecutionTrace, Cloneable {
         return trace.getMethodCalls();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MethodCall> getMethodCalls(String className, String methodName) {
+        return trace.getMethodCalls(className, methodName);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -435,6 +443,22 @@ public class ExecutionTraceProxy implements ExecutionTrace, Cloneable {
         return trace.getPassedUses(variableName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefUseTrace getDefinitionTrace() {
+        return trace.getDefinitionTrace();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DefUseTrace getUseTrace() {
+        return trace.getUseTrace();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -851,6 +875,11 @@ public class ExecutionTraceProxy implements ExecutionTrace, Cloneable {
         return trace.getClassesWithStaticWrites();
     }
 
+    @Override
+    public Map<String, Set<String>> getStaticFieldWrites() {
+        return trace.getStaticFieldWrites();
+    }
+
     @Override
     public void classInitialized(String classNameWithDots) {
         trace.classInitialized(classNameWithDots);
@@ -23,6 +23,7 @@ import org.evosuite.coverage.dataflow.DefUsePool;
 import org.evosuite.coverage.dataflow.Definition;
 import org.evosuite.coverage.dataflow.Use;
 import org.evosuite.instrumentation.testability.BooleanHelper;
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.seeding.ConstantPoolManager;
 import org.objectweb.asm.Opcodes;
 import org.slf4j.Logger;
@@ -266,8 +267,10 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         //logger.trace("Entering method " + classname + "." + methodname);
         tracer.trace.enteredMethod(classname, methodname, caller);
+        exitProfiledCallback(profiled);
     }
 
     /**
@@ -356,8 +359,10 @@ public class ExecutionTracer {
         if (isThreadNeqCurrentThread())
             return;
 
+        boolean profiled = enterProfiledCallback();
         tracer.trace.exitMethod(classname, methodname);
         // logger.trace("Left method " + classname + "." + methodname);
+        exitProfiledCallback(profiled);
     }
 
     /**
@@ -375,6 +380,20 @@ public class ExecutionTracer {
         }
     }
 
+    /**
+     * Start accounting the time of a callback to the tracer, if profiling is on.
+     * A callback that throws does not call {@link #exitProfiledCallback(boolean)}:
+     * its stage is closed together with the enclosing SUT stage, see
+     * {@link ExecutionProfiler#exit(ExecutionProfiler.Stage, boolean)}
+     */
+    private static boolean enterProfiledCallback() {
+        return ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.TRACER);
+    }
+
+    private static void exitProfiledCallback(boolean profiled) {
+        ExecutionProfiler.getInstance().exit(profiled);
+    }
+
     private static boolean isInStaticInit() {
         for (StackTraceElement elem : Thread.currentThread().getStackTrace()) {
             if (elem.getMethodName().equals("<clinit>"))
@@ -400,7 +419,9 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         tracer.trace.linePassed(className, methodName, line);
+        exitProfiledCallback(profiled);
     }
 
     /**
@@ -423,6 +444,7 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         ConstantPoolManager.getInstance().addDynamicConstant(val);
 
         // logger.trace("Called passedBranch1 with opcode "+AbstractVisitor.OPCODES[opcode]+" and val "+val+" in branch "+branch);
@@ -472,6 +494,7 @@ public class ExecutionTracer {
 
         // Add current branch to control trace
         tracer.trace.branchPassed(branch, bytecode_id, distance_true, distance_false);
+        exitProfiledCallback(profiled);
     }
 
     public static void passedPutStatic(String classNameWithDots, String fieldName) {
@@ -548,6 +571,7 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         ConstantPoolManager.getInstance().addDynamicConstant(val1);
         ConstantPoolManager.getInstance().addDynamicConstant(val2);
 
@@ -601,6 +625,7 @@ public class ExecutionTracer {
         // Add current branch to control trace
         tracer.trace.branchPassed(branch, bytecode_id, distance_true, distance_false);
         // tracer.trace.branchPassed(branch, distance_true, distance_false);
+        exitProfiledCallback(profiled);
 
     }
 
@@ -624,6 +649,7 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         double distance_true = 0;
         double distance_false = 0;
         // logger.warn("Disabling tracer: passedBranch with 2 Objects");
@@ -641,6 +667,7 @@ public class ExecutionTracer {
 
         // Add current branch to control trace
         tracer.trace.branchPassed(branch, bytecode_id, distance_true, distance_false);
+        exitProfiledCallback(profiled);
     }
 
     /**
@@ -661,6 +688,7 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         double distance_true = 0;
         double distance_false = 0;
         switch (opcode) {
@@ -681,6 +709,7 @@ public class ExecutionTracer {
 
         // Add current branch to control trace
         tracer.trace.branchPassed(branch, bytecode_id, distance_true, distance_false);
+        exitProfiledCallback(profiled);
     }
 
     /**
@@ -765,7 +794,9 @@ public class ExecutionTracer {
 
         checkTimeout();
 
+        boolean profiled = enterProfiledCallback();
         tracer.trace.mutationPassed(mutationId, distance);
+        exitProfiledCallback(profiled);
     }
 
     /**
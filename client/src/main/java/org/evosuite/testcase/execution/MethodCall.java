@@ -25,7 +25,9 @@
 package org.evosuite.testcase.execution;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MethodCall implements Cloneable {
     public String className;
@@ -39,6 +41,17 @@ public class MethodCall implements Cloneable {
     public int callingObjectID;
     public int callDepth;
 
+    /**
+     * Branch id -> minimal true and false distances of the branch in this call,
+     * built on demand from the traces
+     */
+    private Map<Integer, double[]> minimalBranchDistances = null;
+
+    /**
+     * Size of the branch trace when the minimal distances were computed
+     */
+    private int indexedTraceSize = -1;
+
     /**
      * <p>Constructor for MethodCall.</p>
      *
@@ -62,6 +75,36 @@ public class MethodCall implements Cloneable {
         this.callDepth = callDepth;
     }
 
+    /**
+     * Get the minimal distances of all the evaluations of the given branch in
+     * this call. The traces are indexed on the first lookup, and indexed again
+     * only if they changed size since. The index is not safely published, so
+     * this is meant to be called by one thread only.
+     *
+     * @param branchId the actual id of the branch
+     * @return the minimal true distance at index 0 and the minimal false distance
+     * at index 1, or {@code null} if the branch was not evaluated in this call
+     */
+    public double[] getMinimalBranchDistances(int branchId) {
+        if (minimalBranchDistances == null || indexedTraceSize != branchTrace.size()) {
+            Map<Integer, double[]> distances = new HashMap<>();
+            for (int pos = 0; pos < branchTrace.size(); pos++) {
+                double trueDistance = trueDistanceTrace.get(pos);
+                double falseDistance = falseDistanceTrace.get(pos);
+                double[] minimal = distances.get(branchTrace.get(pos));
+                if (minimal == null) {
+                    distances.put(branchTrace.get(pos), new double[]{trueDistance, falseDistance});
+                } else {
+                    minimal[0] = Math.min(minimal[0], trueDistance);
+                    minimal[1] = Math.min(minimal[1], falseDistance);
+                }
+            }
+            minimalBranchDistances = distances;
+            indexedTraceSize = branchTrace.size();
+        }
+        return minimalBranchDistances.get(branchId);
+    }
+
     /**
      * {@inheritDoc}
      */
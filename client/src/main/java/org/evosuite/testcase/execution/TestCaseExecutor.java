@@ -21,6 +21,7 @@ package org.evosuite.testcase.execution;
 
 import org.evosuite.Properties;
 import org.evosuite.TestGenerationContext;
+import org.evosuite.coverage.mutation.MutationObserver;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxTestsStoppingCondition;
 import org.evosuite.runtime.LoopCounter;
@@ -29,6 +30,7 @@ import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.runtime.util.JOptionPaneInputs;
 import org.evosuite.runtime.util.SystemInUtil;
+import org.evosuite.seeding.ConstantPoolManager;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
@@ -38,6 +40,7 @@ import org.slf4j.LoggerFactory;
 import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
 
@@ -86,6 +89,11 @@ public class TestCaseExecutor implements ThreadFactory {
 
     private final Set<Thread> stalledThreads = new HashSet<>();
 
+    /**
+     * Results of previous executions, created on first use
+     */
+    private ExecutionResultCache resultCache = null;
+
     /**
      * Constant <code>timeExecuted=0</code>
      */
@@ -174,6 +182,7 @@ public class TestCaseExecutor implements ThreadFactory {
                 instance.executor.shutdownNow();
                 instance.executor = null;
             }
+            instance.clearResultCache();
         }
     }
 
@@ -205,6 +214,7 @@ public class TestCaseExecutor implements ThreadFactory {
         if (!observers.contains(observer)) {
             logger.debug("Adding observer");
             observers.add(observer);
+            clearResultCache();
         }
         // FIXXME: Find proper solution for this
         // for (ExecutionObserver o : observers)
@@ -225,6 +235,7 @@ public class TestCaseExecutor implements ThreadFactory {
         if (observers.contains(observer)) {
             logger.debug("Removing observer");
             observers.remove(observer);
+            clearResultCache();
         }
     }
 
@@ -235,6 +246,7 @@ public class TestCaseExecutor implements ThreadFactory {
      */
     public void newObservers() {
         observers = new LinkedHashSet<>();
+        clearResultCache();
     }
 
     public Set<ExecutionObserver> getExecutionObservers() {
@@ -265,6 +277,20 @@ public class TestCaseExecutor implements ThreadFactory {
      * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
      */
     public ExecutionResult execute(TestCase tc, int timeout) {
+        boolean useCache = isResultCacheEnabled();
+        long cacheKey = 0L;
+        if (useCache) {
+            cacheKey = ExecutionResultCache.computeKey(tc, timeout);
+            ExecutionResult cached = resultCache.get(cacheKey, tc);
+            if (cached != null) {
+                logger.debug("Reusing result of previous execution of the same test");
+                MaxTestsStoppingCondition.testExecuted();
+                // only results of tests that did not access the environment are cached
+                tc.getAccessedEnvironment().clear();
+                return cached;
+            }
+        }
+
         Scope scope = new Scope();
         ExecutionResult result = execute(tc, scope, timeout);
 
@@ -272,9 +298,45 @@ public class TestCaseExecutor implements ThreadFactory {
             logger.debug("Resetting classes after execution");
             ClassReInitializer.getInstance().reInitializeClassesAfterTestExecution(tc, result);
         }
+
+        if (useCache && ExecutionResultCache.isCacheable(result)) {
+            resultCache.put(cacheKey, tc, result);
+        }
         return result;
     }
 
+    /**
+     * Results can only be reused if executing the same test again would give
+     * the same result, which requires static state to be reset and
+     * non-deterministic calls to be replaced. Furthermore, all observers
+     * need to store their output in the result.
+     */
+    private boolean isResultCacheEnabled() {
+        if (Properties.EXECUTION_RESULT_CACHE_SIZE <= 0 || !Properties.RESET_STATIC_FIELDS
+                || !Properties.REPLACE_CALLS || MutationObserver.activeMutation != -1) {
+            return false;
+        }
+        for (ExecutionObserver observer : observers) {
+            if (!observer.isResultCacheable()) {
+                return false;
+            }
+        }
+        if (resultCache == null) {
+            resultCache = new ExecutionResultCache(Properties.EXECUTION_RESULT_CACHE_SIZE);
+        }
+        return true;
+    }
+
+    /**
+     * Discard the results of previous executions, eg because the observers
+     * or the instrumented classes have changed
+     */
+    public void clearResultCache() {
+        if (resultCache != null) {
+            resultCache.clear();
+        }
+    }
+
     /**
      * Execute a test case on an existing scope
      *
@@ -343,22 +405,15 @@ public class TestCaseExecutor implements ThreadFactory {
             long endTime = System.currentTimeMillis();
             timeExecuted += endTime - startTime;
             testsExecuted++;
+            result.setCompletedNormally(true);
             return result;
         } catch (ThreadDeath t) {
             logger.warn("Caught ThreadDeath during test execution");
-            ExecutionResult result = new ExecutionResult(tc, null);
-            result.setThrownExceptions(callable.getExceptionsThrown());
-            result.setTrace(ExecutionTracer.getExecutionTracer().getTrace());
-            ExecutionTracer.getExecutionTracer().clear();
-            return result;
+            return getResultOfAbortedExecution(tc, callable.getExceptionsThrown());
 
         } catch (InterruptedException e1) {
             logger.info("InterruptedException");
-            ExecutionResult result = new ExecutionResult(tc, null);
-            result.setThrownExceptions(callable.getExceptionsThrown());
-            result.setTrace(ExecutionTracer.getExecutionTracer().getTrace());
-            ExecutionTracer.getExecutionTracer().clear();
-            return result;
+            return getResultOfAbortedExecution(tc, callable.getExceptionsThrown());
         } catch (ExecutionException e1) {
             /*
              * An ExecutionException at this point, is most likely an error in
@@ -369,10 +424,7 @@ public class TestCaseExecutor implements ThreadFactory {
             System.setErr(systemErr);
 
             logger.error("ExecutionException (this is likely a serious error in the framework)", e1);
-            ExecutionResult result = new ExecutionResult(tc, null);
-            result.setThrownExceptions(callable.getExceptionsThrown());
-            result.setTrace(ExecutionTracer.getExecutionTracer().getTrace());
-            ExecutionTracer.getExecutionTracer().clear();
+            ExecutionResult result = getResultOfAbortedExecution(tc, callable.getExceptionsThrown());
             if (e1.getCause() instanceof Error) { // an error was thrown
                 // somewhere in evosuite
                 // code
@@ -469,11 +521,8 @@ public class TestCaseExecutor implements ThreadFactory {
                 TestGenerationContext.getInstance().doneWithExecutingSUTCode();
             }
 
-            ExecutionResult result = new ExecutionResult(tc, null);
-            result.setThrownExceptions(callable.getExceptionsThrown());
+            ExecutionResult result = getResultOfAbortedExecution(tc, callable.getExceptionsThrown());
             result.reportNewThrownException(tc.size(), new TestCaseExecutor.TimeoutExceeded());
-            result.setTrace(ExecutionTracer.getExecutionTracer().getTrace());
-            ExecutionTracer.getExecutionTracer().clear();
             ExecutionTracer.setKillSwitch(false);
             ExecutionTracer.enable();
             System.setOut(systemOut);
@@ -484,9 +533,23 @@ public class TestCaseExecutor implements ThreadFactory {
             if (threadGroup != null)
                 PermissionStatistics.getInstance().countThreads(threadGroup.activeCount());
             TestCluster.getInstance().handleRuntimeAccesses(tc);
+            ConstantPoolManager.getInstance().flushDynamicConstants();
         }
     }
 
+    /**
+     * Create the result of an execution that did not complete normally (eg, it
+     * timed out or the executor was interrupted), with what was traced so far.
+     * Such a result is never reused for other executions of the same test.
+     */
+    static ExecutionResult getResultOfAbortedExecution(TestCase tc, Map<Integer, Throwable> exceptionsThrown) {
+        ExecutionResult result = new ExecutionResult(tc, null);
+        result.setThrownExceptions(exceptionsThrown);
+        result.setTrace(ExecutionTracer.getExecutionTracer().getTrace());
+        ExecutionTracer.getExecutionTracer().clear();
+        return result;
+    }
+
     private boolean isInStaticInit() {
         for (StackTraceElement elem : currentThread.getStackTrace()) {
             if (elem.getMethodName().equals("<clinit>"))
@@ -541,6 +604,7 @@ public class TestCaseExecutor implements ThreadFactory {
 
     public void setExecutionObservers(Set<ExecutionObserver> observers) {
         this.observers = observers;
+        clearResultCache();
     }
 
 }
@@ -22,6 +22,7 @@ package org.evosuite.testcase.execution;
 import org.evosuite.PackageInfo;
 import org.evosuite.Properties;
 import org.evosuite.dse.VMError;
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.runtime.System.SystemExitException;
 import org.evosuite.runtime.jvm.ShutdownHookHandler;
 import org.evosuite.runtime.thread.KillSwitch;
@@ -123,9 +124,11 @@ public class TestRunnable implements InterfaceTestRunnable {
      */
     protected void informObservers_before(Statement s) {
         ExecutionTracer.disable();
+        boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.OBSERVER);
         try {
             observers.forEach(o -> o.beforeStatement(s, scope));
         } finally {
+            ExecutionProfiler.getInstance().exit(profiled);
             ExecutionTracer.enable();
         }
     }
@@ -139,18 +142,22 @@ public class TestRunnable implements InterfaceTestRunnable {
      */
     protected void informObservers_after(Statement s, Throwable exceptionThrown) {
         ExecutionTracer.disable();
+        boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.OBSERVER);
         try {
             observers.forEach(o -> o.afterStatement(s, scope, exceptionThrown));
         } finally {
+            ExecutionProfiler.getInstance().exit(profiled);
             ExecutionTracer.enable();
         }
     }
 
     protected void informObservers_finished(ExecutionResult result) {
         ExecutionTracer.disable();
+        boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.OBSERVER);
         try {
             observers.forEach(o -> o.testExecutionFinished(result, scope));
         } finally {
+            ExecutionProfiler.getInstance().exit(profiled);
             ExecutionTracer.enable();
         }
     }
@@ -189,7 +196,12 @@ public class TestRunnable implements InterfaceTestRunnable {
                 ShutdownHookHandler.getInstance().initHandler();
             }
 
-            executeStatements(result, out, num);
+            boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.SUT);
+            try {
+                executeStatements(result, out, num);
+            } finally {
+                ExecutionProfiler.getInstance().exit(ExecutionProfiler.Stage.SUT, profiled);
+            }
         } catch (ThreadDeath e) {// can't stop these guys
             logger.info("Found error in " + test.toCode(), e);
             throw e; // this needs to be propagated
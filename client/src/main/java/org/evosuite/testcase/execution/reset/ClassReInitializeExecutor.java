@@ -32,6 +32,8 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class implements the actual invocation to the __STATIC_RESET() method
@@ -70,6 +72,20 @@ class ClassReInitializeExecutor {
      * @param loader
      */
     public void resetClasses(List<String> classesToReset, ClassLoader loader) {
+        resetClasses(classesToReset, loader, null);
+    }
+
+    /**
+     * Resets the classes passes in the list using the given class loader. If
+     * <code>dirtyFields</code> is not null, classes whose static state was
+     * recorded after a previous reset get only their static fields restored:
+     * the ones given in the map, or all of them for classes not in the map.
+     *
+     * @param classesToReset
+     * @param loader
+     * @param dirtyFields
+     */
+    public void resetClasses(List<String> classesToReset, ClassLoader loader, Map<String, Set<String>> dirtyFields) {
         // try to reset each collected class
 
         ClassResetter.getInstance().setClassLoader(loader);
@@ -86,11 +102,17 @@ class ClassReInitializeExecutor {
                 // Note: we no longer cancel the class re-initialization since
                 // it might leave the static data in an inconsistent state
             }
-            resetClass(className);
+            resetClass(className, dirtyFields);
         }
     }
 
-    private void resetClass(String className) {
+    private void resetClass(String className, Map<String, Set<String>> dirtyFields) {
+
+        boolean restoreFields = dirtyFields != null;
+        if (restoreFields && ClassResetter.getInstance().restoreStaticFields(className, dirtyFields.get(className))) {
+            logger.debug("Restored static fields of class " + className);
+            return;
+        }
 
         // className.__STATIC_RESET() exists
         logger.debug("Resetting class " + className);
@@ -111,6 +133,10 @@ class ClassReInitializeExecutor {
             if (resetMethod != null) {
                 LoopCounter.getInstance().setActive(false);
                 resetMethod.invoke(null, (Object[]) null);
+                if (restoreFields) {
+                    // next time, only the fields modified by the test need to be restored
+                    ClassResetter.getInstance().takeStaticFieldSnapshot(className);
+                }
             }
         } catch (Throwable e) {
             ClassResetter.getInstance().logWarn(className,
@@ -20,6 +20,7 @@
 package org.evosuite.testcase.execution.reset;
 
 import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
 import org.evosuite.assertion.CheapPurityAnalyzer;
 import org.evosuite.testcase.DefaultTestCase;
 import org.evosuite.testcase.TestCase;
@@ -33,9 +34,13 @@ import org.evosuite.testcase.variable.FieldReference;
 import org.evosuite.testcase.variable.VariableReference;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This singleton class handles the re-initialization of classes after an
@@ -71,7 +76,8 @@ public class ClassReInitializer {
      * the classes to reset as part of their execute() method
      */
     private static HashSet<String> getMoreClassesToReset(TestCase tc, ExecutionResult result) {
-        HashSet<String> moreClassesForStaticReset = new HashSet<>();
+        HashSet<String> moreClassesForStaticReset = new HashSet<>(
+                getClassesWithAssignedStaticFields(tc, result.getExecutedStatements()));
         for (int position = 0; position < result.getExecutedStatements(); position++) {
             Statement statement = tc.getStatement(position);
 
@@ -85,15 +91,7 @@ public class ClassReInitializer {
                 }
             }
 
-            // Check for explicit assignments to static fields
-            if (statement.isAssignmentStatement()) {
-                if (statement.getReturnValue() instanceof FieldReference) {
-                    FieldReference fieldReference = (FieldReference) statement.getReturnValue();
-                    if (fieldReference.getField().isStatic()) {
-                        moreClassesForStaticReset.add(fieldReference.getField().getOwnerClass().getClassName());
-                    }
-                }
-            } else if (statement instanceof FieldStatement) {
+            if (statement instanceof FieldStatement) {
                 // Check if we are invoking a non-pure method on a static field
                 // variable
                 FieldStatement fieldStatement = (FieldStatement) statement;
@@ -121,14 +119,39 @@ public class ClassReInitializer {
                         }
                     }
                 }
+            }
+        }
+        return moreClassesForStaticReset;
+    }
+
+    /**
+     * Returns the classes whose static fields are explicitly assigned by the
+     * executed statements of a test, either directly or through reflection
+     *
+     * @param tc                 the test
+     * @param executedStatements the number of statements of the test that were
+     *                           executed
+     * @return the names of the owner classes of the assigned static fields
+     */
+    public static Set<String> getClassesWithAssignedStaticFields(TestCase tc, int executedStatements) {
+        Set<String> classes = new LinkedHashSet<>();
+        for (int position = 0; position < executedStatements; position++) {
+            Statement statement = tc.getStatement(position);
+            if (statement.isAssignmentStatement()) {
+                if (statement.getReturnValue() instanceof FieldReference) {
+                    FieldReference fieldReference = (FieldReference) statement.getReturnValue();
+                    if (fieldReference.getField().isStatic()) {
+                        classes.add(fieldReference.getField().getOwnerClass().getClassName());
+                    }
+                }
             } else if (statement instanceof PrivateFieldStatement) {
                 PrivateFieldStatement fieldStatement = (PrivateFieldStatement) statement;
                 if (fieldStatement.isStaticField()) {
-                    moreClassesForStaticReset.add(fieldStatement.getOwnerClassName());
+                    classes.add(fieldStatement.getOwnerClassName());
                 }
             }
         }
-        return moreClassesForStaticReset;
+        return classes;
     }
 
     /**
@@ -175,14 +198,32 @@ public class ClassReInitializer {
                     }
                 }
                 if (loader == null) {
-                    ClassReInitializeExecutor.getInstance().resetClasses(classesToReset);
-                } else {
-                    ClassReInitializeExecutor.getInstance().resetClasses(classesToReset, loader);
+                    loader = TestGenerationContext.getInstance().getClassLoaderForSUT();
+                }
+                Map<String, Set<String>> dirtyFields = null;
+                if (Properties.RESET_DIRTY_STATIC_FIELDS) {
+                    dirtyFields = getDirtyFields(trace, moreClassesForReset);
                 }
+                ClassReInitializeExecutor.getInstance().resetClasses(classesToReset, loader, dirtyFields);
             }
         }
     }
 
+    /**
+     * Collect the static fields written during the test execution. Classes
+     * that need to be reset for other reasons (eg, static fields read, or
+     * assigned by the test through reflection) are not included, as we do not
+     * know which of their fields might have been changed.
+     */
+    private static Map<String, Set<String>> getDirtyFields(ExecutionTrace trace, Set<String> moreClassesForReset) {
+        Map<String, Set<String>> dirtyFields = new HashMap<>(trace.getStaticFieldWrites());
+        if (Properties.RESET_STATIC_FIELD_GETS) {
+            dirtyFields.keySet().removeAll(trace.getClassesWithStaticReads());
+        }
+        dirtyFields.keySet().removeAll(moreClassesForReset);
+        return dirtyFields;
+    }
+
     private boolean reset_all_observed_classes = false;
 
     /**
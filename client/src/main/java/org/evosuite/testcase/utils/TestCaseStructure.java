@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.utils;
+
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.ArrayStatement;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.generic.GenericAccessibleObject;
+
+import java.util.Objects;
+
+/**
+ * Structural comparison of tests. {@link TestCase#equals(Object)} compares the
+ * statements by identity of their variables, so a test is not equal to its
+ * clones. Here, two tests are the same if all their statements are the
+ * {@link Statement#same(Statement) same}.
+ */
+public class TestCaseStructure {
+
+    private TestCaseStructure() {
+    }
+
+    /**
+     * Structural hash of the statements of a test (type, called
+     * method/constructor/field, primitive values and referenced variables):
+     * tests that are the {@link #isSame(TestCase, TestCase) same} have the
+     * same hash, even if they are different objects (eg, clones)
+     */
+    public static long hash(TestCase tc) {
+        long hash = tc.size();
+        for (Statement statement : tc) {
+            hash = 1_000_003L * hash + statementHash(statement);
+        }
+        return hash;
+    }
+
+    /**
+     * @return whether both tests have the same number of statements, and each
+     * statement of one is the {@link Statement#same(Statement) same} as the
+     * one at the same position in the other
+     */
+    public static boolean isSame(TestCase tc1, TestCase tc2) {
+        return tc1.size() == tc2.size() && tc1.isPrefix(tc2);
+    }
+
+    private static int statementHash(Statement statement) {
+        int hash = statement.getClass().hashCode();
+
+        GenericAccessibleObject<?> accessibleObject = statement.getAccessibleObject();
+        if (accessibleObject != null) {
+            hash = 31 * hash + accessibleObject.hashCode();
+        }
+
+        if (statement instanceof PrimitiveStatement) {
+            hash = 31 * hash + Objects.hashCode(((PrimitiveStatement<?>) statement).getValue());
+        } else if (statement instanceof ArrayStatement) {
+            hash = 31 * hash + ((ArrayStatement) statement).getLengths().hashCode();
+        }
+
+        // variables are in a set, so their order should not matter
+        int variables = 0;
+        for (VariableReference var : statement.getVariableReferences()) {
+            variables += 17 * var.getStPosition() + 1;
+        }
+        return 31 * hash + variables;
+    }
+}
@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -93,6 +94,23 @@ public class FileIOUtils {
     }
 
 
+    /**
+     * Write text to file, eg the content of a {@link StringBuilder}. As for the
+     * other overloads, missing parent directories are created and the default
+     * charset is used.
+     *
+     * @param file    - file to write to
+     * @param content - text to write into the file
+     */
+    public static void writeFile(CharSequence content, File file) {
+        try {
+            FileUtils.write(file, content, Charset.defaultCharset());
+        } catch (Exception e) {
+            logger.error("Error while writing file " + file.getName() + " , " +
+                    e.getMessage(), e);
+        }
+    }
+
     /**
      * Write string to file
      *
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive longs to objects, without boxing the keys.
+ *
+ * <p>
+ * Entries are kept in insertion order in dense arrays, which makes iterating
+ * over them or choosing one at random cheap. Lookups go through an open
+ * addressing table with linear probing that holds the indexes of the entries.
+ * Entries cannot be removed.
+ *
+ * @param <V> the type of the values
+ */
+public class LongObjectMap<V> {
+
+    private static final int EMPTY = -1;
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int size = 0;
+
+    /**
+     * Indexes of the entries, or {@link #EMPTY}. The length is a power of two
+     * and at least twice the number of entries.
+     */
+    private int[] slots;
+
+    public LongObjectMap() {
+        this(8);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Math.max(2, expectedSize);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.slots = new int[Integer.highestOneBit(capacity - 1) << 2];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @return the slot of the given key, or the empty slot where it would be
+     */
+    private int findSlot(long key) {
+        int mask = slots.length - 1;
+        int slot = hash(key) & mask;
+        while (slots[slot] != EMPTY && keys[slots[slot]] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    public boolean containsKey(long key) {
+        return slots[findSlot(key)] != EMPTY;
+    }
+
+    /**
+     * @return the value of the given key, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = slots[findSlot(key)];
+        return index == EMPTY ? null : (V) values[index];
+    }
+
+    /**
+     * @return the previous value of the given key, or {@code null} if there
+     * was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        int slot = findSlot(key);
+        int index = slots[slot];
+        if (index != EMPTY) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        values[size] = value;
+        slots[slot] = size;
+        size++;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return null;
+    }
+
+    private void rehash(int length) {
+        slots = new int[length];
+        Arrays.fill(slots, EMPTY);
+        for (int index = 0; index < size; index++) {
+            slots[findSlot(keys[index])] = index;
+        }
+    }
+
+    /**
+     * @param index the position of the entry in insertion order
+     */
+    public long getKey(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return keys[index];
+    }
+
+    /**
+     * @param index the position of the entry in insertion order
+     */
+    @SuppressWarnings("unchecked")
+    public V getValue(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (V) values[index];
+    }
+}
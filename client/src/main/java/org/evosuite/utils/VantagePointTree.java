@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Vantage point tree, to find the nearest neighbours of points in a metric
+ * space.
+ *
+ * <p>
+ * Each node splits its points in the ones inside and the ones outside the
+ * median distance to its vantage point. A search only visits the subtrees that
+ * can hold points closer than the k-th nearest point found so far, which
+ * requires the distance to satisfy the triangle inequality.
+ */
+public class VantagePointTree {
+
+    private static final class Node {
+        private final int point;
+        private double threshold;
+        private Node inside;
+        private Node outside;
+
+        private Node(int point) {
+            this.point = point;
+        }
+    }
+
+    private final List<double[]> points;
+
+    private final ToDoubleBiFunction<double[], double[]> metric;
+
+    private final Node root;
+
+    /**
+     * @param points the points, which must not be modified afterwards
+     * @param metric a distance between points, satisfying the triangle
+     *               inequality
+     */
+    public VantagePointTree(List<double[]> points, ToDoubleBiFunction<double[], double[]> metric) {
+        this.points = points;
+        this.metric = metric;
+        int[] indexes = new int[points.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        this.root = build(indexes, 0, indexes.length, new double[indexes.length]);
+    }
+
+    /**
+     * Build the subtree of the points in indexes[from, to)
+     */
+    private Node build(int[] indexes, int from, int to, double[] distances) {
+        if (from >= to) {
+            return null;
+        }
+        // the point in the middle, so building does not depend on the order of the points
+        int middle = (from + to) >>> 1;
+        swap(indexes, from, middle);
+        Node node = new Node(indexes[from]);
+        if (to - from == 1) {
+            return node;
+        }
+
+        double[] vantagePoint = points.get(node.point);
+        Integer[] others = new Integer[to - from - 1];
+        for (int i = from + 1; i < to; i++) {
+            distances[indexes[i]] = metric.applyAsDouble(vantagePoint, points.get(indexes[i]));
+            others[i - from - 1] = indexes[i];
+        }
+        Arrays.sort(others, (a, b) -> Double.compare(distances[a], distances[b]));
+        for (int i = 0; i < others.length; i++) {
+            indexes[from + 1 + i] = others[i];
+        }
+
+        int median = from + 1 + others.length / 2;
+        node.threshold = distances[indexes[median]];
+        node.inside = build(indexes, from + 1, median, distances);
+        node.outside = build(indexes, median, to, distances);
+        return node;
+    }
+
+    private static void swap(int[] indexes, int i, int j) {
+        int tmp = indexes[i];
+        indexes[i] = indexes[j];
+        indexes[j] = tmp;
+    }
+
+    /**
+     * Get the distances from a point of the tree to its nearest other points
+     *
+     * @param point the index of the point in the list the tree was built from.
+     *              The point itself is not a neighbour, but other equal points
+     *              are.
+     * @param k     the number of neighbours
+     * @return the distances to the (at most) k nearest neighbours, in ascending
+     * order
+     */
+    public double[] getNearestDistances(int point, int k) {
+        if (k <= 0) {
+            return new double[0];
+        }
+        // max heap of the k nearest distances found so far
+        PriorityQueue<Double> nearest = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b, a));
+        search(root, point, points.get(point), k, nearest);
+        double[] distances = new double[nearest.size()];
+        for (int i = distances.length - 1; i >= 0; i--) {
+            distances[i] = nearest.poll();
+        }
+        return distances;
+    }
+
+    private void search(Node node, int point, double[] target, int k, PriorityQueue<Double> nearest) {
+        if (node == null) {
+            return;
+        }
+        double distance = metric.applyAsDouble(target, points.get(node.point));
+        if (node.point != point) {
+            if (nearest.size() < k) {
+                nearest.add(distance);
+            } else if (distance < nearest.peek()) {
+                nearest.poll();
+                nearest.add(distance);
+            }
+        }
+        if (node.inside == null && node.outside == null) {
+            return;
+        }
+
+        // visit first the side of the target, then the other one if it can
+        // still hold closer points
+        if (distance < node.threshold) {
+            search(node.inside, point, target, k, nearest);
+            if (nearest.size() < k || distance + nearest.peek() >= node.threshold) {
+                search(node.outside, point, target, k, nearest);
+            }
+        } else {
+            search(node.outside, point, target, k, nearest);
+            if (nearest.size() < k || distance - nearest.peek() <= node.threshold) {
+                search(node.inside, point, target, k, nearest);
+            }
+        }
+    }
+}
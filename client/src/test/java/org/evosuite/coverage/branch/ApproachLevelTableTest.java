@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.branch;
+
+import org.evosuite.coverage.ControlFlowDistance;
+import org.evosuite.graphs.cfg.BytecodeInstruction;
+import org.evosuite.graphs.cfg.ControlDependency;
+import org.evosuite.testcase.execution.MethodCall;
+import org.junit.Test;
+
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApproachLevelTableTest {
+
+    /**
+     * @return a branch whose instruction is only dependent on the root branch,
+     * until dependencies are added with {@link #dependsOn}
+     */
+    private static Branch branch(int id) {
+        Branch branch = mock(Branch.class);
+        BytecodeInstruction instruction = mock(BytecodeInstruction.class);
+        when(branch.getInstruction()).thenReturn(instruction);
+        when(branch.getActualBranchId()).thenReturn(id);
+        when(instruction.getControlDependencies()).thenReturn(new LinkedHashSet<>());
+        return branch;
+    }
+
+    private static void dependsOn(Branch branch, Branch dependency, boolean value) {
+        branch.getInstruction().getControlDependencies().add(new ControlDependency(dependency, value));
+    }
+
+    private static MethodCall call() {
+        return new MethodCall("Foo", "bar()V", 1, 0, 0);
+    }
+
+    private static void addBranch(MethodCall call, Branch branch, double trueDistance, double falseDistance) {
+        call.branchTrace.add(branch.getActualBranchId());
+        call.trueDistanceTrace.add(trueDistance);
+        call.falseDistanceTrace.add(falseDistance);
+    }
+
+    private static void assertDistance(int approachLevel, double branchDistance, ControlFlowDistance distance) {
+        assertEquals(approachLevel, distance.getApproachLevel());
+        assertEquals(branchDistance, distance.getBranchDistance(), 0.0);
+    }
+
+    @Test
+    public void testNestedBranches() {
+        Branch outer = branch(1);
+        Branch inner = branch(2);
+        Branch target = branch(3);
+        dependsOn(inner, outer, false);
+        dependsOn(target, inner, true);
+
+        ApproachLevelTable table = ApproachLevelTable.create(target);
+        assertEquals(2, table.getNumberOfDependencies());
+
+        MethodCall call = call();
+        addBranch(call, outer, 0.0, 4.0);
+        // the outer branch did not take the false side
+        assertDistance(2, 4.0, table.getDistance(call));
+
+        addBranch(call, inner, 2.0, 0.0);
+        addBranch(call, inner, 1.0, 0.0);
+        // the closest evaluated dependency, with its minimal distance
+        assertDistance(1, 1.0, table.getDistance(call));
+
+        // nothing evaluated, but the method was entered
+        assertDistance(3, 0.0, table.getDistance(call()));
+    }
+
+    @Test
+    public void testLoops() {
+        Branch header = branch(1);
+        Branch body = branch(2);
+        Branch target = branch(3);
+        // the loop header is control dependent on itself, and the body on the
+        // target through the back edge
+        dependsOn(header, header, true);
+        dependsOn(body, header, true);
+        dependsOn(body, target, false);
+        dependsOn(target, body, true);
+
+        ApproachLevelTable table = ApproachLevelTable.create(target);
+        assertEquals(2, table.getNumberOfDependencies());
+
+        MethodCall call = call();
+        addBranch(call, header, 3.0, 0.0);
+        assertDistance(2, 3.0, table.getDistance(call));
+        assertDistance(3, 0.0, table.getDistance(call()));
+    }
+
+    @Test
+    public void testUnreachableBranch() {
+        Branch first = branch(1);
+        Branch second = branch(2);
+        Branch target = branch(3);
+        // a cycle that does not lead to the root branch
+        dependsOn(first, second, true);
+        dependsOn(second, first, true);
+        dependsOn(target, first, true);
+
+        ApproachLevelTable table = ApproachLevelTable.create(target);
+        assertEquals(2, table.getNumberOfDependencies());
+        assertNull(table.getDistance(call()));
+
+        MethodCall call = call();
+        addBranch(call, second, 5.0, 0.0);
+        assertDistance(2, 5.0, table.getDistance(call));
+    }
+
+    @Test
+    public void testShortestApproachLevel() {
+        Branch outer = branch(1);
+        Branch inner = branch(2);
+        Branch target = branch(3);
+        // the outer branch is a dependency at level 1 directly, and at level 2
+        // through the inner branch
+        dependsOn(inner, outer, true);
+        dependsOn(target, inner, true);
+        dependsOn(target, outer, false);
+
+        ApproachLevelTable table = ApproachLevelTable.create(target);
+        assertEquals(3, table.getNumberOfDependencies());
+
+        MethodCall call = call();
+        addBranch(call, outer, 0.0, 2.0);
+        assertDistance(1, 2.0, table.getDistance(call));
+
+        // the closest of the dependencies at the same level
+        addBranch(call, inner, 0.5, 0.0);
+        assertDistance(1, 0.5, table.getDistance(call));
+    }
+}
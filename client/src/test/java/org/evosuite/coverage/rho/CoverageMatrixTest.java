@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.coverage.rho;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+public class CoverageMatrixTest {
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    @Test
+    public void testLinesAreIndexedInGoalOrder() {
+        CoverageMatrix matrix = new CoverageMatrix(Arrays.asList(30, 10, 20));
+        Assert.assertEquals(3, matrix.getNumberOfGoals());
+        Assert.assertEquals(bits(0, 2), matrix.toBitSet(Arrays.asList(20, 30)));
+
+        // lines that are not goals are not mixed with the goals
+        BitSet withOtherLine = matrix.toBitSet(Arrays.asList(20, 30, 40));
+        Assert.assertEquals(bits(0, 2, 3), withOtherLine);
+        Assert.assertEquals(withOtherLine, matrix.toBitSet(Arrays.asList(40, 30, 20)));
+        Assert.assertEquals(3, withOtherLine.cardinality());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateGoals() {
+        new CoverageMatrix(Arrays.asList(10, 20, 10));
+    }
+
+    @Test
+    public void testCoveringTests() {
+        CoverageMatrix matrix = new CoverageMatrix(Arrays.asList(10, 20, 30));
+        BitSet first = matrix.toBitSet(Arrays.asList(10, 20, 40));
+        BitSet second = matrix.toBitSet(Collections.singletonList(20));
+
+        BitSet[] coveringTests = matrix.getCoveringTests(Arrays.asList(first, second), null, 0);
+        Assert.assertEquals(3, coveringTests.length);
+        Assert.assertEquals(bits(0), coveringTests[0]);
+        Assert.assertEquals(bits(0, 1), coveringTests[1]);
+        Assert.assertTrue(coveringTests[2].isEmpty());
+
+        // two previous tests, and no previous coverage for the last goal
+        BitSet[] previous = new BitSet[]{bits(1), bits()};
+        coveringTests = matrix.getCoveringTests(Arrays.asList(first, second), previous, 2);
+        Assert.assertEquals(bits(1, 2), coveringTests[0]);
+        Assert.assertEquals(bits(2, 3), coveringTests[1]);
+        Assert.assertTrue(coveringTests[2].isEmpty());
+        Assert.assertEquals(bits(1), previous[0]);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import org.evosuite.utils.Randomness;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class NoveltyFunctionTest {
+
+    private static class ValueNoveltyFunction extends NoveltyFunction<DummyChromosome> {
+        @Override
+        public double getDistance(DummyChromosome individual1, DummyChromosome individual2) {
+            return Math.abs(individual1.get(0) - individual2.get(0));
+        }
+    }
+
+    private static class ValueFeatureNoveltyFunction extends FeatureNoveltyFunction<DummyChromosome> {
+        @Override
+        public double[] getFeatures(DummyChromosome individual) {
+            return new double[]{individual.get(0)};
+        }
+
+        @Override
+        public double getFeatureDistance(double[] features1, double[] features2) {
+            return Math.abs(features1[0] - features2[0]);
+        }
+    }
+
+    private static List<DummyChromosome> createIndividuals(int... values) {
+        List<DummyChromosome> individuals = new ArrayList<>();
+        for (int value : values) {
+            individuals.add(new DummyChromosome(value));
+        }
+        return individuals;
+    }
+
+    @Test
+    public void testNoveltyOfNearestNeighbours() {
+        List<DummyChromosome> individuals = createIndividuals(0, 1, 3, 10);
+        Map<DummyChromosome, Double> novelty = new ValueNoveltyFunction().getNovelty(individuals,
+                Collections.emptyList(), 2);
+
+        Assert.assertEquals(4, novelty.size());
+        Assert.assertEquals(2.0, novelty.get(individuals.get(0)), 0.0);
+        Assert.assertEquals(1.5, novelty.get(individuals.get(1)), 0.0);
+        Assert.assertEquals(2.5, novelty.get(individuals.get(2)), 0.0);
+        Assert.assertEquals(8.0, novelty.get(individuals.get(3)), 0.0);
+    }
+
+    @Test
+    public void testFewerNeighboursThanK() {
+        List<DummyChromosome> individuals = createIndividuals(0, 2, 4);
+        Map<DummyChromosome, Double> novelty = new ValueNoveltyFunction().getNovelty(individuals,
+                Collections.emptyList(), 10);
+
+        Assert.assertEquals(3.0, novelty.get(individuals.get(0)), 0.0);
+        Assert.assertEquals(2.0, novelty.get(individuals.get(1)), 0.0);
+    }
+
+    @Test
+    public void testArchivedIndividualsAreOnlyNeighbours() {
+        List<DummyChromosome> individuals = createIndividuals(0, 10);
+        // the first one is still in the population, so it is not its own neighbour
+        List<DummyChromosome> archive = Arrays.asList(individuals.get(0), new DummyChromosome(9));
+
+        Map<DummyChromosome, Double> novelty = new ValueNoveltyFunction().getNovelty(individuals, archive, 1);
+        Assert.assertEquals(2, novelty.size());
+        Assert.assertEquals(9.0, novelty.get(individuals.get(0)), 0.0);
+        Assert.assertEquals(1.0, novelty.get(individuals.get(1)), 0.0);
+    }
+
+    @Test
+    public void testEqualIndividualsAreDistinctNeighbours() {
+        List<DummyChromosome> individuals = createIndividuals(5, 5, 8);
+        Map<DummyChromosome, Double> novelty = new ValueFeatureNoveltyFunction().getNovelty(individuals,
+                Collections.emptyList(), 1);
+
+        Assert.assertEquals(3, novelty.size());
+        Assert.assertEquals(0.0, novelty.get(individuals.get(0)), 0.0);
+        Assert.assertEquals(0.0, novelty.get(individuals.get(1)), 0.0);
+        Assert.assertEquals(3.0, novelty.get(individuals.get(2)), 0.0);
+    }
+
+    @Test
+    public void testFeaturesGiveTheSameNovelty() {
+        Randomness.setSeed(42);
+        List<DummyChromosome> individuals = new ArrayList<>();
+        List<DummyChromosome> archive = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            individuals.add(new DummyChromosome(Randomness.nextInt(1000)));
+            archive.add(new DummyChromosome(Randomness.nextInt(1000)));
+        }
+        archive.add(individuals.get(0));
+
+        Map<DummyChromosome, Double> expected = new ValueNoveltyFunction().getNovelty(individuals, archive, 5);
+        Map<DummyChromosome, Double> actual = new ValueFeatureNoveltyFunction().getNovelty(individuals, archive, 5);
+        Assert.assertEquals(individuals.size(), actual.size());
+        for (DummyChromosome individual : individuals) {
+            Assert.assertEquals(expected.get(individual), actual.get(individual), 0.000001);
+        }
+    }
+}
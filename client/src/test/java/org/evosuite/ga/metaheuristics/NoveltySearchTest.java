@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.NoveltyFunction;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NoveltySearchTest {
+
+    private final Map<TestChromosome, Integer> values = new IdentityHashMap<>();
+
+    private int archiveSize;
+
+    private int neighbours;
+
+    @Before
+    public void saveProperties() {
+        archiveSize = Properties.NOVELTY_ARCHIVE_SIZE;
+        neighbours = Properties.NOVELTY_NEIGHBOURS;
+    }
+
+    @After
+    public void restoreProperties() {
+        Properties.NOVELTY_ARCHIVE_SIZE = archiveSize;
+        Properties.NOVELTY_NEIGHBOURS = neighbours;
+    }
+
+    private NoveltySearch createSearch() {
+        NoveltySearch search = new NoveltySearch(null);
+        search.setNoveltyFunction(new NoveltyFunction<TestChromosome>() {
+            @Override
+            public double getDistance(TestChromosome individual1, TestChromosome individual2) {
+                return Math.abs(values.get(individual1) - values.get(individual2));
+            }
+        });
+        return search;
+    }
+
+    private TestChromosome createIndividual(int value) {
+        TestChromosome individual = new TestChromosome();
+        individual.setTestCase(new DefaultTestCase());
+        values.put(individual, value);
+        return individual;
+    }
+
+    private void evaluate(NoveltySearch search, TestChromosome... individuals) {
+        search.population.clear();
+        search.population.addAll(Arrays.asList(individuals));
+        search.calculateNoveltyAndSortPopulation();
+    }
+
+    @Test
+    public void testMostNovelIndividualIsArchived() {
+        Properties.NOVELTY_ARCHIVE_SIZE = 2;
+        Properties.NOVELTY_NEIGHBOURS = 1;
+        NoveltySearch search = createSearch();
+
+        TestChromosome first = createIndividual(10);
+        evaluate(search, createIndividual(0), createIndividual(1), first);
+        Assert.assertSame(first, search.population.get(0));
+        Assert.assertEquals(1, search.getNoveltyArchive().size());
+        Assert.assertSame(first, search.getNoveltyArchive().get(0));
+
+        // the archived individual is the nearest neighbour of 9
+        TestChromosome second = createIndividual(5);
+        evaluate(search, createIndividual(0), createIndividual(1), second, createIndividual(9));
+        Assert.assertSame(second, search.population.get(0));
+        Assert.assertEquals(2, search.getNoveltyArchive().size());
+        Assert.assertSame(second, search.getNoveltyArchive().get(1));
+
+        // the oldest one is dropped
+        TestChromosome third = createIndividual(20);
+        evaluate(search, createIndividual(0), third);
+        List<TestChromosome> archive = search.getNoveltyArchive();
+        Assert.assertEquals(2, archive.size());
+        Assert.assertSame(second, archive.get(0));
+        Assert.assertSame(third, archive.get(1));
+    }
+
+    @Test
+    public void testNothingIsArchivedWithoutNovelty() {
+        Properties.NOVELTY_ARCHIVE_SIZE = 2;
+        Properties.NOVELTY_NEIGHBOURS = 1;
+        NoveltySearch search = createSearch();
+
+        evaluate(search, createIndividual(3), createIndividual(3));
+        Assert.assertTrue(search.getNoveltyArchive().isEmpty());
+
+        Properties.NOVELTY_ARCHIVE_SIZE = 0;
+        evaluate(search, createIndividual(0), createIndividual(10));
+        Assert.assertTrue(search.getNoveltyArchive().isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mapelites;
+
+import org.evosuite.assertion.Inspector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FeatureGridTest {
+
+    private enum Colour {RED, GREEN, BLUE}
+
+    @SuppressWarnings("unused")
+    private static class Features {
+        public int getInt() {
+            return 0;
+        }
+
+        public Boolean getBoolean() {
+            return null;
+        }
+
+        public Colour getColour() {
+            return Colour.RED;
+        }
+    }
+
+    private static Inspector inspector(String name) throws NoSuchMethodException {
+        return new Inspector(Features.class, Features.class.getMethod(name));
+    }
+
+    @Test
+    public void testCellCount() throws NoSuchMethodException {
+        FeatureGrid grid = new FeatureGrid(new Inspector[]{
+                inspector("getInt"), inspector("getBoolean"), inspector("getColour")});
+
+        // sign of an int, true/false/null, one of three colours or null
+        Assert.assertEquals(3, grid.getFeatureCount());
+        Assert.assertEquals(3 * 3 * 4, grid.getCellCount());
+        Assert.assertEquals(1, new FeatureGrid(new Inspector[0]).getCellCount());
+    }
+
+    @Test
+    public void testGroups() {
+        Assert.assertEquals(-1, FeatureGrid.getGroup(Integer.MIN_VALUE));
+        Assert.assertEquals(1, FeatureGrid.getGroup(42L));
+        Assert.assertEquals(0, FeatureGrid.getGroup(0.0));
+        Assert.assertEquals(1, FeatureGrid.getGroup(Double.NaN));
+        Assert.assertEquals(0, FeatureGrid.getGroup(""));
+        Assert.assertEquals(1, FeatureGrid.getGroup(true));
+        Assert.assertEquals(2, FeatureGrid.getGroup(Colour.BLUE));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import org.evosuite.ga.DummyChromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.comparators.DominanceComparator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class FitnessMatrixTest {
+
+    /**
+     * A goal whose fitness is one of the genes of the chromosome
+     */
+    private static class GeneGoal extends FitnessFunction<DummyChromosome> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int position;
+
+        private GeneGoal(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public double getFitness(DummyChromosome individual) {
+            return individual.get(position);
+        }
+
+        @Override
+        public boolean isMaximizationFunction() {
+            return false;
+        }
+    }
+
+    @Test
+    public void testDominanceAsComparator() {
+        Set<FitnessFunction<DummyChromosome>> goals = new LinkedHashSet<>(
+                Arrays.asList(new GeneGoal(0), new GeneGoal(1)));
+        List<DummyChromosome> solutions = Arrays.asList(
+                new DummyChromosome(1, 1), new DummyChromosome(2, 2),
+                new DummyChromosome(0, 3), new DummyChromosome(1, 1));
+
+        FitnessMatrix<DummyChromosome> matrix = new FitnessMatrix<>(solutions, goals);
+        DominanceComparator<DummyChromosome> comparator = new DominanceComparator<>(goals);
+
+        assertEquals(2, matrix.getNumberOfGoals());
+        assertEquals(3.0, matrix.getFitness(1, 2), 0.0);
+        for (int s1 = 0; s1 < solutions.size(); s1++) {
+            for (int s2 = 0; s2 < solutions.size(); s2++) {
+                assertEquals(comparator.compare(solutions.get(s1), solutions.get(s2)),
+                        matrix.compareDominance(s1, s2));
+            }
+        }
+    }
+
+    @Test
+    public void testPreferenceAndIndexes() {
+        List<DummyChromosome> solutions = Arrays.asList(new DummyChromosome(3), new DummyChromosome(1));
+        FitnessMatrix<DummyChromosome> matrix = new FitnessMatrix<>(solutions, Arrays.asList(new GeneGoal(0)));
+
+        assertEquals(1, matrix.comparePreference(0, 0, 1));
+        assertEquals(-1, matrix.comparePreference(0, 1, 0));
+        assertEquals(0, matrix.comparePreference(0, 1, 1));
+        assertEquals(1, matrix.indexOf(solutions.get(1)));
+        // by identity
+        assertEquals(-1, matrix.indexOf(new DummyChromosome(3)));
+    }
+}
@@ -22,7 +22,12 @@ package org.evosuite.junit;
 import org.evosuite.junit.examples.*;
 import org.junit.Test;
 
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class CoverageAnalysisTest {
@@ -41,4 +46,25 @@ public class CoverageAnalysisTest {
         assertFalse(CoverageAnalysis.isTest(JUnit4Categories.class));
         assertTrue(CoverageAnalysis.isTest(JUnit4ParameterizedTest.class));
     }
+
+    @Test
+    public void testExecuteParameterizedTest() {
+        JUnitRunner runner = new JUnitRunner(JUnit4ParameterizedTest.class);
+        runner.run();
+        List<JUnitResult> results = runner.getTestResults();
+        assertEquals(2, results.size());
+
+        for (JUnitResult result : results) {
+            JUnitResult again = CoverageAnalysis.executeTest(result);
+            assertNotNull(result.getName(), again);
+            assertEquals(result.getName(), again.getName());
+            assertEquals(result.getFailureCount(), again.getFailureCount());
+        }
+    }
+
+    @Test
+    public void testExecuteUnknownTest() {
+        // the whole class is run, but none of its tests has this name
+        assertNull(CoverageAnalysis.executeTest(new JUnitResult("test[0]", JUnit4ParameterizedTest.class)));
+    }
 }
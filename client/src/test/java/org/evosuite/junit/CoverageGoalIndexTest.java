@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import org.evosuite.coverage.method.MethodCoverageTestFitness;
+import org.evosuite.coverage.method.MethodTraceCoverageTestFitness;
+import org.evosuite.testcase.TestFitnessFunction;
+import org.evosuite.testcase.execution.ExecutionTrace;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CoverageGoalIndexTest {
+
+    private static ExecutionTrace traceWithMethods(String... methods) {
+        Map<String, Integer> count = new HashMap<>();
+        for (String m : methods) {
+            count.put(m, 1);
+        }
+        ExecutionTrace trace = mock(ExecutionTrace.class);
+        when(trace.getCoveredTrueBranches()).thenReturn(Collections.emptySet());
+        when(trace.getCoveredFalseBranches()).thenReturn(Collections.emptySet());
+        when(trace.getCoveredLines()).thenReturn(Collections.emptySet());
+        when(trace.getCoveredMethods()).thenReturn(count.keySet());
+        when(trace.getMethodExecutionCount()).thenReturn(count);
+        return trace;
+    }
+
+    @Test
+    public void testOnlyRelatedGoalsAreCandidates() {
+        List<TestFitnessFunction> goals = Arrays.asList(
+                new MethodTraceCoverageTestFitness("com.foo.Bar", "foo()V"),
+                new MethodTraceCoverageTestFitness("com.foo.Bar", "bar()V"),
+                new MethodTraceCoverageTestFitness("com.foo.Bar.Inner", "baz()V"),
+                new MethodCoverageTestFitness("com.foo.Bar", "foo()V"));
+
+        CoverageGoalIndex index = new CoverageGoalIndex(goals);
+        assertEquals(4, index.getNumberOfGoals());
+
+        BitSet candidates = index.getCandidateGoals(traceWithMethods("com.foo.Bar.foo()V", "com.foo.Bar$Inner.baz()V"));
+        assertTrue(candidates.get(0));
+        assertFalse(candidates.get(1));
+        assertTrue(candidates.get(2));
+        //not indexed, so always to check
+        assertTrue(candidates.get(3));
+
+        candidates = index.getCandidateGoals(traceWithMethods());
+        assertEquals(1, candidates.cardinality());
+        assertTrue(candidates.get(3));
+    }
+}
@@ -50,6 +50,7 @@ public class JUnitAnalyzerTest {
     private static final boolean DEFAULT_SANDBOX = Properties.SANDBOX;
     private static final boolean DEFAULT_ASSERTS_FOR_EVO = Properties.ENABLE_ASSERTS_FOR_EVOSUITE;
     private static final boolean DEFAULT_SCAFFOLDING = Properties.TEST_SCAFFOLDING;
+    private static final int DEFAULT_COMPILATION_THREADS = Properties.JUNIT_CHECK_COMPILATION_THREADS;
 
     private File file = new File(OpenStream.FILE_NAME);
 
@@ -75,6 +76,7 @@ public class JUnitAnalyzerTest {
         Properties.SANDBOX = DEFAULT_SANDBOX;
         Properties.ENABLE_ASSERTS_FOR_EVOSUITE = DEFAULT_ASSERTS_FOR_EVO;
         Properties.TEST_SCAFFOLDING = DEFAULT_SCAFFOLDING;
+        Properties.JUNIT_CHECK_COMPILATION_THREADS = DEFAULT_COMPILATION_THREADS;
     }
 
     @Test
@@ -150,6 +152,38 @@ public class JUnitAnalyzerTest {
         Assert.assertFalse(file.exists());
     }
 
+    @Test
+    public void testCompilationThreads() throws Exception {
+
+        Properties.SELECTED_JUNIT = com.examples.with.different.packagename.sandbox.OpenStreamInATryCatch_FakeTestToCarve.class.getCanonicalName();
+        Properties.TARGET_CLASS = com.examples.with.different.packagename.sandbox.OpenStreamInATryCatch.class.getCanonicalName();
+
+        Properties.CRITERION = new Properties.Criterion[]{Properties.Criterion.BRANCH};
+        Properties.SEED_MUTATIONS = 0;
+        Properties.SEED_CLONE = 1;
+        Properties.VIRTUAL_FS = false;
+        Properties.SANDBOX = true;
+        Properties.TEST_SCAFFOLDING = false;
+        Properties.JUNIT_CHECK_COMPILATION_THREADS = 2;
+
+        Sandbox.initializeSecurityManagerForSUT();
+
+        JUnitTestCarvedChromosomeFactory factory = new JUnitTestCarvedChromosomeFactory(null);
+        TestChromosome carved = factory.getChromosome();
+        Files.deleteIfExists(file.toPath());
+        Assert.assertNotNull(carved);
+
+        List<TestCase> list = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            list.add(carved.getTestCase().clone());
+        }
+
+        //compilation threads need to be privileged to write the compiled classes
+        JUnitAnalyzer.removeTestsThatDoNotCompile(list);
+        Assert.assertEquals(3, list.size());
+        Assert.assertFalse(file.exists());
+    }
+
     @Test
     public void testCreationOfTmpDir() throws IOException {
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import org.evosuite.testcase.execution.ExecutionTrace;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MutantScheduleTest {
+
+    private static ExecutionTrace traceInfecting(Integer... mutants) {
+        ExecutionTrace trace = mock(ExecutionTrace.class);
+        when(trace.getInfectedMutants()).thenReturn(new LinkedHashSet<>(Arrays.asList(mutants)));
+        return trace;
+    }
+
+    @Test
+    public void testOnlyInfectingTestsAreScheduled() {
+        MutantSchedule schedule = new MutantSchedule(Arrays.asList(
+                traceInfecting(1, 2), traceInfecting(), traceInfecting(2)));
+
+        assertEquals(Arrays.asList(1, 2), schedule.getInfectedMutants());
+        assertEquals(Collections.singletonList(0), schedule.getTests(1));
+        assertEquals(Arrays.asList(0, 2), schedule.getTests(2));
+        assertTrue(schedule.getTests(3).isEmpty());
+    }
+
+    @Test
+    public void testTestsThatKillAreTriedFirst() {
+        MutantSchedule schedule = new MutantSchedule(Arrays.asList(
+                traceInfecting(1, 2, 3), traceInfecting(1, 2, 3), traceInfecting(1, 2, 3)));
+
+        schedule.recordExecution(0, false);
+        schedule.recordExecution(2, true);
+
+        // untried tests come between the ones that killed and the ones that did not
+        assertEquals(Arrays.asList(2, 1, 0), schedule.getTests(3));
+        assertEquals(0.5, schedule.getKillProbability(1), 0.0);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import org.evosuite.symbolic.TestCaseBuilder;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTraceImpl;
+import org.evosuite.testcase.execution.TestCaseExecutor;
+import org.evosuite.testcase.statements.AssignmentStatement;
+import org.evosuite.testcase.variable.FieldReference;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.generic.GenericField;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestDependencyAnalysisTest {
+
+    public static int counter = 0;
+
+    private static ExecutionResult createResult() {
+        ExecutionResult result = new ExecutionResult(new DefaultTestCase());
+        result.setTrace(new ExecutionTraceImpl());
+        return result;
+    }
+
+    private static ExecutionResult createResultAssigningCounter() throws NoSuchFieldException {
+        TestCaseBuilder builder = new TestCaseBuilder();
+        VariableReference int0 = builder.appendIntPrimitive(1);
+        DefaultTestCase test = builder.getDefaultTestCase();
+        FieldReference field = new FieldReference(test,
+                new GenericField(TestDependencyAnalysisTest.class.getField("counter"), TestDependencyAnalysisTest.class));
+        test.addStatement(new AssignmentStatement(test, field, int0));
+
+        ExecutionResult result = new ExecutionResult(test);
+        result.setTrace(new ExecutionTraceImpl());
+        result.setExecutedStatements(test.size());
+        return result;
+    }
+
+    @Test
+    public void testNoSharedStateGivesOneGroupPerTest() {
+        List<ExecutionResult> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(createResult());
+        }
+        List<List<Integer>> groups = TestDependencyAnalysis.getIndependentGroups(results);
+        Assert.assertEquals(3, groups.size());
+        Assert.assertEquals(Collections.singletonList(1), groups.get(1));
+    }
+
+    @Test
+    public void testStaticWriteAndRead() {
+        List<ExecutionResult> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(createResult());
+        }
+        // only reads: no dependency
+        results.get(0).getTrace().getStaticPassed("Foo", "x");
+        results.get(1).getTrace().getStaticPassed("Foo", "x");
+        // written by test 3, read by test 2
+        results.get(2).getTrace().getStaticPassed("Bar", "y");
+        results.get(3).getTrace().putStaticPassed("Bar", "y");
+
+        List<List<Integer>> groups = TestDependencyAnalysis.getIndependentGroups(results);
+        Assert.assertEquals(3, groups.size());
+        Assert.assertEquals(Arrays.asList(2, 3), groups.get(2));
+
+        // initializing a class is a write of its static state
+        results.get(1).getTrace().classInitialized("Foo");
+        groups = TestDependencyAnalysis.getIndependentGroups(results);
+        Assert.assertEquals(2, groups.size());
+        Assert.assertEquals(Arrays.asList(0, 1), groups.get(0));
+    }
+
+    @Test
+    public void testStaticFieldAssignedByTests() throws NoSuchFieldException {
+        // the trace of a test does not include the assignments of its own statements
+        List<ExecutionResult> results = new ArrayList<>();
+        results.add(createResultAssigningCounter());
+        results.add(createResult());
+        results.add(createResultAssigningCounter());
+
+        List<List<Integer>> groups = TestDependencyAnalysis.getIndependentGroups(results);
+        Assert.assertEquals(2, groups.size());
+        Assert.assertEquals(Arrays.asList(0, 2), groups.get(0));
+        Assert.assertEquals(Collections.singletonList(1), groups.get(1));
+    }
+
+    @Test
+    public void testSharedEnvironment() {
+        List<ExecutionResult> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(createResult());
+        }
+        results.get(0).test.getAccessedEnvironment().addLocalFiles(Collections.singletonList("foo.txt"));
+        results.get(2).test.getAccessedEnvironment().addLocalFiles(Collections.singletonList("foo.txt"));
+        results.get(1).setWasAnyPropertyWritten(true);
+        results.get(3).setReadProperties(Collections.singleton("user.dir"));
+
+        List<List<Integer>> groups = TestDependencyAnalysis.getIndependentGroups(results);
+        Assert.assertEquals(2, groups.size());
+        Assert.assertEquals(Arrays.asList(0, 2), groups.get(0));
+        Assert.assertEquals(Arrays.asList(1, 3), groups.get(1));
+    }
+
+    @Test
+    public void testTimeoutDependsOnAllTests() {
+        List<ExecutionResult> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(createResult());
+        }
+        // the test is empty, so the timeout is at position 0
+        results.get(1).reportNewThrownException(0, new TestCaseExecutor.TimeoutExceeded());
+
+        List<List<Integer>> groups = TestDependencyAnalysis.getIndependentGroups(results);
+        Assert.assertEquals(1, groups.size());
+        Assert.assertEquals(Arrays.asList(0, 1, 2), groups.get(0));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit.writer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSuiteWriterUtilsTest {
+
+    private static String indentWithSplit(String code) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : code.split("\\r?\\n")) {
+            builder.append("  ").append(line).append("\n");
+        }
+        return builder.toString();
+    }
+
+    private static void checkSameAsSplit(String code) {
+        StringBuilder builder = new StringBuilder();
+        TestSuiteWriterUtils.appendIndentedLines(builder, code, "  ", "\n");
+        Assert.assertEquals(indentWithSplit(code), builder.toString());
+    }
+
+    @Test
+    public void testAppendIndentedLines() {
+        checkSameAsSplit("Foo foo0 = new Foo();");
+        checkSameAsSplit("Foo foo0 = new Foo();\nfoo0.bar();\n");
+        checkSameAsSplit("Foo foo0 = new Foo();\r\nfoo0.bar();\r\n");
+        checkSameAsSplit("\n\nfoo0.bar();");
+        checkSameAsSplit("foo0.bar();\n\n\n");
+        checkSameAsSplit("foo0.bar(\"\\r\");\n\nfoo0.bar();\n");
+    }
+
+    @Test
+    public void testAppendIndentedLinesEmpty() {
+        checkSameAsSplit("");
+        checkSameAsSplit("\n");
+        checkSameAsSplit("\r\n\n");
+    }
+}
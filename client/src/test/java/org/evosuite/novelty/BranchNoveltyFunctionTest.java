@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.novelty;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.coverage.branch.BranchPool;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTraceImpl;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BranchNoveltyFunctionTest {
+
+    private static final String CLASS_NAME = "Foo";
+
+    private static BranchPool getBranchPool() {
+        return BranchPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT());
+    }
+
+    @Before
+    public void addBranchlessMethods() {
+        getBranchPool().reset();
+        getBranchPool().addBranchlessMethod(CLASS_NAME, CLASS_NAME + ".bar()V", 1);
+        getBranchPool().addBranchlessMethod(CLASS_NAME, CLASS_NAME + ".baz()V", 2);
+    }
+
+    @After
+    public void resetBranchPool() {
+        getBranchPool().reset();
+    }
+
+    private static TestChromosome createIndividual(String... coveredMethods) {
+        DefaultTestCase test = new DefaultTestCase();
+        ExecutionResult result = new ExecutionResult(test);
+        ExecutionTraceImpl trace = new ExecutionTraceImpl();
+        for (String method : coveredMethods) {
+            trace.enteredMethod(CLASS_NAME, method, null);
+        }
+        result.setTrace(trace);
+
+        TestChromosome individual = new TestChromosome();
+        individual.setTestCase(test);
+        individual.setLastExecutionResult(result);
+        individual.setChanged(false);
+        return individual;
+    }
+
+    @Test
+    public void testFeaturesOfBranchlessMethods() {
+        BranchNoveltyFunction function = new BranchNoveltyFunction();
+
+        TestChromosome none = createIndividual();
+        TestChromosome bar = createIndividual("bar()V");
+        TestChromosome both = createIndividual("bar()V", "baz()V");
+
+        Assert.assertArrayEquals(new double[]{0.0, 0.0}, function.getFeatures(none), 0.0);
+        Assert.assertArrayEquals(new double[]{1.0, 1.0}, function.getFeatures(both), 0.0);
+        double[] features = function.getFeatures(bar);
+        Assert.assertEquals(1.0, features[0] + features[1], 0.0);
+
+        // computed once per execution
+        Assert.assertSame(features, function.getFeatures(bar));
+
+        Assert.assertEquals(0.5, function.getDistance(none, bar), 0.0);
+        Assert.assertEquals(1.0, function.getDistance(none, both), 0.0);
+        Assert.assertEquals(0.0, function.getDistance(both, both), 0.0);
+    }
+
+    @Test
+    public void testFeatureDistance() {
+        BranchNoveltyFunction function = new BranchNoveltyFunction();
+        double[] a = {0.5, Double.NaN, 1.0};
+        double[] b = {0.25, 0.3, 1.0};
+        double[] c = {Double.NaN, Double.NaN, 0.0};
+
+        // a branch evaluated by only one of the tests counts 1
+        Assert.assertEquals((0.25 + 1.0) / 3, function.getFeatureDistance(a, b), 0.000001);
+        Assert.assertEquals(function.getFeatureDistance(a, b), function.getFeatureDistance(b, a), 0.0);
+        Assert.assertEquals(0.0, function.getFeatureDistance(a, a), 0.0);
+        Assert.assertEquals(0.0, function.getFeatureDistance(new double[0], new double[0]), 0.0);
+
+        double[][] vectors = {a, b, c};
+        for (double[] x : vectors) {
+            for (double[] y : vectors) {
+                for (double[] z : vectors) {
+                    Assert.assertTrue(function.getFeatureDistance(x, z)
+                            <= function.getFeatureDistance(x, y) + function.getFeatureDistance(y, z) + 0.000001);
+                }
+            }
+        }
+    }
+}
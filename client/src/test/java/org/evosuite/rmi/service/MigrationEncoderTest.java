@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MigrationEncoderTest {
+
+    private static TestCase createTest(int... values) {
+        DefaultTestCase test = new DefaultTestCase();
+        for (int value : values) {
+            test.addStatement(new IntPrimitiveStatement(test, value));
+        }
+        return test;
+    }
+
+    @Test
+    public void testKnownTestsAreSentById() {
+        TestCase first = createTest(1);
+        TestCase second = createTest(2);
+        TestCase third = createTest(3);
+        MigrationEncoder encoder = new MigrationEncoder();
+        MigrationDecoder decoder = new MigrationDecoder();
+
+        MigrationPacket packet = encoder.encode(Arrays.asList(first, second));
+        assertTrue(packet.isReset());
+        assertEquals(2, packet.getNewTests().size());
+        assertEquals(Arrays.asList(first, second), decoder.decode(packet));
+
+        packet = encoder.encode(Arrays.asList(second, third, first));
+        assertFalse(packet.isReset());
+        assertEquals(3, packet.size());
+        assertEquals(Collections.singletonList(third), packet.getNewTests());
+        assertEquals(Arrays.asList(second, third, first), decoder.decode(packet));
+    }
+
+    @Test
+    public void testClonesAreSentById() {
+        TestCase test = createTest(1, 2);
+        MigrationEncoder encoder = new MigrationEncoder();
+        MigrationDecoder decoder = new MigrationDecoder();
+        decoder.decode(encoder.encode(Collections.singletonList(test.clone())));
+
+        // as sent by the clients, which clone the tests of their population
+        MigrationPacket packet = encoder.encode(Collections.singletonList(test.clone()));
+        assertTrue(packet.getNewTests().isEmpty());
+        List<TestCase> decoded = decoder.decode(packet);
+        assertEquals(1, decoded.size());
+        assertTrue(test.isPrefix(decoded.get(0)));
+
+        // a different value is a different test
+        packet = encoder.encode(Collections.singletonList(createTest(1, 3)));
+        assertEquals(1, packet.getNewTests().size());
+    }
+
+    @Test
+    public void testEvictionIsTheSameOnBothEnds() {
+        TestCase first = createTest(1);
+        TestCase second = createTest(2);
+        TestCase third = createTest(3);
+        MigrationEncoder encoder = new MigrationEncoder(2);
+        MigrationDecoder decoder = new MigrationDecoder(2);
+
+        decoder.decode(encoder.encode(Arrays.asList(first, second)));
+        decoder.decode(encoder.encode(Collections.singletonList(third)));
+
+        // the first test was forgotten, so it is sent again
+        MigrationPacket packet = encoder.encode(Arrays.asList(first.clone(), third.clone()));
+        assertEquals(1, packet.getNewTests().size());
+        List<TestCase> decoded = decoder.decode(packet);
+        assertSame(packet.getNewTests().get(0), decoded.get(0));
+        assertSame(third, decoded.get(1));
+    }
+
+    @Test
+    public void testResetSendsAllTestsAgain() {
+        TestCase test = createTest(1);
+        MigrationEncoder encoder = new MigrationEncoder();
+        MigrationDecoder decoder = new MigrationDecoder();
+        decoder.decode(encoder.encode(Collections.singletonList(test)));
+
+        encoder.reset();
+        MigrationPacket packet = encoder.encode(Collections.singletonList(test));
+        assertTrue(packet.isReset());
+        assertEquals(Collections.singletonList(test), packet.getNewTests());
+        assertEquals(Collections.singletonList(test), decoder.decode(packet));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLostPacket() {
+        TestCase test = createTest(1);
+        MigrationEncoder encoder = new MigrationEncoder();
+        encoder.encode(Collections.singletonList(test));
+
+        MigrationDecoder decoder = new MigrationDecoder();
+        decoder.decode(encoder.encode(Collections.singletonList(test)));
+    }
+}
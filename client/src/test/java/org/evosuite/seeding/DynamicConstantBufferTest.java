@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.seeding;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DynamicConstantBufferTest {
+
+    /**
+     * Pool that just records what is added to it
+     */
+    private static class RecordingPool implements ConstantPool {
+
+        private final List<Object> added = new ArrayList<>();
+
+        @Override
+        public String getRandomString() {
+            return null;
+        }
+
+        @Override
+        public Type getRandomType() {
+            return null;
+        }
+
+        @Override
+        public int getRandomInt() {
+            return 0;
+        }
+
+        @Override
+        public float getRandomFloat() {
+            return 0;
+        }
+
+        @Override
+        public double getRandomDouble() {
+            return 0;
+        }
+
+        @Override
+        public long getRandomLong() {
+            return 0;
+        }
+
+        @Override
+        public void add(Object object) {
+            added.add(object);
+        }
+    }
+
+    @Test
+    public void testDrainKeepsTypesAndOrder() {
+        DynamicConstantBuffer buffer = new DynamicConstantBuffer(16, 1);
+        buffer.add(42);
+        buffer.add(42L);
+        buffer.add(4.2f);
+        buffer.add(-4.2d);
+        buffer.add(42);
+
+        RecordingPool pool = new RecordingPool();
+        buffer.drainTo(pool, true);
+        Assert.assertEquals(Arrays.<Object>asList(42, 42L, 4.2f, -4.2d), pool.added);
+        Assert.assertTrue(buffer.isEmpty());
+
+        // already drained
+        buffer.drainTo(pool, true);
+        Assert.assertEquals(4, pool.added.size());
+    }
+
+    @Test
+    public void testDuplicatesKeptIfRequested() {
+        DynamicConstantBuffer buffer = new DynamicConstantBuffer(16, 1);
+        for (int i = 0; i < 3; i++) {
+            buffer.add(7);
+        }
+        RecordingPool pool = new RecordingPool();
+        buffer.drainTo(pool, false);
+        Assert.assertEquals(Arrays.<Object>asList(7, 7, 7), pool.added);
+    }
+
+    @Test
+    public void testOldestValuesAreOverwritten() {
+        DynamicConstantBuffer buffer = new DynamicConstantBuffer(16, 1);
+        int capacity = buffer.getCapacity();
+        for (int i = 0; i < capacity + 10; i++) {
+            buffer.add(i);
+        }
+        RecordingPool pool = new RecordingPool();
+        buffer.drainTo(pool, true);
+        Assert.assertEquals(capacity, pool.added.size());
+        Assert.assertEquals(10, pool.added.get(0));
+        Assert.assertEquals(capacity + 9, pool.added.get(capacity - 1));
+    }
+
+    @Test
+    public void testSampling() {
+        DynamicConstantBuffer buffer = new DynamicConstantBuffer(64, 3);
+        for (int i = 0; i < 9; i++) {
+            buffer.add(i);
+        }
+        RecordingPool pool = new RecordingPool();
+        buffer.drainTo(pool, true);
+        Assert.assertEquals(Arrays.<Object>asList(2, 5, 8), pool.added);
+    }
+}
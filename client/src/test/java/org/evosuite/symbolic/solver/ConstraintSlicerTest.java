@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ConstraintSlicerTest {
+
+    @Test
+    public void partitionSeparatesIndependentVariables() {
+        IntegerVariable x = new IntegerVariable("x", 0, -100, 100);
+        IntegerVariable y = new IntegerVariable("y", 0, -100, 100);
+
+        Constraint<?> c1 = new IntegerConstraint(x, Comparator.GT, new IntegerConstant(-1));
+        Constraint<?> c2 = new IntegerConstraint(y, Comparator.LT, new IntegerConstant(10));
+        Constraint<?> c3 = new IntegerConstraint(x, Comparator.NE, new IntegerConstant(5));
+
+        List<Constraint<?>> constraints = new ArrayList<>();
+        constraints.add(c1);
+        constraints.add(c2);
+        constraints.add(c3);
+
+        List<List<Constraint<?>>> clusters = ConstraintSlicer.partition(constraints);
+        assertEquals(2, clusters.size());
+        assertEquals(2, clusters.get(0).size());
+        assertSame(c1, clusters.get(0).get(0));
+        assertSame(c3, clusters.get(0).get(1));
+        assertEquals(1, clusters.get(1).size());
+        assertSame(c2, clusters.get(1).get(0));
+    }
+
+    @Test
+    public void sliceForIsTransitive() {
+        IntegerVariable x = new IntegerVariable("x", 0, -100, 100);
+        IntegerVariable y = new IntegerVariable("y", 0, -100, 100);
+        IntegerVariable z = new IntegerVariable("z", 0, -100, 100);
+        IntegerVariable w = new IntegerVariable("w", 0, -100, 100);
+
+        // y links x and z only through a constraint that appears before the one on x
+        Constraint<?> yz = new IntegerConstraint(y, Comparator.LT, z);
+        Constraint<?> zGt = new IntegerConstraint(z, Comparator.GT, new IntegerConstant(3));
+        Constraint<?> xy = new IntegerConstraint(x, Comparator.EQ, y);
+        Constraint<?> wNe = new IntegerConstraint(w, Comparator.NE, new IntegerConstant(0));
+        Constraint<?> target = new IntegerConstraint(
+                new IntegerBinaryExpression(x, Operator.PLUS, new IntegerConstant(1), 1L),
+                Comparator.GT, new IntegerConstant(7));
+
+        List<Constraint<?>> constraints = new ArrayList<>();
+        constraints.add(yz);
+        constraints.add(zGt);
+        constraints.add(wNe);
+        constraints.add(xy);
+        constraints.add(target);
+
+        List<Constraint<?>> slice = ConstraintSlicer.sliceFor(constraints, target);
+        assertEquals(4, slice.size());
+        assertTrue(slice.contains(yz));
+        assertTrue(slice.contains(zGt));
+        assertTrue(slice.contains(xy));
+        assertTrue(slice.contains(target));
+        assertFalse(slice.contains(wNe));
+    }
+
+    @Test
+    public void sliceDropsClustersSatisfiedByConcreteValues() {
+        IntegerVariable x = new IntegerVariable("x", 3, -100, 100);
+        IntegerVariable y = new IntegerVariable("y", 7, -100, 100);
+
+        Constraint<?> satisfied = new IntegerConstraint(y, Comparator.GT, new IntegerConstant(5));
+        Constraint<?> negated = new IntegerConstraint(x, Comparator.EQ, new IntegerConstant(10));
+
+        List<Constraint<?>> constraints = new ArrayList<>();
+        constraints.add(satisfied);
+        constraints.add(negated);
+
+        ConstraintSlicer.SlicedQuery slicedQuery = ConstraintSlicer.slice(constraints);
+        assertEquals(1, slicedQuery.getQuery().size());
+        assertSame(negated, slicedQuery.getQuery().get(0));
+        assertEquals(7L, slicedQuery.getReusedModel().get("y"));
+        assertFalse(slicedQuery.getReusedModel().containsKey("x"));
+
+        Map<String, Object> solution = new HashMap<>();
+        solution.put("x", 10L);
+        SolverResult merged = slicedQuery.merge(SolverResult.newSAT(solution));
+        assertTrue(merged.isSAT());
+        assertEquals(10L, merged.getValue("x"));
+        assertEquals(7L, merged.getValue("y"));
+
+        assertTrue(slicedQuery.merge(SolverResult.newUNSAT()).isUNSAT());
+    }
+
+    @Test
+    public void sliceOfSatisfiedQueryIsEmpty() {
+        IntegerVariable x = new IntegerVariable("x", 3, -100, 100);
+
+        List<Constraint<?>> constraints = new ArrayList<>();
+        constraints.add(new IntegerConstraint(x, Comparator.LT, new IntegerConstant(5)));
+
+        ConstraintSlicer.SlicedQuery slicedQuery = ConstraintSlicer.slice(constraints);
+        assertTrue(slicedQuery.isEmpty());
+        assertEquals(3L, slicedQuery.getReusedModel().get("x"));
+    }
+}
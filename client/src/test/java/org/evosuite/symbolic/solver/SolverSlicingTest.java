@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.Properties;
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SolverSlicingTest {
+
+    /**
+     * Records the queries it gets, and answers them with a fixed model
+     */
+    private static class RecordingSolver extends Solver {
+
+        private final List<Collection<Constraint<?>>> queries = new ArrayList<>();
+
+        private final Map<String, Object> model;
+
+        private RecordingSolver(Map<String, Object> model) {
+            this.model = model;
+        }
+
+        @Override
+        public SolverResult executeSolver(Collection<Constraint<?>> constraints) {
+            queries.add(new ArrayList<>(constraints));
+            return SolverResult.newSAT(new HashMap<>(model));
+        }
+    }
+
+    private boolean slicing;
+
+    @Before
+    public void saveProperties() {
+        slicing = Properties.DSE_CONSTRAINT_SLICING;
+    }
+
+    @After
+    public void restoreProperties() {
+        Properties.DSE_CONSTRAINT_SLICING = slicing;
+    }
+
+    @Test
+    public void testSlicingIsOffByDefault() {
+        assertEquals(false, slicing);
+    }
+
+    @Test
+    public void testSatisfiedQueryIsSentWithoutSlicing() throws Exception {
+        Properties.DSE_CONSTRAINT_SLICING = false;
+        // satisfied by the concrete value of the variable
+        IntegerVariable x = new IntegerVariable("withoutSlicing", 0, -100, 100);
+        Constraint<?> constraint = new IntegerConstraint(x, Comparator.GT, new IntegerConstant(-1));
+
+        RecordingSolver solver = new RecordingSolver(Collections.singletonMap("withoutSlicing", 42L));
+        SolverResult result = solver.solve(Collections.singletonList(constraint));
+
+        assertEquals(1, solver.queries.size());
+        assertTrue(result.isSAT());
+        assertEquals(42L, result.getValue("withoutSlicing"));
+    }
+
+    @Test
+    public void testSatisfiedQueryIsNotSentWithSlicing() throws Exception {
+        Properties.DSE_CONSTRAINT_SLICING = true;
+        IntegerVariable x = new IntegerVariable("withSlicing", 0, -100, 100);
+        Constraint<?> constraint = new IntegerConstraint(x, Comparator.GT, new IntegerConstant(-1));
+
+        RecordingSolver solver = new RecordingSolver(Collections.singletonMap("withSlicing", 42L));
+        SolverResult result = solver.solve(Collections.singletonList(constraint));
+
+        assertTrue(solver.queries.isEmpty());
+        assertTrue(result.isSAT());
+        assertEquals(0L, result.getValue("withSlicing"));
+    }
+
+    @Test
+    public void testOnlyUnsatisfiedClustersAreSentWithSlicing() throws Exception {
+        Properties.DSE_CONSTRAINT_SLICING = true;
+        IntegerVariable satisfied = new IntegerVariable("satisfiedCluster", 0, -100, 100);
+        IntegerVariable negated = new IntegerVariable("negatedCluster", 0, -100, 100);
+        Constraint<?> kept = new IntegerConstraint(satisfied, Comparator.GT, new IntegerConstant(-1));
+        Constraint<?> sent = new IntegerConstraint(negated, Comparator.GT, new IntegerConstant(5));
+
+        RecordingSolver solver = new RecordingSolver(Collections.singletonMap("negatedCluster", 6L));
+        SolverResult result = solver.solve(Arrays.asList(kept, sent));
+
+        assertEquals(1, solver.queries.size());
+        assertEquals(1, solver.queries.get(0).size());
+        assertSame(sent, solver.queries.get(0).iterator().next());
+        assertEquals(6L, result.getValue("negatedCluster"));
+        assertEquals(0L, result.getValue("satisfiedCluster"));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CaptureLogColumnsTest {
+
+    @Test
+    public void testIntColumn() {
+        CaptureLogColumns.IntColumn column = new CaptureLogColumns.IntColumn();
+        for (int i = 0; i < 100; i++) {
+            column.add(i * 1000);
+        }
+        Assert.assertEquals(100, column.size());
+        Assert.assertEquals(42000, column.getInt(42));
+        Assert.assertEquals(Integer.valueOf(42000), column.set(42, -1));
+        Assert.assertEquals(Integer.valueOf(-1), column.get(42));
+
+        List<Integer> copy = new ArrayList<>(column);
+        Assert.assertEquals(copy, column);
+
+        column.clear();
+        Assert.assertTrue(column.isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIntColumnOutOfBounds() {
+        CaptureLogColumns.IntColumn column = new CaptureLogColumns.IntColumn();
+        column.add(1);
+        column.get(1);
+    }
+
+    @Test
+    public void testStringColumnInternsStrings() {
+        CaptureLogColumns.StringColumn column = new CaptureLogColumns.StringColumn();
+        for (int i = 0; i < 10; i++) {
+            column.add(CaptureLog.OBSERVED_INIT);
+            column.add(CaptureLog.END_CAPTURE_PSEUDO_METHOD);
+        }
+        column.add(null);
+        Assert.assertEquals(21, column.size());
+        Assert.assertEquals(2, column.getNumberOfDistinctStrings());
+        Assert.assertEquals(CaptureLog.END_CAPTURE_PSEUDO_METHOD, column.get(3));
+        Assert.assertNull(column.get(20));
+
+        column.set(3, "foo");
+        Assert.assertEquals("foo", column.get(3));
+        Assert.assertEquals(CaptureLog.END_CAPTURE_PSEUDO_METHOD, column.get(5));
+    }
+
+    @Test
+    public void testBooleanColumn() {
+        CaptureLogColumns.BooleanColumn column = new CaptureLogColumns.BooleanColumn();
+        column.addAll(Arrays.asList(true, false, false, true));
+        Assert.assertEquals(Arrays.asList(true, false, false, true), column);
+        column.set(0, false);
+        Assert.assertFalse(column.get(0));
+    }
+}
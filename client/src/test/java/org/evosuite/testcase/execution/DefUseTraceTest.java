@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+public class DefUseTraceTest {
+
+    private static DefUseTrace createTrace() {
+        DefUseTrace trace = new DefUseTrace();
+        // definitions 1, 2, 1, 1 of x on object 5, at positions 2, 4, 7, 9
+        trace.add("x", 5, 2, 1);
+        trace.add("x", 5, 4, 2);
+        trace.add("y", 5, 5, 3);
+        trace.add("x", 5, 7, 1);
+        trace.add("x", 0, 8, 4);
+        trace.add("x", 5, 9, 1);
+        return trace;
+    }
+
+    @Test
+    public void testActiveDefinition() {
+        DefUseTrace trace = createTrace();
+        Assert.assertEquals(-1, trace.getIdBefore("x", 5, 2));
+        Assert.assertEquals(1, trace.getIdAtOrBefore("x", 5, 2));
+        Assert.assertEquals(1, trace.getIdBefore("x", 5, 4));
+        Assert.assertEquals(2, trace.getIdAtOrBefore("x", 5, 6));
+        Assert.assertEquals(1, trace.getIdAtOrBefore("x", 5, 100));
+        Assert.assertEquals(-1, trace.getIdAtOrBefore("x", 1, 100));
+        Assert.assertEquals(-1, trace.getIdAtOrBefore("z", 5, 100));
+    }
+
+    @Test
+    public void testPositions() {
+        DefUseTrace trace = createTrace();
+        Assert.assertEquals(Arrays.asList(2, 7, 9), trace.getPositions("x", 5, 1));
+        Assert.assertEquals(Collections.singletonList(8), trace.getPositions("x", 0, 4));
+        Assert.assertTrue(trace.getPositions("x", 5, 3).isEmpty());
+
+        Assert.assertEquals(4, trace.getNextPositionWithOtherId("x", 5, 2, 1));
+        Assert.assertEquals(Integer.MAX_VALUE, trace.getNextPositionWithOtherId("x", 5, 4, 1));
+        Assert.assertEquals(Integer.MAX_VALUE, trace.getNextPositionWithOtherId("z", 5, 0, 1));
+
+        Map<Integer, Integer> firstPositions = trace.getFirstPositionsBetween("x", 5, 3, 9);
+        Assert.assertEquals(Arrays.asList(2, 1), Arrays.asList(firstPositions.keySet().toArray()));
+        Assert.assertEquals(4, (int) firstPositions.get(2));
+        Assert.assertEquals(7, (int) firstPositions.get(1));
+    }
+}
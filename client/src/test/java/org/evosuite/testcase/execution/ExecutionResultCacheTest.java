@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+public class ExecutionResultCacheTest {
+
+    private static DefaultTestCase createTest(int... values) {
+        DefaultTestCase test = new DefaultTestCase();
+        for (int value : values) {
+            test.addStatement(new IntPrimitiveStatement(test, value));
+        }
+        return test;
+    }
+
+    private static ExecutionResult createResult(DefaultTestCase test) {
+        ExecutionResult result = new ExecutionResult(test);
+        result.setTrace(new ExecutionTraceImpl());
+        result.setExecutedStatements(test.size());
+        result.setCompletedNormally(true);
+        return result;
+    }
+
+    @Test
+    public void testHitOnStructurallyIdenticalTest() {
+        ExecutionResultCache cache = new ExecutionResultCache(10);
+        DefaultTestCase test = createTest(1, 2, 3);
+        long key = ExecutionResultCache.computeKey(test, 1000);
+        cache.put(key, test, createResult(test));
+
+        DefaultTestCase other = createTest(1, 2, 3);
+        Assert.assertEquals(key, ExecutionResultCache.computeKey(other, 1000));
+
+        ExecutionResult cached = cache.get(key, other);
+        Assert.assertNotNull(cached);
+        Assert.assertSame(other, cached.test);
+        Assert.assertEquals(3, cached.getExecutedStatements());
+        Assert.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testMissOnDifferentTest() {
+        ExecutionResultCache cache = new ExecutionResultCache(10);
+        DefaultTestCase test = createTest(1, 2, 3);
+        long key = ExecutionResultCache.computeKey(test, 1000);
+        cache.put(key, test, createResult(test));
+
+        Assert.assertTrue(key != ExecutionResultCache.computeKey(test, 2000));
+        Assert.assertTrue(key != ExecutionResultCache.computeKey(createTest(1, 2, 4), 1000));
+
+        //same key, but different statements: should not be a hit
+        Assert.assertNull(cache.get(key, createTest(1, 2, 4)));
+
+        //the stored test is a copy, so later changes of the original are not a problem
+        ((IntPrimitiveStatement) test.getStatement(2)).setValue(4);
+        Assert.assertNull(cache.get(key, test));
+        Assert.assertNotNull(cache.get(key, createTest(1, 2, 3)));
+    }
+
+    @Test
+    public void testEviction() {
+        ExecutionResultCache cache = new ExecutionResultCache(2);
+        for (int i = 0; i < 3; i++) {
+            DefaultTestCase test = createTest(i);
+            cache.put(ExecutionResultCache.computeKey(test, 1000), test, createResult(test));
+        }
+        Assert.assertEquals(2, cache.size());
+
+        DefaultTestCase first = createTest(0);
+        Assert.assertNull(cache.get(ExecutionResultCache.computeKey(first, 1000), first));
+        DefaultTestCase last = createTest(2);
+        Assert.assertNotNull(cache.get(ExecutionResultCache.computeKey(last, 1000), last));
+    }
+
+    @Test
+    public void testNonDeterministicResultsAreNotCacheable() {
+        DefaultTestCase test = createTest(1);
+        ExecutionResult result = createResult(test);
+        Assert.assertTrue(ExecutionResultCache.isCacheable(result));
+
+        result.setSecurityException(true);
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+
+        result = createResult(test);
+        test.getAccessedEnvironment().addLocalFiles(Collections.singletonList("foo.txt"));
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+    }
+
+    @Test
+    public void testIncompleteExecutionIsNotCacheable() {
+        DefaultTestCase test = createTest(1);
+        ExecutionResult result = createResult(test);
+        result.setCompletedNormally(false);
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+
+        result.setCompletedNormally(true);
+        Assert.assertTrue(ExecutionResultCache.isCacheable(result.clone()));
+    }
+
+    @Test
+    public void testExecutionAbortedByThreadDeathIsNotCacheable() {
+        DefaultTestCase test = createTest(1);
+        ExecutionResult result = TestCaseExecutor.getResultOfAbortedExecution(test,
+                Collections.singletonMap(0, new ThreadDeath()));
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+    }
+
+    @Test
+    public void testInterruptedExecutionIsNotCacheable() {
+        DefaultTestCase test = createTest(1);
+        ExecutionResult result = TestCaseExecutor.getResultOfAbortedExecution(test,
+                Collections.singletonMap(0, new InterruptedException()));
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+    }
+
+    @Test
+    public void testExecutionExceptionIsNotCacheable() {
+        DefaultTestCase test = createTest(1);
+        ExecutionResult result = TestCaseExecutor.getResultOfAbortedExecution(test,
+                Collections.singletonMap(0, new ExecutionException(new IllegalStateException())));
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+    }
+
+    @Test
+    public void testTimeoutIsNotCacheable() {
+        DefaultTestCase test = createTest(1);
+        ExecutionResult result = TestCaseExecutor.getResultOfAbortedExecution(test,
+                Collections.emptyMap());
+        result.reportNewThrownException(test.size(), new TestCaseExecutor.TimeoutExceeded());
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+
+        // even if it was flagged as complete
+        result.setCompletedNormally(true);
+        Assert.assertFalse(ExecutionResultCache.isCacheable(result));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class MethodCallTest {
+
+    private static void addBranch(MethodCall call, int branchId, double trueDistance, double falseDistance) {
+        call.branchTrace.add(branchId);
+        call.trueDistanceTrace.add(trueDistance);
+        call.falseDistanceTrace.add(falseDistance);
+    }
+
+    @Test
+    public void testMinimalBranchDistances() {
+        MethodCall call = new MethodCall("Foo", "bar()V", 1, 0, 0);
+        addBranch(call, 1, 3.0, 0.0);
+        addBranch(call, 2, 0.0, 1.0);
+        addBranch(call, 1, 1.0, 2.0);
+
+        Assert.assertArrayEquals(new double[]{1.0, 0.0}, call.getMinimalBranchDistances(1), 0.0);
+        Assert.assertArrayEquals(new double[]{0.0, 1.0}, call.getMinimalBranchDistances(2), 0.0);
+        Assert.assertNull(call.getMinimalBranchDistances(3));
+
+        // the index follows the trace
+        addBranch(call, 3, 5.0, 0.0);
+        Assert.assertArrayEquals(new double[]{5.0, 0.0}, call.getMinimalBranchDistances(3), 0.0);
+        Assert.assertNull(call.clone().getMinimalBranchDistances(4));
+    }
+
+    @Test
+    public void testMethodCallsByMethod() {
+        ExecutionTraceImpl trace = new ExecutionTraceImpl();
+        MethodCall first = new MethodCall("Foo", "bar()V", 1, 0, 0);
+        MethodCall other = new MethodCall("Foo", "baz()V", 2, 0, 0);
+        MethodCall second = new MethodCall("Foo", "bar()V", 3, 0, 0);
+        trace.finishedCalls.addAll(Arrays.asList(first, other, second));
+
+        List<MethodCall> calls = trace.getMethodCalls("Foo", "bar()V");
+        Assert.assertEquals(Arrays.asList(first, second), calls);
+        Assert.assertTrue(trace.getMethodCalls("Bar", "bar()V").isEmpty());
+
+        MethodCall third = new MethodCall("Foo", "baz()V", 4, 0, 0);
+        trace.finishedCalls.add(third);
+        Assert.assertEquals(Arrays.asList(other, third), trace.getMethodCalls("Foo", "baz()V"));
+
+        ExecutionTrace proxy = new ExecutionTraceProxy(trace);
+        Assert.assertEquals(2, proxy.getMethodCalls("Foo", "bar()V").size());
+
+        trace.clear();
+        Assert.assertTrue(trace.getMethodCalls("Foo", "bar()V").isEmpty());
+    }
+}
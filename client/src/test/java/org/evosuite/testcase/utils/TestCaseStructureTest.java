@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.utils;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestCaseStructureTest {
+
+    private static TestCase createTest(int... values) {
+        DefaultTestCase test = new DefaultTestCase();
+        for (int value : values) {
+            test.addStatement(new IntPrimitiveStatement(test, value));
+        }
+        return test;
+    }
+
+    @Test
+    public void testClonesAreTheSame() {
+        TestCase test = createTest(1, 2);
+        TestCase clone = test.clone();
+
+        assertTrue(TestCaseStructure.isSame(test, clone));
+        assertEquals(TestCaseStructure.hash(test), TestCaseStructure.hash(clone));
+        assertEquals(TestCaseStructure.hash(test), TestCaseStructure.hash(createTest(1, 2)));
+    }
+
+    @Test
+    public void testDifferentValues() {
+        TestCase test = createTest(1, 2);
+        TestCase other = createTest(1, 3);
+
+        assertFalse(TestCaseStructure.isSame(test, other));
+        assertTrue(TestCaseStructure.hash(test) != TestCaseStructure.hash(other));
+    }
+
+    @Test
+    public void testPrefixIsNotTheSame() {
+        TestCase test = createTest(1, 2);
+        TestCase prefix = createTest(1);
+
+        assertFalse(TestCaseStructure.isSame(prefix, test));
+        assertFalse(TestCaseStructure.isSame(test, prefix));
+        assertTrue(TestCaseStructure.hash(test) != TestCaseStructure.hash(prefix));
+    }
+}
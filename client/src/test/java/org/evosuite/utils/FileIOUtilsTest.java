@@ -97,4 +97,21 @@ public class FileIOUtilsTest {
         in.close();
         Assert.assertEquals(line, read);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWriteCharSequenceCreatesParentFolders() throws Exception {
+        File tmpRoot = File.createTempFile("foo" + System.currentTimeMillis(), "");
+        tmpRoot.delete();
+        tmpRoot.deleteOnExit();
+
+        File file = new File(new File(tmpRoot, "folder"), "a.txt");
+        StringBuilder content = new StringBuilder("foo").append('\n').append("bar");
+        FileIOUtils.writeFile(content, file);
+
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(content.toString(), String.join("\n", FileIOUtils.readFile(file)));
+
+        file.delete();
+        file.getParentFile().delete();
+    }
+}
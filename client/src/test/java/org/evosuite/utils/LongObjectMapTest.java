@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void testPutAndGet() {
+        LongObjectMap<String> map = new LongObjectMap<>(2);
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.put(0L, "zero"));
+        Assert.assertNull(map.put(-1L, "minus one"));
+        Assert.assertEquals("zero", map.put(0L, "nought"));
+
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals("nought", map.get(0L));
+        Assert.assertEquals("minus one", map.get(-1L));
+        Assert.assertNull(map.get(1L));
+        Assert.assertFalse(map.containsKey(1L));
+    }
+
+    @Test
+    public void testGrowKeepsInsertionOrder() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        for (long key = 0; key < 1000; key++) {
+            map.put(key << 32, key);
+        }
+
+        Assert.assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals((long) i << 32, map.getKey(i));
+            Assert.assertEquals(Long.valueOf(i), map.getValue(i));
+            Assert.assertEquals(Long.valueOf(i), map.get((long) i << 32));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetValueOutOfBounds() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1L, "one");
+        map.getValue(1);
+    }
+}
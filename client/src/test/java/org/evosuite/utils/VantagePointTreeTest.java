@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class VantagePointTreeTest {
+
+    private static double manhattan(double[] a, double[] b) {
+        double distance = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Math.abs(a[i] - b[i]);
+        }
+        return distance;
+    }
+
+    private static double[] bruteForce(List<double[]> points, int point, int k) {
+        List<Double> distances = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            if (i != point) {
+                distances.add(manhattan(points.get(point), points.get(i)));
+            }
+        }
+        Collections.sort(distances);
+        double[] nearest = new double[Math.min(k, distances.size())];
+        for (int i = 0; i < nearest.length; i++) {
+            nearest[i] = distances.get(i);
+        }
+        return nearest;
+    }
+
+    @Test
+    public void testSameAsBruteForce() {
+        Random random = new Random(42);
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            double[] point = new double[5];
+            for (int j = 0; j < point.length; j++) {
+                // few distinct values, to have equal points and ties
+                point[j] = random.nextInt(4);
+            }
+            points.add(point);
+        }
+
+        VantagePointTree tree = new VantagePointTree(points, VantagePointTreeTest::manhattan);
+        for (int k : new int[]{1, 5, 15}) {
+            for (int i = 0; i < points.size(); i++) {
+                Assert.assertArrayEquals(bruteForce(points, i, k), tree.getNearestDistances(i, k), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testFewPoints() {
+        List<double[]> points = Arrays.asList(new double[]{0.0}, new double[]{1.0}, new double[]{3.0});
+        VantagePointTree tree = new VantagePointTree(points, VantagePointTreeTest::manhattan);
+        Assert.assertArrayEquals(new double[]{1.0, 3.0}, tree.getNearestDistances(0, 10), 0.0);
+        Assert.assertArrayEquals(new double[]{2.0}, tree.getNearestDistances(2, 1), 0.0);
+        Assert.assertEquals(0, tree.getNearestDistances(1, 0).length);
+
+        tree = new VantagePointTree(Collections.singletonList(new double[]{0.0}), VantagePointTreeTest::manhattan);
+        Assert.assertEquals(0, tree.getNearestDistances(0, 3).length);
+    }
+}
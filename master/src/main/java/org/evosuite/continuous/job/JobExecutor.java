@@ -23,6 +23,7 @@ import org.evosuite.Properties;
 import org.evosuite.continuous.CtgConfiguration;
 import org.evosuite.continuous.persistency.StorageManager;
 import org.evosuite.utils.LoggingUtils;
+import org.evosuite.xsd.Project;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,6 +85,19 @@ public class JobExecutor {
 
     private final StorageManager storage;
 
+    private int cores;
+
+    /**
+     * Used to order jobs and to rebalance their budget, or {@code null}
+     * if jobs are executed as they are scheduled
+     */
+    private JobRuntimePredictor predictor;
+
+    /**
+     * Jobs currently executed by a handler, with the time (in ms) when they were started
+     */
+    private Map<JobDefinition, Long> runningJobs;
+
     /**
      * Main constructor
      */
@@ -121,6 +135,7 @@ public class JobExecutor {
 
         logger.info("Going to execute " + jobs.size() + " jobs");
 
+        this.cores = cores;
         initExecution(jobs);
 
         Thread mainThread = new Thread() {
@@ -189,6 +204,19 @@ public class JobExecutor {
          */
         jobQueue = new ArrayBlockingQueue<>(1);
         finishedJobs = new ConcurrentHashMap<>();
+        runningJobs = new ConcurrentHashMap<>();
+
+        if (Properties.CTG_HISTORY_BASED_EXECUTION) {
+            Project project = null;
+            try {
+                project = StorageManager.getDatabaseProject();
+            } catch (RuntimeException e) {
+                logger.warn("Cannot read the history of the project, jobs will be considered as new: " + e.getMessage());
+            }
+            predictor = new JobRuntimePredictor(project);
+        } else {
+            predictor = null;
+        }
     }
 
     protected long execute(List<JobDefinition> jobs) {
@@ -197,6 +225,15 @@ public class JobExecutor {
 
         //TODO handle memory
         Queue<JobDefinition> toExecute = new LinkedList<>(jobs);
+        if (predictor != null) {
+            /*
+             * longest jobs first, as starting a long job at the end of the schedule
+             * would leave all the other cores idle till it is finished
+             */
+            List<JobDefinition> longestFirst = new ArrayList<>(jobs);
+            longestFirst.sort(Comparator.<JobDefinition>comparingDouble(predictor::getExpectedSeconds).reversed());
+            toExecute = new LinkedList<>(longestFirst);
+        }
 
         List<JobDefinition> postponed = new LinkedList<>();
 
@@ -268,6 +305,9 @@ public class JobExecutor {
             }
 
             assert chosenJob != null;
+            if (predictor != null) {
+                chosenJob = rebalanceBudget(chosenJob, toExecute, postponed, remaining);
+            }
             longestJob = Math.max(longestJob, chosenJob.seconds * 1000);
 
             try {
@@ -282,11 +322,64 @@ public class JobExecutor {
     }
 
 
+    /**
+     * The budgets of the jobs are decided when the schedule is created. But
+     * jobs can finish earlier than expected (eg, all goals are covered), and
+     * their time would be lost. So, when a job is about to start, give it
+     * its share of the time that is not going to be used by the running and
+     * pending jobs.
+     *
+     * @return the job, possibly with a larger budget
+     */
+    protected JobDefinition rebalanceBudget(JobDefinition job, Collection<JobDefinition> toExecute,
+                                            Collection<JobDefinition> postponed, long remainingInMs) {
+
+        if (!predictor.canUseMoreBudget(job)) {
+            return job;
+        }
+
+        double available = cores * (remainingInMs / 1000.0);
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<JobDefinition, Long> running : runningJobs.entrySet()) {
+            double elapsed = (now - running.getValue()) / 1000.0;
+            available -= Math.max(0, predictor.getExpectedSeconds(running.getKey()) - elapsed);
+        }
+
+        double weights = job.seconds;
+        available -= predictor.getExpectedSeconds(job);
+        List<JobDefinition> pending = new ArrayList<>(jobQueue);
+        pending.addAll(toExecute);
+        pending.addAll(postponed);
+        for (JobDefinition other : pending) {
+            available -= predictor.getExpectedSeconds(other);
+            if (predictor.canUseMoreBudget(other)) {
+                weights += other.seconds;
+            }
+        }
+
+        if (available <= 0 || weights <= 0) {
+            return job;
+        }
+
+        // a job cannot run for longer than what is left of the whole budget
+        int extra = (int) Math.min(available * job.seconds / weights, remainingInMs / 1000 - job.seconds);
+        if (extra <= 0) {
+            return job;
+        }
+
+        logger.info("Giving " + extra + " more seconds to the job for " + job.cut);
+        return job.getByAddingBudget(extra);
+    }
+
     public JobDefinition pollJob() throws InterruptedException {
-        return jobQueue.take();
+        JobDefinition job = jobQueue.take();
+        runningJobs.put(job, System.currentTimeMillis());
+        return job;
     }
 
     public void doneWithJob(JobDefinition job) {
+        runningJobs.remove(job);
         finishedJobs.put(job.cut, job);
         latch.countDown();
         LoggingUtils.getEvoLogger().info("Completed job. Left: " + latch.getCount());
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job;
+
+import org.evosuite.xsd.CUT;
+import org.evosuite.xsd.CUTUtil;
+import org.evosuite.xsd.Generation;
+import org.evosuite.xsd.GenerationUtil;
+import org.evosuite.xsd.Project;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Predict how a job will behave based on the previous generations of
+ * its CUT, as stored in the project info of the CTG database.
+ *
+ * <p>
+ * Searches often stop before their budget is over (eg, all goals are covered),
+ * so the expected runtime of a job is its budget scaled by the fraction of the
+ * budget its CUT used in its latest successful generation. CUTs without any
+ * history are expected to use their whole budget.
+ */
+public class JobRuntimePredictor {
+
+    /**
+     * Never expect a job to take less than this fraction of its budget, as
+     * there is a fixed cost (eg, minimization and assertion generation)
+     */
+    private static final double MIN_BUDGET_USAGE = 0.1;
+
+    /**
+     * A CUT that used more than this fraction of its budget did not
+     * finish its search early
+     */
+    private static final double FULL_BUDGET_USAGE = 0.9;
+
+    private static class History {
+        private final double budgetUsage;
+        private final double coverage;
+
+        private History(double budgetUsage, double coverage) {
+            this.budgetUsage = budgetUsage;
+            this.coverage = coverage;
+        }
+    }
+
+    /**
+     * CUT name -> history. CUTs without any successful generation are not here
+     */
+    private final Map<String, History> histories = new HashMap<>();
+
+    /**
+     * @param project the project info, or {@code null} if there is none
+     */
+    public JobRuntimePredictor(Project project) {
+        if (project == null) {
+            return;
+        }
+        for (CUT cut : project.getCut()) {
+            if (cut.getGeneration().isEmpty() || CUTUtil.getLatestGeneration(cut).isFailed()) {
+                // the CUT might have changed since, so the history is not reliable
+                continue;
+            }
+            Generation generation = CUTUtil.getLatestSuccessfulGeneration(cut);
+            if (generation == null || generation.getTimeBudgetInSeconds().intValue() <= 0) {
+                continue;
+            }
+            double usage = generation.getSuite().getTotalEffortInSeconds().doubleValue()
+                    / generation.getTimeBudgetInSeconds().doubleValue();
+            usage = Math.max(MIN_BUDGET_USAGE, Math.min(1.0, usage));
+            double coverage = generation.getSuite().getCoverage().isEmpty() ? 0.0
+                    : GenerationUtil.getOverallCoverage(generation);
+            histories.put(cut.getFullNameOfTargetClass(), new History(usage, coverage));
+        }
+    }
+
+    /**
+     * @return the fraction of its budget that the job is expected to use, in (0,1]
+     */
+    public double getExpectedBudgetUsage(JobDefinition job) {
+        History history = histories.get(job.cut);
+        return history == null ? 1.0 : history.budgetUsage;
+    }
+
+    /**
+     * @return how many seconds the job is expected to run
+     */
+    public double getExpectedSeconds(JobDefinition job) {
+        return job.seconds * getExpectedBudgetUsage(job);
+    }
+
+    /**
+     * Whether it is worth to give more budget to the job, ie, its search is
+     * not expected to stop early and its CUT is not fully covered yet
+     */
+    public boolean canUseMoreBudget(JobDefinition job) {
+        History history = histories.get(job.cut);
+        return history == null
+                || (history.budgetUsage >= FULL_BUDGET_USAGE && history.coverage < 1.0);
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.evosuite.continuous.job.schedule;
 
+import org.evosuite.Properties;
 import org.evosuite.continuous.job.JobDefinition;
 import org.evosuite.continuous.job.JobScheduler;
 import org.evosuite.continuous.project.ProjectStaticData;
@@ -94,6 +95,13 @@ public class HistorySchedule extends OneTimeSchedule {
             if (!c_info.isTestable()) {
                 continue;
             }
+            if (!c_info.hasChanged() && Properties.CTG_HISTORY_SKIP_UNCHANGED) {
+                LoggingUtils.getEvoLogger().info("- Skipping class " + c_info.getClassName()
+                        + " because it has not changed");
+                // keep its existing tests
+                c_info.isToTest(false);
+                continue;
+            }
             if (!c_info.hasChanged() && !c_info.isToTest()) {
                 LoggingUtils.getEvoLogger().info("- Skipping class " + c_info.getClassName()
                         + " because it does not seem to be worth it");
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.persistency;
+
+import org.evosuite.xsd.CUT;
+import org.evosuite.xsd.Project;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the CUTs of a {@link Project} database by class name.
+ *
+ * <p>
+ * A project can have thousands of CUTs, and each one is looked up
+ * several times when merging the results of a CTG run. All
+ * modifications of the CUTs of the project should go through this
+ * index, as otherwise the two would be out of sync.
+ */
+public class ProjectIndex {
+
+    private final Project project;
+
+    /**
+     * Key -> full name of target class
+     * Value -> its CUT in the project
+     */
+    private final Map<String, CUT> cuts = new LinkedHashMap<>();
+
+    public ProjectIndex(Project project) {
+        if (project == null) {
+            throw new NullPointerException("Project cannot be null");
+        }
+        this.project = project;
+        for (CUT cut : project.getCut()) {
+            // as in a linear search, only the first one counts if there are duplicates
+            cuts.putIfAbsent(cut.getFullNameOfTargetClass(), cut);
+        }
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * @return the CUT of the given class, or {@code null} if there is none
+     */
+    public CUT getCUT(String className) {
+        return cuts.get(className);
+    }
+
+    public int getNumberOfCUTs() {
+        return cuts.size();
+    }
+
+    /**
+     * Add a new CUT to the project
+     *
+     * @throws IllegalArgumentException if there is already a CUT for the same class
+     */
+    public void addCUT(CUT cut) {
+        String className = cut.getFullNameOfTargetClass();
+        if (cuts.containsKey(className)) {
+            throw new IllegalArgumentException("There is already a CUT for " + className);
+        }
+        cuts.put(className, cut);
+        project.getCut().add(cut);
+    }
+
+    /**
+     * Remove from the project all the CUTs whose class name does
+     * not satisfy the given predicate
+     *
+     * @return the removed CUTs
+     */
+    public List<CUT> retainCUTs(Predicate<String> keep) {
+        List<CUT> removed = new ArrayList<>();
+        Iterator<CUT> iter = project.getCut().iterator();
+        while (iter.hasNext()) {
+            CUT cut = iter.next();
+            String className = cut.getFullNameOfTargetClass();
+            if (!keep.test(className)) {
+                iter.remove();
+                cuts.remove(className, cut);
+                removed.add(cut);
+            }
+        }
+        return removed;
+    }
+}
@@ -25,7 +25,6 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.evosuite.Properties;
 import org.evosuite.continuous.project.ProjectStaticData;
-import org.evosuite.utils.ArrayUtil;
 import org.evosuite.utils.FileIOUtils;
 import org.evosuite.utils.LoggingUtils;
 import org.evosuite.xsd.*;
@@ -41,6 +40,9 @@ import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import java.io.*;
 import java.math.BigInteger;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
@@ -66,6 +68,14 @@ public class StorageManager {
 
     private DecimalFormat df = null;
 
+    /**
+     * Rows of the statistics of the existing test suites, indexed by
+     * target class. Loaded at most once per merge.
+     */
+    private Map<String, List<String[]>> existingStatistics = null;
+
+    private boolean existingStatisticsLoaded = false;
+
     public StorageManager() {
         this.isStorageOk = this.openForWriting();
         this.df = (DecimalFormat) NumberFormat.getNumberInstance(Locale.ENGLISH);
@@ -260,7 +270,7 @@ public class StorageManager {
             throw new NullPointerException("ProjectStaticData 'current' cannot be null");
         }
 
-        Project db = StorageManager.getDatabaseProject();
+        ProjectIndex db = new ProjectIndex(StorageManager.getDatabaseProject());
         String info = "\n\n=== CTG run results ===\n";
 
         info += removeNoMoreExistentData(db, current);
@@ -268,10 +278,18 @@ public class StorageManager {
         List<TestsOnDisk> suites = gatherGeneratedTestsOnDisk();
         info += "\nNew test suites: " + suites.size();
 
+        Map<String, TestsOnDisk> suitesByCUT = new LinkedHashMap<>();
+        for (TestsOnDisk suite : suites) {
+            suitesByCUT.putIfAbsent(suite.cut, suite);
+        }
+
+        existingStatistics = null;
+        existingStatisticsLoaded = false;
+
         // identify for which CUTs we failed to generate tests
         Set<String> missingCUTs = new LinkedHashSet<>();
 
-        db.setTotalNumberOfTestableClasses(BigInteger.valueOf(current.getTotalNumberOfTestableCUTs()));
+        db.getProject().setTotalNumberOfTestableClasses(BigInteger.valueOf(current.getTotalNumberOfTestableCUTs()));
         for (String cut : current.getClassNames()) {
             if (!current.getClassInfo(cut).isTestable()) {
                 // if a class is not testable, we don't need to update any database
@@ -279,7 +297,7 @@ public class StorageManager {
                 continue;
             }
 
-            TestsOnDisk suite = suites.parallelStream().filter(s -> s.cut.equals(cut)).findFirst().orElse(null);
+            TestsOnDisk suite = suitesByCUT.get(cut);
             if (suite == null && current.getClassInfo(cut).isToTest()) {
                 missingCUTs.add(cut);
             }
@@ -306,7 +324,8 @@ public class StorageManager {
             }
         }
 
-        commitDatabase(db);
+        existingStatistics = null;
+        commitDatabase(db.getProject());
         return info;
     }
 
@@ -363,20 +382,15 @@ public class StorageManager {
 
             String testName = extractClassName(tmpTests, test);
 
-            String cut = "";
-            for (String className : reports.keySet()) {
-                /*
-                 * This is tricky. We cannot be 100% what is going to be appended to the
-                 * class name to form the test name, although the class name should still
-                 * be a prefix. We need to check for the longest prefix as to avoid cases like
-                 *
-                 * org.Foo
-                 * org.Foo2
-                 */
-                if (testName.startsWith(className) && className.length() > cut.length()) {
-                    cut = className;
-                }
-            }
+            /*
+             * This is tricky. We cannot be 100% what is going to be appended to the
+             * class name to form the test name, although the class name should still
+             * be a prefix. We need to check for the longest prefix as to avoid cases like
+             *
+             * org.Foo
+             * org.Foo2
+             */
+            String cut = getLongestPrefix(testName, reports.keySet());
             //String cut = testName.substring(0, testName.indexOf(junitSuffix)); //This does not work, eg cases like _N_suffix
 
             CsvJUnitData data = reports.get(cut);
@@ -428,6 +442,27 @@ public class StorageManager {
     }
 
 
+    /**
+     * Example: </br>
+     * name     = org.Foo2_ESTest </br>
+     * prefixes = {org.Foo, org.Foo2, org.Bar} </br>
+     * </br>
+     * We want "org.Foo2" as a result. This takes time linear in the length
+     * of the name, regardless of the number of prefixes.
+     *
+     * @return the longest of the prefixes that the name starts with, or an
+     * empty string if there is none
+     */
+    protected static String getLongestPrefix(String name, Set<String> prefixes) {
+        for (int i = name.length(); i > 0; i--) {
+            String prefix = name.substring(0, i);
+            if (prefixes.contains(prefix)) {
+                return prefix;
+            }
+        }
+        return "";
+    }
+
     private void commitDatabase(Project db) {
 
         StringWriter writer = null;
@@ -442,13 +477,19 @@ public class StorageManager {
         }
 
         /*
-         * TODO: to be safe, we should first write to tmp file, delete original, and then
-         * rename the tmp
+         * to be safe, first write to a tmp file, and then replace the original
+         * with it, so a crash does not leave a truncated database
          */
         File current = getProjectInfoFile();
-        current.delete();
+        File tmp = new File(current.getAbsolutePath() + ".tmp");
         try {
-            FileUtils.write(current, writer.toString());
+            FileUtils.write(tmp, writer.toString());
+            try {
+                Files.move(tmp.toPath(), current.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), current.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             logger.error("Failed to write to database: " + e.getMessage(), e);
         }
@@ -465,20 +506,20 @@ public class StorageManager {
      * @param ondisk
      * @param db
      */
-    private void updateDatabase(String targetClass, TestsOnDisk ondisk, Project db, ProjectStaticData current) {
+    private void updateDatabase(String targetClass, TestsOnDisk ondisk, ProjectIndex db, ProjectStaticData current) {
 
         String testName = targetClass + Properties.JUNIT_SUFFIX; //extractClassName(tmpTests, ondisk.testSuite);
 
         // CUT data
 
-        CUT cut = ProjectUtil.getCUT(db, targetClass);
+        CUT cut = db.getCUT(targetClass);
         if (cut == null) {
             // first generation
             cut = new CUT();
             cut.setFullNameOfTargetClass(targetClass);
             cut.setFullNameOfTestSuite(testName);
 
-            db.getCut().add(cut);
+            db.addCUT(cut);
         }
 
         // Generation data
@@ -651,7 +692,7 @@ public class StorageManager {
      * @return true is the generated test suite is better (in terms of
      * coverage) than any existing test suite, false otherwise
      */
-    private boolean isBetterThanAnyExistingTestSuite(Project db, ProjectStaticData current, TestsOnDisk suite) {
+    private boolean isBetterThanAnyExistingTestSuite(ProjectIndex db, ProjectStaticData current, TestsOnDisk suite) {
 
         if (suite.csvData == null) {
             // no data available
@@ -679,27 +720,24 @@ public class StorageManager {
             return isBetterThanPreviousGeneration(db, current, suite);
         }
 
-        List<String[]> rows = null;
-        try {
-            CSVReader reader = new CSVReader(new FileReader(statistics_file));
-            rows = reader.readAll();
-            reader.close();
-        } catch (IOException | CsvException e) {
-            logger.error(e.getMessage());
+        if (!existingStatisticsLoaded) {
+            // the file has a row per class, so do not parse it once per class
+            existingStatisticsLoaded = true;
+            try {
+                existingStatistics = indexStatisticsByTargetClass(statistics_file);
+            } catch (IOException | CsvException e) {
+                logger.error(e.getMessage());
+                existingStatistics = null;
+            }
+        }
+        if (existingStatistics == null) {
             return true;
         }
 
         // select the row of the Class Under Test
-        List<String[]> rowCUT = new ArrayList<>();
-        rowCUT.add(rows.get(0)); // add header (i.e., column names)
-        for (String[] row : rows) {
-            if (ArrayUtil.contains(row, suite.cut)) {
-                rowCUT.add(row);
-                break;
-            }
-        }
+        List<String[]> rowCUT = existingStatistics.get(suite.cut);
 
-        if (rowCUT.size() == 1) {
+        if (rowCUT == null) {
             // this could happen if the data of the Class Under
             // Test was manually removed, or if during the execution
             // of measureCoverage option something wrong happened.
@@ -773,7 +811,7 @@ public class StorageManager {
      * @return true if the generated test suite is better (in terms of
      * coverage) than a previous generated test suite, false otherwise
      */
-    private boolean isBetterThanPreviousGeneration(Project db, ProjectStaticData current, TestsOnDisk suite) {
+    private boolean isBetterThanPreviousGeneration(ProjectIndex db, ProjectStaticData current, TestsOnDisk suite) {
 
         if (suite.csvData == null) {
             // no data available
@@ -789,7 +827,7 @@ public class StorageManager {
             return true;
         }
 
-        CUT cut = ProjectUtil.getCUT(db, suite.cut);
+        CUT cut = db.getCUT(suite.cut);
         Generation latestSuccessfulGeneration = CUTUtil.getLatestSuccessfulGeneration(cut);
         if (latestSuccessfulGeneration == null) {
             return true;
@@ -871,23 +909,58 @@ public class StorageManager {
      *
      * @param
      */
-    private String removeNoMoreExistentData(Project db,
+    private String removeNoMoreExistentData(ProjectIndex db,
                                             ProjectStaticData current) {
 
-        int removed = 0;
-        Iterator<CUT> iter = db.getCut().iterator();
-        while (iter.hasNext()) {
-            CUT cut = iter.next();
-            String cutName = cut.getFullNameOfTargetClass();
-            if (!current.containsClass(cutName)) {
-                iter.remove();
-                removeBestTestSuite(cut.getFullNameOfTestSuite());
-                removed++;
-            }
+        List<CUT> removed = db.retainCUTs(current::containsClass);
+        for (CUT cut : removed) {
+            removeBestTestSuite(cut.getFullNameOfTestSuite());
+        }
+
+        return "Removed test suites: " + removed.size();
+    }
+
+    /**
+     * Read a statistics file with a row per class, like the one generated
+     * when measuring the coverage of the existing test suites
+     *
+     * @return Key -> target class, Value -> header and row of that class, as
+     * expected by {@link CsvJUnitData#getValue(List, String)}
+     */
+    protected static Map<String, List<String[]>> indexStatisticsByTargetClass(File file)
+            throws IOException, CsvException {
+
+        List<String[]> rows;
+        try (CSVReader reader = new CSVReader(new FileReader(file))) {
+            rows = reader.readAll();
+        }
 
+        Map<String, List<String[]>> index = new LinkedHashMap<>();
+        if (rows.isEmpty()) {
+            return index;
+        }
+        String[] header = rows.get(0);
+        int targetClassColumn = -1;
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].trim().equalsIgnoreCase("TARGET_CLASS")) {
+                targetClassColumn = i;
+                break;
+            }
+        }
+        if (targetClassColumn < 0) {
+            logger.warn("No TARGET_CLASS column in " + file.getAbsolutePath());
+            return index;
         }
 
-        return "Removed test suites: " + removed;
+        for (int i = 1; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            if (row.length <= targetClassColumn) {
+                continue;
+            }
+            // as in a linear search, only the first row of a class counts
+            index.putIfAbsent(row[targetClassColumn].trim(), Arrays.asList(header, row));
+        }
+        return index;
     }
 
     /**
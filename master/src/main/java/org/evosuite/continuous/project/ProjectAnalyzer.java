@@ -239,12 +239,26 @@ public class ProjectAnalyzer {
             data.addNewClass(ci);
 
             if (Properties.CTG_SCHEDULE == AvailableSchedule.HISTORY) {
-                ci.setChanged(data.hasChanged(theClass.getCanonicalName() + ".java"));
+                ci.setChanged(data.hasChanged(getSourceFileName(theClass)));
                 ci.isToTest(data.isToTest(theClass.getCanonicalName(), HistorySchedule.COMMIT_IMPROVEMENT));
             }
         }
 
         return data;
     }
-}
 
+    /**
+     * Nested, local and anonymous classes are declared in the source file of
+     * their top-level class
+     *
+     * @param theClass a class of the project
+     * @return the name of its source file, with the package as prefix
+     */
+    private static String getSourceFileName(Class<?> theClass) {
+        Class<?> topLevelClass = theClass;
+        while (topLevelClass.getEnclosingClass() != null) {
+            topLevelClass = topLevelClass.getEnclosingClass();
+        }
+        return topLevelClass.getName() + ".java";
+    }
+}
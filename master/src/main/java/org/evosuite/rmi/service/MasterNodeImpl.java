@@ -26,6 +26,7 @@ import org.evosuite.ga.Chromosome;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.statistics.SearchStatistics;
+import org.evosuite.testcase.TestCase;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
 import org.slf4j.Logger;
@@ -57,6 +58,16 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 
     private final Map<String, ClientStateInformation> clientStateInformation;
 
+    /**
+     * Decoders of the migrants sent by each client
+     */
+    private final Map<String, MigrationDecoder> migrationDecoders = new ConcurrentHashMap<>();
+
+    /**
+     * Encoders of the migrants sent to each client
+     */
+    private final Map<String, MigrationEncoder> migrationEncoders = new ConcurrentHashMap<>();
+
     public MasterNodeImpl(Registry registry) {
         clients = new ConcurrentHashMap<>();
         clientStates = new ConcurrentHashMap<>();
@@ -189,8 +200,22 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
     }
 
     @Override
-    public void evosuite_migrate(String clientRmiIdentifier, Set<? extends Chromosome<?>> migrants)
+    public void evosuite_migrate(String clientRmiIdentifier, MigrationPacket packet)
             throws RemoteException {
+        // the packet is a delta against the previous ones of the sender, and
+        // it is encoded again against the previous ones of the receiver
+        MigrationDecoder decoder = migrationDecoders.computeIfAbsent(clientRmiIdentifier,
+                k -> new MigrationDecoder());
+        List<TestCase> migrants;
+        synchronized (decoder) {
+            try {
+                migrants = decoder.decode(packet);
+            } catch (IllegalStateException e) {
+                // the sender resets its encoder
+                throw new RemoteException("Cannot decode migrants of " + clientRmiIdentifier, e);
+            }
+        }
+
         //implements ring topology
         int idSender = Integer.parseInt(clientRmiIdentifier.replaceAll("[^0-9]", ""));
         int idNeighbour = (idSender + 1) % Properties.NUM_PARALLEL_CLIENTS;
@@ -200,13 +225,22 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         }
 
         if (idNeighbour != idSender) {
-            ClientNodeRemote node = clients.get("ClientNode" + idNeighbour);
-            node.immigrate(migrants);
+            String neighbour = "ClientNode" + idNeighbour;
+            ClientNodeRemote node = clients.get(neighbour);
+            MigrationEncoder encoder = migrationEncoders.computeIfAbsent(neighbour, k -> new MigrationEncoder());
+            synchronized (encoder) {
+                try {
+                    node.immigrate(encoder.encode(migrants));
+                } catch (RemoteException e) {
+                    encoder.reset();
+                    throw e;
+                }
+            }
         }
     }
 
     @Override
-    public void evosuite_collectBestSolutions(String clientRmiIdentifier, Set<? extends Chromosome<?>> solutions) {
+    public void evosuite_collectBestSolutions(String clientRmiIdentifier, MigrationPacket solutions) {
         try {
             ClientNodeRemote node = clients.get(ClientProcess.DEFAULT_CLIENT_NAME);
             node.collectBestSolutions(solutions);
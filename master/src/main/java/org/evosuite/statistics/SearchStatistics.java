@@ -154,6 +154,27 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         sequenceOutputVariableFactories.put(RuntimeVariable.FeaturesFound.name(),
                 DirectSequenceOutputVariableFactory.getInteger(RuntimeVariable.FeaturesFound));
 
+        sequenceOutputVariableFactories.put(RuntimeVariable.SUTTimeTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.SUTTimeTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.TracerTimeTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.TracerTimeTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.ObserverTimeTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.ObserverTimeTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.SandboxTimeTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.SandboxTimeTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.ClassResetTimeTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.ClassResetTimeTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.SUTAllocationTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.SUTAllocationTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.TracerAllocationTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.TracerAllocationTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.ObserverAllocationTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.ObserverAllocationTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.SandboxAllocationTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.SandboxAllocationTimeline));
+        sequenceOutputVariableFactories.put(RuntimeVariable.ClassResetAllocationTimeline.name(),
+                DirectSequenceOutputVariableFactory.getDouble(RuntimeVariable.ClassResetAllocationTimeline));
+
         // sequenceOutputVariableFactories.put("Generation_History", new GenerationSequenceOutputVariableFactory());
         if (MasterServices.getInstance().getMasterNode() != null)
             MasterServices.getInstance().getMasterNode().addListener(this);
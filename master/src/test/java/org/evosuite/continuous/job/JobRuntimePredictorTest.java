@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job;
+
+import org.evosuite.xsd.CUT;
+import org.evosuite.xsd.Coverage;
+import org.evosuite.xsd.Generation;
+import org.evosuite.xsd.Project;
+import org.evosuite.xsd.TestSuite;
+import org.evosuite.xsd.XSDUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JobRuntimePredictorTest {
+
+    private static CUT createCUT(String className, int budget, int effort, double coverage, boolean failed) {
+        Coverage branch = new Coverage();
+        branch.setCriterion("Branch");
+        branch.setCoverageValue(coverage);
+
+        TestSuite suite = new TestSuite();
+        suite.setNumberOfTests(XSDUtils.convert(1));
+        suite.setTotalNumberOfStatements(XSDUtils.convert(1));
+        suite.setTotalEffortInSeconds(XSDUtils.convert(effort));
+        suite.getCoverage().add(branch);
+
+        Generation generation = new Generation();
+        generation.setId(XSDUtils.convert(0));
+        generation.setFailed(false);
+        generation.setModified(false);
+        generation.setTimeBudgetInSeconds(XSDUtils.convert(budget));
+        generation.setSuite(suite);
+
+        CUT cut = new CUT();
+        cut.setFullNameOfTargetClass(className);
+        cut.getGeneration().add(generation);
+
+        if (failed) {
+            Generation failure = new Generation();
+            failure.setId(XSDUtils.convert(1));
+            failure.setFailed(true);
+            failure.setModified(true);
+            failure.setTimeBudgetInSeconds(XSDUtils.convert(budget));
+            cut.getGeneration().add(failure);
+        }
+        return cut;
+    }
+
+    private static JobDefinition createJob(String className, int seconds) {
+        return new JobDefinition(seconds, 100, className, 0, null, null);
+    }
+
+    @Test
+    public void testNoHistory() {
+        JobRuntimePredictor predictor = new JobRuntimePredictor(null);
+        JobDefinition job = createJob("foo.Bar", 60);
+        Assert.assertEquals(60, predictor.getExpectedSeconds(job), 0.0);
+        Assert.assertTrue(predictor.canUseMoreBudget(job));
+    }
+
+    @Test
+    public void testHistory() {
+        Project project = new Project();
+        // finished early, and fully covered
+        project.getCut().add(createCUT("foo.Early", 100, 25, 1.0, false));
+        // used all its budget, and not fully covered
+        project.getCut().add(createCUT("foo.Hard", 100, 100, 0.5, false));
+        // last generation failed, so history is not used
+        project.getCut().add(createCUT("foo.Failed", 100, 10, 1.0, true));
+        JobRuntimePredictor predictor = new JobRuntimePredictor(project);
+
+        JobDefinition early = createJob("foo.Early", 60);
+        Assert.assertEquals(15, predictor.getExpectedSeconds(early), 0.001);
+        Assert.assertFalse(predictor.canUseMoreBudget(early));
+
+        JobDefinition hard = createJob("foo.Hard", 60);
+        Assert.assertEquals(60, predictor.getExpectedSeconds(hard), 0.001);
+        Assert.assertTrue(predictor.canUseMoreBudget(hard));
+
+        JobDefinition failed = createJob("foo.Failed", 60);
+        Assert.assertEquals(60, predictor.getExpectedSeconds(failed), 0.001);
+        Assert.assertTrue(predictor.canUseMoreBudget(failed));
+    }
+}
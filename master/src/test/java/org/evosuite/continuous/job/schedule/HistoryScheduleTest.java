@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job.schedule;
+
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.Properties.AvailableSchedule;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.continuous.CtgConfiguration;
+import org.evosuite.continuous.job.JobDefinition;
+import org.evosuite.continuous.job.JobScheduler;
+import org.evosuite.continuous.project.ProjectAnalyzer;
+import org.evosuite.continuous.project.ProjectStaticData;
+import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.examples.with.different.packagename.continuous.Simple;
+import com.examples.with.different.packagename.continuous.Trivial;
+
+public class HistoryScheduleTest {
+
+    private boolean skipUnchanged;
+
+    @BeforeClass
+    public static void initClass() {
+        ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+    }
+
+    @Before
+    public void saveProperties() {
+        skipUnchanged = Properties.CTG_HISTORY_SKIP_UNCHANGED;
+    }
+
+    @After
+    public void restoreProperties() {
+        Properties.CTG_HISTORY_SKIP_UNCHANGED = skipUnchanged;
+    }
+
+    private static ProjectStaticData analyzeWithUnchangedTrivial() {
+        String[] cuts = new String[]{Simple.class.getName(), Trivial.class.getName()};
+        ProjectStaticData data = new ProjectAnalyzer(cuts).analyze();
+        data.getClassInfo(Trivial.class.getName()).setChanged(false);
+        return data;
+    }
+
+    private static List<JobDefinition> schedule(ProjectStaticData data) {
+        CtgConfiguration conf = new CtgConfiguration(1400, 2, 2, 1, false, AvailableSchedule.HISTORY);
+        return new JobScheduler(data, conf).createNewSchedule();
+    }
+
+    @Test
+    public void testUnchangedClassIsTested() {
+        Properties.CTG_HISTORY_SKIP_UNCHANGED = false;
+        ProjectStaticData data = analyzeWithUnchangedTrivial();
+
+        List<JobDefinition> jobs = schedule(data);
+        Assert.assertEquals(2, jobs.size());
+        // changed classes come first
+        Assert.assertEquals(Simple.class.getName(), jobs.get(0).cut);
+        Assert.assertEquals(Trivial.class.getName(), jobs.get(1).cut);
+        Assert.assertTrue(data.getClassInfo(Trivial.class.getName()).isToTest());
+    }
+
+    @Test
+    public void testUnchangedClassIsSkipped() {
+        Properties.CTG_HISTORY_SKIP_UNCHANGED = true;
+        ProjectStaticData data = analyzeWithUnchangedTrivial();
+
+        List<JobDefinition> jobs = schedule(data);
+        Assert.assertEquals(1, jobs.size());
+        Assert.assertEquals(Simple.class.getName(), jobs.get(0).cut);
+
+        // so that its existing tests are kept
+        ClassInfo trivial = data.getClassInfo(Trivial.class.getName());
+        Assert.assertFalse(trivial.isToTest());
+        Assert.assertTrue(data.getClassInfo(Simple.class.getName()).isToTest());
+    }
+}
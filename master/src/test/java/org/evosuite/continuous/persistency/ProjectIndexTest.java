@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.persistency;
+
+import org.evosuite.xsd.CUT;
+import org.evosuite.xsd.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ProjectIndexTest {
+
+    private static CUT createCUT(String className) {
+        CUT cut = new CUT();
+        cut.setFullNameOfTargetClass(className);
+        cut.setFullNameOfTestSuite(className + "_ESTest");
+        return cut;
+    }
+
+    @Test
+    public void testGetAndAdd() {
+        Project project = new Project();
+        CUT foo = createCUT("org.Foo");
+        project.getCut().add(foo);
+
+        ProjectIndex index = new ProjectIndex(project);
+        Assert.assertSame(foo, index.getCUT("org.Foo"));
+        Assert.assertNull(index.getCUT("org.Bar"));
+
+        CUT bar = createCUT("org.Bar");
+        index.addCUT(bar);
+        Assert.assertSame(bar, index.getCUT("org.Bar"));
+        Assert.assertEquals(2, project.getCut().size());
+        Assert.assertEquals(2, index.getNumberOfCUTs());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddDuplicate() {
+        Project project = new Project();
+        project.getCut().add(createCUT("org.Foo"));
+
+        ProjectIndex index = new ProjectIndex(project);
+        index.addCUT(createCUT("org.Foo"));
+    }
+
+    @Test
+    public void testRetain() {
+        Project project = new Project();
+        project.getCut().add(createCUT("org.Foo"));
+        project.getCut().add(createCUT("org.Bar"));
+        project.getCut().add(createCUT("org.Foo2"));
+
+        ProjectIndex index = new ProjectIndex(project);
+        List<CUT> removed = index.retainCUTs(name -> !name.startsWith("org.Foo"));
+
+        Assert.assertEquals(2, removed.size());
+        Assert.assertEquals(1, project.getCut().size());
+        Assert.assertNull(index.getCUT("org.Foo"));
+        Assert.assertNull(index.getCUT("org.Foo2"));
+        Assert.assertNotNull(index.getCUT("org.Bar"));
+    }
+}
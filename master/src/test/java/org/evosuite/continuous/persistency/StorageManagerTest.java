@@ -20,14 +20,25 @@
 package org.evosuite.continuous.persistency;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.apache.commons.io.FileUtils;
 import org.evosuite.xsd.Project;
 import org.junit.Assert;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class StorageManagerTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testDefaultProjectInfo() {
 
@@ -56,4 +67,27 @@ public class StorageManagerTest {
 
         Assert.assertEquals(packageName + "." + className, result);
     }
+
+    @Test
+    public void testLongestPrefix() {
+        Set<String> classes = new HashSet<>(Arrays.asList("org.Foo", "org.Foo2", "org.Bar"));
+
+        Assert.assertEquals("org.Foo2", StorageManager.getLongestPrefix("org.Foo2_ESTest", classes));
+        Assert.assertEquals("org.Foo", StorageManager.getLongestPrefix("org.Foo_ESTest", classes));
+        Assert.assertEquals("", StorageManager.getLongestPrefix("org.Baz_ESTest", classes));
+    }
+
+    @Test
+    public void testIndexStatisticsByTargetClass() throws Exception {
+        File statistics = folder.newFile("statistics.csv");
+        FileUtils.write(statistics, "TARGET_CLASS,BranchCoverage\n"
+                + "org.Foo,0.5\n"
+                + "org.Bar,1.0\n");
+
+        Map<String, List<String[]>> index = StorageManager.indexStatisticsByTargetClass(statistics);
+        Assert.assertEquals(2, index.size());
+        Assert.assertEquals("0.5", CsvJUnitData.getValue(index.get("org.Foo"), "BranchCoverage"));
+        Assert.assertEquals("1.0", CsvJUnitData.getValue(index.get("org.Bar"), "BranchCoverage"));
+        Assert.assertNull(index.get("org.Baz"));
+    }
 }
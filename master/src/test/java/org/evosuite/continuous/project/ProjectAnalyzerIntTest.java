@@ -19,6 +19,8 @@
  */
 package org.evosuite.continuous.project;
 
+import org.evosuite.Properties;
+import org.evosuite.Properties.AvailableSchedule;
 import org.evosuite.classpath.ClassPathHandler;
 import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
 import org.junit.Assert;
@@ -27,6 +29,12 @@ import org.junit.Test;
 
 import com.examples.with.different.packagename.continuous.Simple;
 import com.examples.with.different.packagename.continuous.Trivial;
+import com.examples.with.different.packagename.continuous.WithNestedClass;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
 
 public class ProjectAnalyzerIntTest {
 
@@ -79,4 +87,28 @@ public class ProjectAnalyzerIntTest {
         Assert.assertNotNull(trivial);
         Assert.assertEquals(1, trivial.numberOfBranches);
     }
+
+    @Test
+    public void testNestedClassChangesWithItsSourceFile() throws IOException {
+        File history = File.createTempFile("EvoSuite_history_file", ".txt");
+        history.deleteOnExit();
+        String path = WithNestedClass.class.getName().replace(".", File.separator) + ".java";
+        Files.write(history.toPath(), Collections.singletonList("M\t" + path));
+
+        AvailableSchedule schedule = Properties.CTG_SCHEDULE;
+        String historyFile = Properties.CTG_HISTORY_FILE;
+        try {
+            Properties.CTG_SCHEDULE = AvailableSchedule.HISTORY;
+            Properties.CTG_HISTORY_FILE = history.getAbsolutePath();
+
+            String[] cuts = new String[]{WithNestedClass.Nested.class.getName(), Simple.class.getName()};
+            ProjectStaticData data = new ProjectAnalyzer(cuts).analyze();
+
+            Assert.assertTrue(data.getClassInfo(WithNestedClass.Nested.class.getName()).hasChanged());
+            Assert.assertFalse(data.getClassInfo(Simple.class.getName()).hasChanged());
+        } finally {
+            Properties.CTG_SCHEDULE = schedule;
+            Properties.CTG_HISTORY_FILE = historyFile;
+        }
+    }
 }
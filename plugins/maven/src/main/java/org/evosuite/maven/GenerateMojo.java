@@ -29,6 +29,7 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.eclipse.aether.RepositorySystemSession;
 import org.evosuite.Properties;
+import org.evosuite.maven.util.ClassFileChanges;
 import org.evosuite.maven.util.EvoSuiteRunner;
 import org.evosuite.maven.util.FileUtils;
 import org.evosuite.maven.util.HistoryChanges;
@@ -106,6 +107,14 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter(property = "schedule", defaultValue = "BUDGET")
     private String schedule;
 
+    /**
+     * Only generate tests for the classes whose bytecode changed since the last
+     * execution, or that depend on such classes, and keep the existing tests of
+     * all the other classes. This uses the HISTORY schedule.
+     */
+    @Parameter(property = "incremental", defaultValue = "false")
+    private boolean incremental;
+
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     private MavenProject project;
 
@@ -242,8 +251,20 @@ public class GenerateMojo extends AbstractMojo {
         params.add("-target");
         params.add(target);
         params.add("-Dcriterion=" + criterion);
-        params.add("-Dctg_schedule=" + schedule);
-        if (schedule.toUpperCase().equals(Properties.AvailableSchedule.HISTORY.toString())) {
+        ClassFileChanges changes = null;
+        if (incremental) {
+            try {
+                changes = ClassFileChanges.keepTrack(dir, new File(this.project.getBuild().getOutputDirectory()));
+                getLog().info("Classes to test incrementally: " + changes.getAffectedClasses().size());
+            } catch (Exception e) {
+                throw new MojoFailureException("", e);
+            }
+
+            params.add("-Dctg_schedule=" + Properties.AvailableSchedule.HISTORY);
+            params.add("-Dctg_history_file=" + dir + File.separator + Properties.CTG_DIR + File.separator + "history_file");
+            params.add("-Dctg_history_skip_unchanged=true");
+        } else if (schedule.toUpperCase().equals(Properties.AvailableSchedule.HISTORY.toString())) {
+            params.add("-Dctg_schedule=" + schedule);
             try {
                 List<File> files = FileUtils.scan(this.project.getCompileSourceRoots(), this.includes, this.excludes);
                 HistoryChanges.keepTrack(dir, files);
@@ -252,6 +273,8 @@ public class GenerateMojo extends AbstractMojo {
             }
 
             params.add("-Dctg_history_file=" + dir + File.separator + Properties.CTG_DIR + File.separator + "history_file");
+        } else {
+            params.add("-Dctg_schedule=" + schedule);
         }
         params.add("-Dctg_memory=" + memoryInMB);
         params.add("-Dctg_cores=" + numberOfCores);
@@ -317,6 +340,15 @@ public class GenerateMojo extends AbstractMojo {
         if (!ok) {
             throw new MojoFailureException("Failed to correctly execute EvoSuite");
         }
+
+        if (changes != null) {
+            // only now the changed classes have their new tests
+            try {
+                changes.saveHashes();
+            } catch (Exception e) {
+                throw new MojoFailureException("", e);
+            }
+        }
     }
 
     private String writeClasspathToFile(String classpath) {
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.maven.util;
+
+import org.evosuite.Properties;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.ClassRemapper;
+import org.objectweb.asm.commons.Remapper;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * <p>
+ * ClassFileChanges class
+ * <p>
+ * <p>
+ * Same as {@link HistoryChanges}, but based on the compiled classes
+ * instead of the source files. A class needs new tests if its bytecode
+ * changed (eg, not just its comments), or if it depends, directly or
+ * transitively, on a class of the module whose bytecode changed.
+ * <p>
+ * The hash of each top-level class (including its nested classes) is kept
+ * in a file with the following format
+ * __class_name__ \t __md5_hash__
+ * <p>
+ * and the classes needing new tests are written to the 'history_file',
+ * in the same format used by {@link HistoryChanges}. The hashes are only
+ * saved once the tests have been generated, so the classes of a failed
+ * execution are still seen as changed in the next one.
+ */
+public class ClassFileChanges {
+
+    private static final String CLASS_EXT = ".class";
+
+    /**
+     * Key -> top-level class name
+     * Value -> its class files (the class itself, and its nested classes)
+     */
+    private final Map<String, List<File>> classFiles = new TreeMap<>();
+
+    /**
+     * Key -> top-level class name
+     * Value -> top-level classes of the module using it
+     */
+    private final Map<String, Set<String>> usedBy = new HashMap<>();
+
+    private final Map<String, String> hashes = new HashMap<>();
+
+    private final File hashFile;
+
+    private final File historyFile;
+
+    private Set<String> affected = Collections.emptySet();
+
+    private ClassFileChanges(File hashFile, File historyFile) {
+        this.hashFile = hashFile;
+        this.historyFile = historyFile;
+    }
+
+    /**
+     * Hash the classes in the given folder, compare them with the hashes
+     * of the previous execution, and write the 'history_file'. The
+     * 'class_hash_file' is not updated until {@link #saveHashes()}
+     *
+     * @param basedir    the base directory of the project
+     * @param classesDir where the compiled classes of the project are
+     * @return the changes, with the classes needing new tests
+     */
+    public static ClassFileChanges keepTrack(String basedir, File classesDir) throws Exception {
+
+        File dot_evosuite = new File(basedir + File.separator + Properties.CTG_DIR);
+        if (!dot_evosuite.exists()) {
+            if (!dot_evosuite.mkdir()) {
+                throw new Exception("No permission to create the directory '" + basedir + File.separator + Properties.CTG_DIR + "'");
+            }
+        }
+
+        ClassFileChanges changes = new ClassFileChanges(new File(dot_evosuite, "class_hash_file"),
+                new File(dot_evosuite, "history_file"));
+        changes.analyze(classesDir);
+
+        Map<String, String> previous = readHashes(changes.hashFile);
+        changes.affected = changes.findAffectedClasses(previous);
+
+        try (BufferedWriter history_file_bw = new BufferedWriter(new FileWriter(changes.historyFile))) {
+            for (String className : changes.affected) {
+                // nested classes are in the source file of their top-level class
+                String path = className.replace(".", File.separator) + ".java";
+                history_file_bw.write((previous.containsKey(className) ? "M" : "A") + "\t" + path + "\n");
+            }
+        } catch (IOException e) {
+            throw new Exception("IOException: ", e);
+        }
+
+        return changes;
+    }
+
+    /**
+     * @return the top-level classes needing new tests
+     */
+    public Set<String> getAffectedClasses() {
+        return Collections.unmodifiableSet(affected);
+    }
+
+    /**
+     * Write the hashes of the current classes to the 'class_hash_file'.
+     * To call once the tests of the affected classes have been generated
+     */
+    public void saveHashes() throws Exception {
+        try (BufferedWriter hash_file_bw = new BufferedWriter(new FileWriter(hashFile))) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(hashes).entrySet()) {
+                hash_file_bw.write(entry.getKey() + "\t" + entry.getValue() + "\n");
+            }
+        } catch (IOException e) {
+            throw new Exception("IOException: ", e);
+        }
+    }
+
+    private static Map<String, String> readHashes(File hash_file) throws Exception {
+        Map<String, String> hashes = new HashMap<>();
+        if (!hash_file.exists()) {
+            return hashes;
+        }
+        try (BufferedReader br = new BufferedReader(new FileReader(hash_file))) {
+            String sCurrentLine;
+            while ((sCurrentLine = br.readLine()) != null) {
+                String[] split = sCurrentLine.split("\t");
+                if (split.length == 2) {
+                    hashes.put(split[0], split[1]);
+                }
+            }
+        } catch (IOException e) {
+            throw new Exception("reading the content of class_hash_file ", e);
+        }
+        return hashes;
+    }
+
+    private void analyze(File classesDir) throws IOException, NoSuchAlgorithmException {
+        collectClassFiles(classesDir, classesDir);
+
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        for (Map.Entry<String, List<File>> entry : classFiles.entrySet()) {
+            String className = entry.getKey();
+            List<File> files = entry.getValue();
+            files.sort(Comparator.comparing(File::getName));
+
+            Set<String> dependencies = new HashSet<>();
+            md5.reset();
+            for (File file : files) {
+                byte[] bytes = Files.readAllBytes(file.toPath());
+                md5.update(bytes);
+                dependencies.addAll(getReferencedClasses(bytes));
+            }
+            hashes.put(className, String.format("%1$032x", new BigInteger(1, md5.digest())));
+
+            for (String dependency : dependencies) {
+                if (!dependency.equals(className) && classFiles.containsKey(dependency)) {
+                    usedBy.computeIfAbsent(dependency, k -> new HashSet<>()).add(className);
+                }
+            }
+        }
+    }
+
+    private void collectClassFiles(File root, File folder) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        int prefix = root.getAbsolutePath().length() + 1;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                collectClassFiles(root, file);
+            } else if (file.getName().endsWith(CLASS_EXT)) {
+                String path = file.getAbsolutePath();
+                String name = path.substring(prefix, path.length() - CLASS_EXT.length())
+                        .replace(File.separatorChar, '.');
+                classFiles.computeIfAbsent(getTopLevelClass(name), k -> new ArrayList<>()).add(file);
+            }
+        }
+    }
+
+    private static String getTopLevelClass(String className) {
+        int dollar = className.indexOf('$');
+        return dollar < 0 ? className : className.substring(0, dollar);
+    }
+
+    /**
+     * @return the top-level classes referenced anywhere in the given class
+     * file, eg in signatures, annotations and code
+     */
+    private static Set<String> getReferencedClasses(byte[] bytes) {
+        Set<String> referenced = new HashSet<>();
+        Remapper collector = new Remapper() {
+            @Override
+            public String map(String internalName) {
+                referenced.add(getTopLevelClass(internalName.replace('/', '.')));
+                return internalName;
+            }
+        };
+        ClassVisitor visitor = new ClassRemapper(new ClassVisitor(Opcodes.ASM9) {
+        }, collector);
+        new ClassReader(bytes).accept(visitor, ClassReader.SKIP_FRAMES);
+        return referenced;
+    }
+
+    /**
+     * A single pass over the classes finds the changed ones, and then a
+     * traversal of the reverse dependencies finds the classes using them
+     *
+     * @param previous the hashes of the previous execution
+     * @return the classes that changed, or that use a class that changed
+     */
+    private Set<String> findAffectedClasses(Map<String, String> previous) {
+        Set<String> affected = new TreeSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                toVisit.add(entry.getKey());
+            }
+        }
+        // the classes using a removed class must have changed as well, or they would not compile
+        while (!toVisit.isEmpty()) {
+            String className = toVisit.poll();
+            if (affected.add(className)) {
+                toVisit.addAll(usedBy.getOrDefault(className, Collections.emptySet()));
+            }
+        }
+        return affected;
+    }
+}
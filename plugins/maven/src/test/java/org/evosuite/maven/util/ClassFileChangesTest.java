@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.maven.util;
+
+import com.examples.with.different.packagename.incremental.Leaf;
+import com.examples.with.different.packagename.incremental.Unrelated;
+import com.examples.with.different.packagename.incremental.UsesLeaf;
+import com.examples.with.different.packagename.incremental.UsesUsesLeaf;
+import org.evosuite.Properties;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ClassFileChangesTest {
+
+    private static final String PACKAGE = Leaf.class.getPackage().getName();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String basedir;
+
+    private File classesDir;
+
+    private File packageDir;
+
+    @Before
+    public void copyClasses() throws Exception {
+        basedir = folder.getRoot().getAbsolutePath();
+        classesDir = folder.newFolder("classes");
+        packageDir = new File(classesDir, PACKAGE.replace('.', File.separatorChar));
+        Assert.assertTrue(packageDir.mkdirs());
+
+        File compiled = new File(Leaf.class.getResource("Leaf.class").toURI()).getParentFile();
+        for (File file : compiled.listFiles()) {
+            if (file.getName().endsWith(".class")) {
+                Files.copy(file.toPath(), new File(packageDir, file.getName()).toPath());
+            }
+        }
+    }
+
+    private File getHashFile() {
+        return new File(basedir + File.separator + Properties.CTG_DIR, "class_hash_file");
+    }
+
+    private List<String> readHistoryFile() throws Exception {
+        return Files.readAllLines(new File(basedir + File.separator + Properties.CTG_DIR, "history_file").toPath());
+    }
+
+    private static String historyEntry(String kind, Class<?> clazz) {
+        return kind + "\t" + clazz.getName().replace(".", File.separator) + ".java";
+    }
+
+    private static Set<String> names(Class<?>... classes) {
+        Set<String> names = new HashSet<>();
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testFirstExecutionAddsAllClasses() throws Exception {
+        ClassFileChanges changes = ClassFileChanges.keepTrack(basedir, classesDir);
+
+        // nested classes are part of their top-level class
+        Assert.assertEquals(names(Leaf.class, Unrelated.class, UsesLeaf.class, UsesUsesLeaf.class),
+                changes.getAffectedClasses());
+        Assert.assertEquals(Arrays.asList(historyEntry("A", Leaf.class), historyEntry("A", Unrelated.class),
+                historyEntry("A", UsesLeaf.class), historyEntry("A", UsesUsesLeaf.class)), readHistoryFile());
+    }
+
+    @Test
+    public void testHashesAreOnlyWrittenWhenSaved() throws Exception {
+        ClassFileChanges.keepTrack(basedir, classesDir);
+        Assert.assertFalse(getHashFile().exists());
+
+        // as if EvoSuite had failed: the classes still need new tests
+        ClassFileChanges changes = ClassFileChanges.keepTrack(basedir, classesDir);
+        Assert.assertEquals(4, changes.getAffectedClasses().size());
+
+        changes.saveHashes();
+        List<String> hashes = Files.readAllLines(getHashFile().toPath());
+        Assert.assertEquals(4, hashes.size());
+        Assert.assertTrue(hashes.get(0), hashes.get(0).matches(Leaf.class.getName() + "\t[0-9a-f]{32}"));
+
+        // same bytecode, same hashes
+        changes = ClassFileChanges.keepTrack(basedir, classesDir);
+        Assert.assertEquals(Collections.emptySet(), changes.getAffectedClasses());
+        Assert.assertEquals(Collections.emptyList(), readHistoryFile());
+    }
+
+    @Test
+    public void testChangeReachesTheClassesUsingItTransitively() throws Exception {
+        ClassFileChanges.keepTrack(basedir, classesDir).saveHashes();
+
+        // any valid class file will do as a new version of the nested class
+        Files.copy(new File(packageDir, "Unrelated.class").toPath(), new File(packageDir, "Leaf$Nested.class").toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        ClassFileChanges changes = ClassFileChanges.keepTrack(basedir, classesDir);
+        Assert.assertEquals(names(Leaf.class, UsesLeaf.class, UsesUsesLeaf.class), changes.getAffectedClasses());
+        Assert.assertEquals(Arrays.asList(historyEntry("M", Leaf.class), historyEntry("M", UsesLeaf.class),
+                historyEntry("M", UsesUsesLeaf.class)), readHistoryFile());
+    }
+
+    @Test
+    public void testRemovedClassIsNotInTheHistory() throws Exception {
+        ClassFileChanges.keepTrack(basedir, classesDir).saveHashes();
+
+        Assert.assertTrue(new File(packageDir, "Unrelated.class").delete());
+
+        ClassFileChanges changes = ClassFileChanges.keepTrack(basedir, classesDir);
+        Assert.assertEquals(Collections.emptySet(), changes.getAffectedClasses());
+        Assert.assertEquals(Collections.emptyList(), readHistoryFile());
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in profiler that accounts how much time and memory allocation is spent in
+ * the different stages of a test execution (SUT code, tracer callbacks, observers,
+ * sandbox checks and class resets).
+ *
+ * <p>
+ * Stages can be nested (eg, a tracer callback is executed while the SUT is running),
+ * and the accounting is exclusive: the time spent in a nested stage is not counted
+ * in the enclosing one. Stages that are entered very often (tracer callbacks and
+ * sandbox checks) are only measured every {@link #getSamplingRate()} entries, and the
+ * measured values are extrapolated.
+ *
+ * <p>
+ * Measurements are grouped by context, ie the current search phase and, for
+ * strategies that target one goal at a time, the current goal.
+ */
+public class ExecutionProfiler {
+
+    public enum Stage {
+        SUT(false),
+        TRACER(true),
+        OBSERVER(false),
+        SANDBOX(true),
+        CLASS_RESET(false);
+
+        private final boolean sampled;
+
+        Stage(boolean sampled) {
+            this.sampled = sampled;
+        }
+
+        /**
+         * @return whether only some of the entries of this stage are measured
+         */
+        public boolean isSampled() {
+            return sampled;
+        }
+    }
+
+    private static final int NUM_STAGES = Stage.values().length;
+
+    private static final int MAX_DEPTH = 32;
+
+    /*
+     * Note: this has to be declared after the constants above,
+     * as they are used when the instance is created
+     */
+    private static final ExecutionProfiler singleton = new ExecutionProfiler();
+
+    private volatile boolean activated = false;
+
+    private volatile int samplingRate = 1;
+
+    private volatile String phase = "";
+
+    private volatile String goal = "";
+
+    private volatile Measurements current;
+
+    private final Map<String, Measurements> measurementsByContext = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+    private final ThreadMXBean threadBean;
+
+    private final boolean allocationSupported;
+
+    private ExecutionProfiler() {
+        threadBean = ManagementFactory.getThreadMXBean();
+        allocationSupported = threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported();
+        updateContext();
+    }
+
+    public static ExecutionProfiler getInstance() {
+        return singleton;
+    }
+
+    public void setActive(boolean active) {
+        if (active && allocationSupported) {
+            ((com.sun.management.ThreadMXBean) threadBean).setThreadAllocatedMemoryEnabled(true);
+        }
+        this.activated = active;
+    }
+
+    public boolean isActivated() {
+        return activated;
+    }
+
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * @param samplingRate measure one every <code>samplingRate</code> entries of sampled stages
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public void setSamplingRate(int samplingRate) throws IllegalArgumentException {
+        if (samplingRate <= 0) {
+            throw new IllegalArgumentException("Sampling rate has to be positive: " + samplingRate);
+        }
+        this.samplingRate = samplingRate;
+    }
+
+    /**
+     * Set the search phase that following measurements are accounted to
+     *
+     * @param phase
+     */
+    public void setPhase(String phase) {
+        this.phase = phase == null ? "" : phase;
+        updateContext();
+    }
+
+    /**
+     * Set the goal that following measurements are accounted to, or
+     * <code>null</code> if the search is not targeting a single goal
+     *
+     * @param goal
+     */
+    public void setGoal(String goal) {
+        this.goal = goal == null ? "" : goal;
+        updateContext();
+    }
+
+    private void updateContext() {
+        String context = goal.isEmpty() ? phase : phase + ":" + goal;
+        current = measurementsByContext.computeIfAbsent(context, k -> new Measurements());
+    }
+
+    /**
+     * Called when the current thread starts executing the given stage.
+     *
+     * @param stage
+     * @return whether this entry is measured, to be passed to {@link #exit(boolean)}
+     */
+    public boolean enter(Stage stage) {
+        if (!activated) {
+            return false;
+        }
+
+        ThreadState state = threadState.get();
+        int weight = 1;
+        if (stage.isSampled()) {
+            int rate = samplingRate;
+            if (rate > 1) {
+                if (++state.sampleCounters[stage.ordinal()] < rate) {
+                    return false;
+                }
+                state.sampleCounters[stage.ordinal()] = 0;
+                weight = rate;
+            }
+        }
+
+        if (state.depth == MAX_DEPTH) {
+            return false;
+        }
+
+        state.charge(this);
+        state.stages[state.depth] = stage;
+        state.weights[state.depth] = weight;
+        state.depth++;
+        return true;
+    }
+
+    /**
+     * Called when the current thread is done with the stage last entered.
+     *
+     * @param measured the value returned by the corresponding {@link #enter(Stage)}
+     */
+    public void exit(boolean measured) {
+        if (!measured) {
+            return;
+        }
+
+        ThreadState state = threadState.get();
+        if (state.depth == 0) {
+            return;
+        }
+        state.charge(this);
+        state.depth--;
+    }
+
+    /**
+     * Called when the current thread is done with the given stage. Stages
+     * entered since then and not exited (eg, because an exception was thrown)
+     * are exited as well.
+     *
+     * @param stage    the stage that was entered
+     * @param measured the value returned by the corresponding {@link #enter(Stage)}
+     */
+    public void exit(Stage stage, boolean measured) {
+        if (!measured) {
+            return;
+        }
+
+        ThreadState state = threadState.get();
+        while (state.depth > 0) {
+            state.charge(this);
+            state.depth--;
+            if (state.stages[state.depth] == stage) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Discard all measurements
+     */
+    public void reset() {
+        measurementsByContext.clear();
+        updateContext();
+    }
+
+    /**
+     * @param stage
+     * @return the total time in nanoseconds spent in the stage, over all contexts
+     */
+    public long getTotalTime(Stage stage) {
+        long total = 0L;
+        for (Measurements m : measurementsByContext.values()) {
+            total += m.time.get(stage.ordinal());
+        }
+        return total;
+    }
+
+    /**
+     * @param stage
+     * @return the total number of bytes allocated in the stage, over all contexts
+     */
+    public long getTotalAllocation(Stage stage) {
+        long total = 0L;
+        for (Measurements m : measurementsByContext.values()) {
+            total += m.allocation.get(stage.ordinal());
+        }
+        return total;
+    }
+
+    /**
+     * @return for each context (phase, or phase:goal), the time in nanoseconds spent in each stage, indexed by ordinal
+     */
+    public Map<String, long[]> getTimeByContext() {
+        Map<String, long[]> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Measurements> entry : measurementsByContext.entrySet()) {
+            result.put(entry.getKey(), toArray(entry.getValue().time));
+        }
+        return result;
+    }
+
+    /**
+     * @return for each context (phase, or phase:goal), the bytes allocated in each stage, indexed by ordinal
+     */
+    public Map<String, long[]> getAllocationByContext() {
+        Map<String, long[]> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Measurements> entry : measurementsByContext.entrySet()) {
+            result.put(entry.getKey(), toArray(entry.getValue().allocation));
+        }
+        return result;
+    }
+
+    private static long[] toArray(AtomicLongArray array) {
+        long[] values = new long[array.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i);
+        }
+        return values;
+    }
+
+    private long allocatedBytes() {
+        if (!allocationSupported) {
+            return 0L;
+        }
+        return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static class Measurements {
+        private final AtomicLongArray time = new AtomicLongArray(NUM_STAGES);
+        private final AtomicLongArray allocation = new AtomicLongArray(NUM_STAGES);
+    }
+
+    private static class ThreadState {
+
+        private final Stage[] stages = new Stage[MAX_DEPTH];
+        private final int[] weights = new int[MAX_DEPTH];
+        private final int[] sampleCounters = new int[NUM_STAGES];
+        private int depth = 0;
+        private long lastTime = java.lang.System.nanoTime();
+        private long lastAllocation = 0L;
+
+        /**
+         * Account what happened since the last stage switch to the stage on top of the stack.
+         * A sampled stage with weight w stands for w entries, w-1 of which have been
+         * (wrongly) accounted to the enclosing stage, so these are moved over.
+         */
+        private void charge(ExecutionProfiler profiler) {
+            long now = java.lang.System.nanoTime();
+            long allocated = profiler.allocatedBytes();
+            long elapsed = now - lastTime;
+            long bytes = allocated - lastAllocation;
+            lastTime = now;
+            lastAllocation = allocated;
+
+            if (depth == 0) {
+                return;
+            }
+
+            Measurements m = profiler.current;
+            int top = depth - 1;
+            int weight = weights[top];
+            int index = stages[top].ordinal();
+            m.time.addAndGet(index, elapsed * weight);
+            m.allocation.addAndGet(index, bytes * weight);
+            if (weight > 1 && top > 0) {
+                int parent = stages[top - 1].ordinal();
+                m.time.addAndGet(parent, -elapsed * (weight - 1));
+                m.allocation.addAndGet(parent, -bytes * (weight - 1));
+            }
+        }
+    }
+}
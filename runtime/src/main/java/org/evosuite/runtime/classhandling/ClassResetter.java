@@ -19,6 +19,7 @@
  */
 package org.evosuite.runtime.classhandling;
 
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.runtime.LoopCounter;
 import org.evosuite.runtime.TooManyResourcesException;
 import org.evosuite.runtime.agent.InstrumentingAgent;
@@ -31,6 +32,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -58,8 +60,15 @@ public class ClassResetter {
 
     private final Map<ClassLoader, Map<String, Method>> resetMethodCache;
 
+    /**
+     * Initial values of static fields, used to reset classes without re-running
+     * their class initializer. A null value means that no snapshot could be taken.
+     */
+    private final Map<ClassLoader, Map<String, StaticFieldSnapshot>> snapshotCache;
+
     private ClassResetter() {
         resetMethodCache = new HashMap<>();
+        snapshotCache = new HashMap<>();
     }
 
     /**
@@ -143,6 +152,83 @@ public class ClassResetter {
             return;
         }
 
+        boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.CLASS_RESET);
+        try {
+            invokeResetMethod(classNameWithDots, m);
+        } finally {
+            ExecutionProfiler.getInstance().exit(profiled);
+        }
+    }
+
+    /**
+     * Record the current values of the static fields of the given class, so that
+     * they can later be restored with {@link #restoreStaticFields(String, Collection)}.
+     * This should be called right after the class has been (re-)initialized.
+     * Nothing is done if a snapshot was already taken for the class.
+     *
+     * @param classNameWithDots
+     */
+    public void takeStaticFieldSnapshot(String classNameWithDots) throws IllegalStateException {
+        if (loader == null) {
+            throw new IllegalStateException("No specified loader");
+        }
+
+        if (!snapshotCache.containsKey(loader)) {
+            snapshotCache.put(loader, new HashMap<>());
+        }
+
+        Map<String, StaticFieldSnapshot> snapshots = snapshotCache.get(loader);
+        if (snapshots.containsKey(classNameWithDots)) {
+            return;
+        }
+
+        StaticFieldSnapshot snapshot = null;
+        try {
+            Class<?> clazz = loader.loadClass(classNameWithDots);
+            snapshot = StaticFieldSnapshot.take(clazz);
+        } catch (Exception | Error e) {
+            logWarn(classNameWithDots, e.getClass() + " thrown while reading the static fields of class " + classNameWithDots);
+        }
+        snapshots.put(classNameWithDots, snapshot);
+    }
+
+    /**
+     * Reset the given static fields of a class to the values recorded by
+     * {@link #takeStaticFieldSnapshot(String)}, without running any code of the class.
+     *
+     * @param classNameWithDots
+     * @param fieldNames        the fields written since the snapshot, or {@code null} if unknown
+     * @return {@code false} if the class could not be reset this way, eg no snapshot
+     * was taken yet or some of its static fields point to mutable objects. In such
+     * case, {@code __STATIC_RESET()} needs to be invoked instead
+     */
+    public boolean restoreStaticFields(String classNameWithDots, Collection<String> fieldNames)
+            throws IllegalStateException {
+        if (loader == null) {
+            throw new IllegalStateException("No specified loader");
+        }
+
+        Map<String, StaticFieldSnapshot> snapshots = snapshotCache.get(loader);
+        if (snapshots == null) {
+            return false;
+        }
+        StaticFieldSnapshot snapshot = snapshots.get(classNameWithDots);
+        if (snapshot == null || !snapshot.isRestorable()) {
+            return false;
+        }
+
+        boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.CLASS_RESET);
+        try {
+            return snapshot.restore(fieldNames);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            logWarn(classNameWithDots, e.getClass() + " thrown while restoring the static fields of class " + classNameWithDots);
+            return false;
+        } finally {
+            ExecutionProfiler.getInstance().exit(profiled);
+        }
+    }
+
+    private void invokeResetMethod(String classNameWithDots, Method m) {
         boolean safe = Sandbox.isSafeToExecuteSUTCode();
 
         assert !Sandbox.isSecurityManagerInitialized() || Sandbox.isOnAndExecutingSUTCode();
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.classhandling;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The values of the static fields of a class right after its initialization.
+ *
+ * <p>
+ * Restoring these values is equivalent to re-running the class initializer
+ * only if all the values are immutable (null, primitives, strings, enum
+ * constants or classes): if any static field points to a mutable object, the
+ * test might have changed that object, and so the snapshot cannot be restored.
+ */
+final class StaticFieldSnapshot {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class, Class.class));
+
+    /**
+     * Non-final static fields, with their initial values
+     */
+    private final Map<String, Field> fields = new HashMap<>();
+
+    private final Map<String, Object> values = new HashMap<>();
+
+    private boolean restorable = true;
+
+    private StaticFieldSnapshot() {
+    }
+
+    /**
+     * Read the current values of all the static fields of the given class
+     *
+     * @throws IllegalAccessException if the fields cannot be made accessible
+     */
+    public static StaticFieldSnapshot take(Class<?> clazz) throws IllegalAccessException {
+        StaticFieldSnapshot snapshot = new StaticFieldSnapshot();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || isCoverageToolField(field.getName())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Object value = field.get(null);
+            if (!isImmutable(value)) {
+                // no point in keeping the other fields
+                snapshot.restorable = false;
+                snapshot.fields.clear();
+                snapshot.values.clear();
+                return snapshot;
+            }
+            if (!Modifier.isFinal(field.getModifiers())) {
+                snapshot.fields.put(field.getName(), field);
+                snapshot.values.put(field.getName(), value);
+            }
+        }
+        return snapshot;
+    }
+
+    private static boolean isCoverageToolField(String name) {
+        return name.startsWith("__cobertura") || name.startsWith("$jacoco") || name.startsWith("$VRc")
+                || name.startsWith("$gzoltar");
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value == null || IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    /**
+     * @return whether all the static state of the class can be reset with this snapshot
+     */
+    public boolean isRestorable() {
+        return restorable;
+    }
+
+    /**
+     * Set the given fields back to their initial values
+     *
+     * @param fieldNames the fields to restore, or {@code null} to restore all of them
+     * @return {@code false} if any of the given fields is not part of this snapshot,
+     * in which case the class needs to be reset in some other way
+     * @throws IllegalAccessException
+     */
+    public boolean restore(Collection<String> fieldNames) throws IllegalAccessException {
+        if (!restorable) {
+            return false;
+        }
+        Collection<String> toRestore = fieldNames == null ? fields.keySet() : fieldNames;
+        for (String name : toRestore) {
+            if (!fields.containsKey(name)) {
+                // eg, a static field inherited from a super class
+                return false;
+            }
+        }
+        for (String name : toRestore) {
+            fields.get(name).set(null, values.get(name));
+        }
+        return true;
+    }
+}
@@ -116,23 +116,13 @@ public class MockFileInputStream extends FileInputStream implements LeakingResou
 			return super.read(b, off, len);
 		}
 		
-		int counter = 0;
-		for(int i=0; i<len; i++){
-			int v = read();
-			if(v == -1){  //EOF
-				if(i==0){
-					//no data to read
-					return -1;
-				} else {
-					return counter;
-				}
-			}
-
-			b[off+i] = (byte) v;
-			counter++;
+		if(len <= 0){
+			return 0;
 		}
 
-		return counter; 
+		throwExceptionIfClosed();
+
+		return NativeMockedIO.read(path, position, b, off, len);
 	}
 
 	@Override
@@ -19,6 +19,7 @@
  */
 package org.evosuite.runtime.sandbox;
 
+import org.evosuite.runtime.ExecutionProfiler;
 import org.evosuite.runtime.RuntimeSettings;
 import org.evosuite.runtime.vfs.VirtualFileSystem;
 import org.slf4j.Logger;
@@ -49,7 +50,9 @@ import java.net.UnknownHostException;
 import java.security.*;
 import java.sql.SQLPermission;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.FileHandler;
 import java.util.logging.LoggingPermission;
 
@@ -95,6 +98,11 @@ public class MSecurityManager extends SecurityManager {
 
     private static final String LOCALHOST_NAME;
 
+    /**
+     * Upper bound on the number of decisions cached during a single test case execution
+     */
+    private static final int MAX_CACHED_DECISIONS = 10_000;
+
     static {
         String tmp = null;
         try {
@@ -132,11 +140,14 @@ public class MSecurityManager extends SecurityManager {
         tmpFile = tmp;
 
         /*
-         * We need to force the loading of RuntimeSettings here,
+         * We need to force the loading of RuntimeSettings here (as well as of
+         * the other classes used in the security checks),
          * otherwise we end up in a infinite loop when its jar
          * is accessed during the security checks
          */
         boolean forceLoading = RuntimeSettings.mockJVMNonDeterminism;
+        ExecutionProfiler.getInstance();
+        new PermissionKey(new RuntimePermission("forceLoading"));
     }
 
     private final PermissionStatistics statistics = PermissionStatistics.getInstance();
@@ -151,7 +162,9 @@ public class MSecurityManager extends SecurityManager {
 
     /**
      * Data structure containing all the (EvoSuite) threads that do not need to
-     * go through the same sandbox as the SUT threads
+     * go through the same sandbox as the SUT threads.
+     * Note: this is checked on each permission request, so lookups need to be
+     * constant time and lock-free
      */
     private final Set<Thread> privilegedThreads;
 
@@ -177,17 +190,35 @@ public class MSecurityManager extends SecurityManager {
      */
     private final Set<Permission> unrecognizedPermissions;
 
+    /**
+     * Decisions taken for SUT threads during the current test case execution.
+     * Code under test can easily ask for the very same permission millions of times
+     * (eg, reading a property in a loop), so there is no point in going
+     * through the whole decision logic again. The cache is cleared each time
+     * a test case starts or ends, as some decisions depend on whether a test is
+     * being executed
+     */
+    private final Map<PermissionKey, Boolean> decisionCache;
+
+    /**
+     * Number of decisions taken from the cache since the current (or last) test
+     * case execution started
+     */
+    private final AtomicInteger cacheHits;
+
     /**
      * Create a custom security manager for the SUT. The thread that create this
      * instance is automatically added as "privileged"
      */
     public MSecurityManager() {
-        privilegedThreads = new CopyOnWriteArraySet<>();
+        privilegedThreads = Collections.newSetFromMap(new ConcurrentHashMap<>());
         privilegedThreads.add(Thread.currentThread());
         defaultManager = System.getSecurityManager();
         executingTestCase = false;
         privilegedThreadToIgnore = null;
         unrecognizedPermissions = new CopyOnWriteArraySet<>();
+        decisionCache = new ConcurrentHashMap<>();
+        cacheHits = new AtomicInteger(0);
 
         filesToDelete = new CopyOnWriteArraySet<>();
     }
@@ -339,6 +370,8 @@ public class MSecurityManager extends SecurityManager {
             throw new IllegalStateException("Trying to set up the sandbox while executing a test case");
         }
 
+        decisionCache.clear();
+        cacheHits.set(0);
         executingTestCase = true;
     }
 
@@ -363,6 +396,7 @@ public class MSecurityManager extends SecurityManager {
         }
 
         executingTestCase = false;
+        decisionCache.clear();
     }
 
     /**
@@ -387,6 +421,24 @@ public class MSecurityManager extends SecurityManager {
         }
     }
 
+    /**
+     * Remove a thread added with {@link #addPrivilegedThread(Thread)}, eg when
+     * it is no longer used
+     *
+     * @param t
+     * @throws SecurityException if the thread calling this method is not privileged itself
+     */
+    public synchronized void removePrivilegedThread(Thread t) throws SecurityException {
+        if (privilegedThreads.contains(Thread.currentThread())) {
+            logger.debug("Removing privileged thread: \"" + t.getName() + "\"");
+            privilegedThreads.remove(t);
+        } else {
+            String current = Thread.currentThread().getName();
+            throw new SecurityException("Unprivileged thread \"" + current + "\" cannot remove privileged thread \""
+                    + t.getName() + "\"");
+        }
+    }
+
     // ------------------------------------------------------------------------------------------
 
     /*
@@ -418,6 +470,15 @@ public class MSecurityManager extends SecurityManager {
      */
     @Override
     public void checkPermission(Permission perm) throws SecurityException {
+        boolean profiled = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.SANDBOX);
+        try {
+            checkPermissionWithoutProfiling(perm);
+        } finally {
+            ExecutionProfiler.getInstance().exit(profiled);
+        }
+    }
+
+    private void checkPermissionWithoutProfiling(Permission perm) throws SecurityException {
         // check access
         if (!allowPermission(perm)) {
             String stack = "\n";
@@ -516,6 +577,50 @@ public class MSecurityManager extends SecurityManager {
         }
 
 
+        if (!executingTestCase || !isCacheable(perm)) {
+            return allowSUTPermission(perm);
+        }
+
+        PermissionKey key = new PermissionKey(perm);
+        Boolean cached = decisionCache.get(key);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
+
+        boolean allowed = allowSUTPermission(perm);
+        if (decisionCache.size() < MAX_CACHED_DECISIONS) {
+            decisionCache.put(key, allowed);
+        }
+        return allowed;
+    }
+
+    int getNumberOfCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Decisions on {@link RuntimePermission} and {@link ReflectPermission} might
+     * need to inspect the stack (eg, AWT threads), as well as
+     * file writes/deletions (eg, Jacoco and Clover reports), so they cannot be reused.
+     * File reads are always allowed, so there is nothing to save by caching them
+     *
+     * @param perm
+     * @return whether the decision only depends on the class, name and actions of the permission
+     */
+    private boolean isCacheable(Permission perm) {
+        return !(perm instanceof RuntimePermission || perm instanceof ReflectPermission
+                || perm instanceof FilePermission);
+    }
+
+    /**
+     * Decide on a permission requested by a thread that has to go through the sandbox
+     *
+     * @param perm
+     * @return false if access is forbidden, true otherwise
+     */
+    private boolean allowSUTPermission(Permission perm) {
+
         if (RuntimeSettings.sandboxMode.equals(Sandbox.SandboxMode.IO)) {
             // TODO: This makes JVM8 on MacOS crash
             // PermissionStatistics.getInstance().countThreads(Thread.currentThread().getThreadGroup().activeCount());
@@ -1337,4 +1442,42 @@ public class MSecurityManager extends SecurityManager {
 
         return false;
     }
+
+    /**
+     * Identity of a permission for the decision cache. Permission classes do not
+     * consistently implement equals/hashCode (eg, {@link FilePermission} compares
+     * resolved paths), so we explicitly key on class, name and actions
+     */
+    private static final class PermissionKey {
+
+        private final Class<?> type;
+        private final String name;
+        private final String actions;
+        private final int hash;
+
+        private PermissionKey(Permission perm) {
+            this.type = perm.getClass();
+            this.name = perm.getName();
+            this.actions = perm.getActions();
+            int h = type.hashCode();
+            h = 31 * h + (name == null ? 0 : name.hashCode());
+            h = 31 * h + (actions == null ? 0 : actions.hashCode());
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PermissionKey that = (PermissionKey) o;
+            return type == that.type
+                    && Objects.equals(name, that.name)
+                    && Objects.equals(actions, that.actions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -90,6 +90,11 @@ public class Sandbox {
             manager.addPrivilegedThread(t);
     }
 
+    public static void removePrivilegedThread(Thread t) {
+        if (manager != null)
+            manager.removePrivilegedThread(t);
+    }
+
     /**
      * @return a set of the threads that were marked as privileged. This is useful
      * if then we want to reactivate the security manager with the same priviliged threads.
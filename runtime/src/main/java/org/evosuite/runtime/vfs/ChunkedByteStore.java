@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.vfs;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Content of a virtual file, stored in fixed size chunks.
+ *
+ * <p>
+ * Chunks are taken from (and given back to) a shared pool, so that
+ * the many small files created and thrown away by each test execution
+ * do not need to be re-allocated every time the VFS is reset.
+ *
+ * <p>
+ * Invariant: all the bytes of the allocated chunks that are beyond the
+ * current size are 0, so the file can be extended without explicit filling.
+ *
+ * <p>
+ * Note: this class is not thread-safe, synchronization is done in {@link VFile}
+ */
+final class ChunkedByteStore {
+
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    /**
+     * Max number of free chunks kept around for reuse
+     */
+    private static final int MAX_POOLED_CHUNKS = 256;
+
+    private static final Deque<ByteBuffer> pool = new ArrayDeque<>();
+
+    private static final ByteBuffer[] NO_CHUNKS = new ByteBuffer[0];
+
+    private ByteBuffer[] chunks = NO_CHUNKS;
+
+    /**
+     * Number of chunks in use
+     */
+    private int allocated = 0;
+
+    private int size = 0;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the byte at the given position as an unsigned int, or -1 if beyond the end of the data
+     */
+    public int read(int position) {
+        if (position >= size) {
+            return -1;
+        }
+        return chunks[position / CHUNK_SIZE].array()[position % CHUNK_SIZE] & 0xFF;
+    }
+
+    /**
+     * Copy up to {@code len} bytes starting from {@code position} into {@code b}
+     *
+     * @return the number of copied bytes, which is 0 if {@code position} is beyond the end of the data
+     */
+    public int read(int position, byte[] b, int off, int len) {
+        int toRead = Math.min(len, size - position);
+        int done = 0;
+        while (done < toRead) {
+            int p = position + done;
+            int inChunk = p % CHUNK_SIZE;
+            int n = Math.min(toRead - done, CHUNK_SIZE - inChunk);
+            System.arraycopy(chunks[p / CHUNK_SIZE].array(), inChunk, b, off + done, n);
+            done += n;
+        }
+        return Math.max(done, 0);
+    }
+
+    /**
+     * Copy bytes starting from {@code position} into {@code dst}, until either
+     * it is full or the end of the data is reached
+     *
+     * @return the number of copied bytes
+     */
+    public int read(int position, ByteBuffer dst) {
+        int toRead = Math.min(dst.remaining(), size - position);
+        int done = 0;
+        while (done < toRead) {
+            int p = position + done;
+            int inChunk = p % CHUNK_SIZE;
+            int n = Math.min(toRead - done, CHUNK_SIZE - inChunk);
+            dst.put(chunks[p / CHUNK_SIZE].array(), inChunk, n);
+            done += n;
+        }
+        return Math.max(done, 0);
+    }
+
+    public void write(int position, byte[] b, int off, int len) {
+        ensureCapacity(position + len);
+        int done = 0;
+        while (done < len) {
+            int p = position + done;
+            int inChunk = p % CHUNK_SIZE;
+            int n = Math.min(len - done, CHUNK_SIZE - inChunk);
+            System.arraycopy(b, off + done, chunks[p / CHUNK_SIZE].array(), inChunk, n);
+            done += n;
+        }
+        size = Math.max(size, position + len);
+    }
+
+    /**
+     * Write all the remaining bytes of {@code src} starting from {@code position}
+     */
+    public void write(int position, ByteBuffer src) {
+        int len = src.remaining();
+        ensureCapacity(position + len);
+        int done = 0;
+        while (done < len) {
+            int p = position + done;
+            int inChunk = p % CHUNK_SIZE;
+            int n = Math.min(len - done, CHUNK_SIZE - inChunk);
+            src.get(chunks[p / CHUNK_SIZE].array(), inChunk, n);
+            done += n;
+        }
+        size = Math.max(size, position + len);
+    }
+
+    /**
+     * Truncate or extend (with 0s) the data
+     */
+    public void setLength(int newLength) {
+        if (newLength == 0) {
+            clear();
+            return;
+        }
+
+        if (newLength > size) {
+            ensureCapacity(newLength);
+            size = newLength;
+            return;
+        }
+
+        int needed = chunksFor(newLength);
+        for (int i = needed; i < allocated; i++) {
+            release(chunks[i]);
+            chunks[i] = null;
+        }
+        allocated = needed;
+
+        int inChunk = newLength % CHUNK_SIZE;
+        if (inChunk != 0) {
+            ByteBuffer last = chunks[needed - 1];
+            Arrays.fill(last.array(), inChunk, Math.min(CHUNK_SIZE, size - (needed - 1) * CHUNK_SIZE), (byte) 0);
+        }
+        size = newLength;
+    }
+
+    /**
+     * Remove all data, giving the chunks back to the pool
+     */
+    public void clear() {
+        for (int i = 0; i < allocated; i++) {
+            release(chunks[i]);
+        }
+        chunks = NO_CHUNKS;
+        allocated = 0;
+        size = 0;
+    }
+
+    private void ensureCapacity(int length) {
+        int needed = chunksFor(length);
+        if (needed <= allocated) {
+            return;
+        }
+        if (needed > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(needed, chunks.length * 2));
+        }
+        for (int i = allocated; i < needed; i++) {
+            chunks[i] = acquire();
+        }
+        allocated = needed;
+    }
+
+    private static int chunksFor(int length) {
+        return (int) (((long) length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    private static ByteBuffer acquire() {
+        synchronized (pool) {
+            ByteBuffer chunk = pool.pollFirst();
+            if (chunk != null) {
+                return chunk;
+            }
+        }
+        return ByteBuffer.allocate(CHUNK_SIZE);
+    }
+
+    private static void release(ByteBuffer chunk) {
+        Arrays.fill(chunk.array(), (byte) 0);
+        synchronized (pool) {
+            if (pool.size() < MAX_POOLED_CHUNKS) {
+                pool.addFirst(chunk);
+            }
+        }
+    }
+}
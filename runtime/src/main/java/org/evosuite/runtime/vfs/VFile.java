@@ -19,8 +19,7 @@
  */
 package org.evosuite.runtime.vfs;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * Representation of a virtual file
@@ -30,18 +29,17 @@ import java.util.List;
 public class VFile extends FSObject {
 
     /**
-     * the actual data contained in file as a list of bytes
+     * the actual data contained in file
      */
-    private final List<Byte> data;
+    private final ChunkedByteStore data;
 
     public VFile(String path, VFolder parent) {
         super(path, parent);
 
-        //TODO might need a better type of data structure supporting multi-threading
-        data = new ArrayList<>(1024);
+        data = new ChunkedByteStore();
     }
 
-    public void eraseData() {
+    public synchronized void eraseData() {
         data.clear();
     }
 
@@ -51,40 +49,64 @@ public class VFile extends FSObject {
 
 
     public synchronized void setLength(int newLength) {
+        data.setLength(newLength);
+    }
+
+    /**
+     * @return a converted unsigned int [0,255] representation of the [-128,127] byte at {@code position}.
+     * A -1 value represents the end of the file (ie position higher than size)
+     */
+    public synchronized int read(int position) throws IllegalArgumentException {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position in the file cannot be negative");
+        }
 
-        /*
-         * Note: this implementation is not particularly efficient...
-         * but setLength is rarely called
-         */
+        return data.read(position);
+    }
 
-        while (newLength > data.size()) {
-            data.add((byte) 0);
+    /**
+     * Read up to {@code len} bytes starting from {@code position}
+     *
+     * @return the number of bytes read, or -1 if {@code position} is at (or beyond) the end of the file
+     * and {@code len} is not 0
+     */
+    public synchronized int read(int position, byte[] b, int off, int len) throws IllegalArgumentException {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position in the file cannot be negative");
         }
 
-        if (newLength == 0) {
-            data.clear();
-            return;
+        if (len == 0) {
+            return 0;
         }
 
-        while (data.size() > newLength) {
-            data.remove(data.size() - 1);
+        if (position >= data.size()) {
+            return -1; //this represent the end of the stream
         }
+
+        return data.read(position, b, off, len);
     }
 
     /**
-     * @return a converted unsigned int [0,255] representation of the [-128,127] byte at {@code position}.
-     * A -1 value represents the end of the file (ie position higher than size)
+     * Read bytes starting from {@code position} into {@code dst}, until either it is full or
+     * the end of the file is reached
+     *
+     * @return the number of bytes read, or -1 if {@code position} is at (or beyond) the end of the file
+     * and {@code dst} has space left
      */
-    public synchronized int read(int position) throws IllegalArgumentException {
+    public synchronized int read(int position, ByteBuffer dst) throws IllegalArgumentException {
         if (position < 0) {
             throw new IllegalArgumentException("Position in the file cannot be negative");
         }
 
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+
         if (position >= data.size()) {
             return -1; //this represent the end of the stream
         }
 
-        return data.get(position) & 0xFF;
+        return data.read(position, dst);
     }
 
     public synchronized int writeBytes(byte[] b, int off, int len) {
@@ -102,21 +124,43 @@ public class VFile extends FSObject {
             return 0;
         }
 
-        if (position >= data.size()) {
-            setLength(position);
+        //never write beyond the end of the array
+        int written = Math.max(0, Math.min(len, b.length - off));
+
+        if (position > data.size()) {
+            data.setLength(position);
         }
 
-        int written = 0;
-        for (int i = off; i < b.length & (i - off) < len; i++) {
-            if (position < data.size()) {
-                data.set(position, (b[i]));
-            } else {
-                data.add(b[i]);
-            }
-            position++;
-            written++;
+        data.write(position, b, off, written);
+
+        setLastModified(getCurrentTimeMillis());
+
+        return written;
+    }
+
+    /**
+     * Write all the remaining bytes of {@code src} starting from {@code position}
+     *
+     * @return the number of bytes written, which is 0 if the file cannot be written
+     */
+    public synchronized int writeBytes(int position, ByteBuffer src) throws IllegalArgumentException {
+
+        if (position < 0) {
+            throw new IllegalArgumentException("Position in the file cannot be negative");
         }
 
+        if (deleted || !isWritePermission()) {
+            return 0;
+        }
+
+        int written = src.remaining();
+
+        if (position > data.size()) {
+            data.setLength(position);
+        }
+
+        data.write(position, src);
+
         setLastModified(getCurrentTimeMillis());
 
         return written;
@@ -30,7 +30,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -98,6 +100,12 @@ public final class VirtualFileSystem {
      */
     private final Set<LeakingResource> leakingResources;
 
+    /**
+     * All the files created since the last reset. Their data is released
+     * when the VFS is reset, so its memory can be reused by the following tests
+     */
+    private final Queue<VFile> createdFiles;
+
     //--------------------------------------------------------------------------
 
     /**
@@ -107,6 +115,7 @@ public final class VirtualFileSystem {
         tmpFileCounter = new AtomicInteger(0);
         accessedFiles = new CopyOnWriteArraySet<>(); //we only add during test execution, and read after
         leakingResources = new CopyOnWriteArraySet<>();
+        createdFiles = new ConcurrentLinkedQueue<>();
         classesThatShouldThrowIOException = new CopyOnWriteArraySet<>(); //should only contain very few values
     }
 
@@ -124,6 +133,12 @@ public final class VirtualFileSystem {
      */
     public void resetSingleton() {
         root = null;
+
+        VFile file;
+        while ((file = createdFiles.poll()) != null) {
+            file.eraseData();
+        }
+
         tmpFileCounter.set(0);
         accessedFiles.clear();
         shouldAllThrowIOException = false;
@@ -344,6 +359,7 @@ public final class VirtualFileSystem {
         VFolder folder = (VFolder) findFSObject(parent);
         VFile file = new VFile(rawPath, folder);
         folder.addChild(file);
+        createdFiles.add(file);
 
         if (!tmp) {
             markAccessedFile(file.getPath());
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class ExecutionProfilerTest {
+
+    @Before
+    public void init() {
+        ExecutionProfiler.getInstance().reset();
+        ExecutionProfiler.getInstance().setSamplingRate(1);
+        ExecutionProfiler.getInstance().setActive(true);
+    }
+
+    @After
+    public void tearDown() {
+        ExecutionProfiler.getInstance().setActive(false);
+        ExecutionProfiler.getInstance().setPhase(null);
+        ExecutionProfiler.getInstance().setGoal(null);
+        ExecutionProfiler.getInstance().reset();
+    }
+
+    @Test
+    public void testInactiveDoesNotMeasure() {
+        ExecutionProfiler.getInstance().setActive(false);
+        boolean measured = ExecutionProfiler.getInstance().enter(ExecutionProfiler.Stage.SUT);
+        Assert.assertFalse(measured);
+        ExecutionProfiler.getInstance().exit(measured);
+        Assert.assertEquals(0L, ExecutionProfiler.getInstance().getTotalTime(ExecutionProfiler.Stage.SUT));
+    }
+
+    @Test
+    public void testNestedStagesAreExclusive() throws InterruptedException {
+        ExecutionProfiler profiler = ExecutionProfiler.getInstance();
+
+        boolean sut = profiler.enter(ExecutionProfiler.Stage.SUT);
+        Thread.sleep(20);
+        boolean reset = profiler.enter(ExecutionProfiler.Stage.CLASS_RESET);
+        Thread.sleep(50);
+        profiler.exit(reset);
+        profiler.exit(sut);
+
+        long sutTime = profiler.getTotalTime(ExecutionProfiler.Stage.SUT);
+        long resetTime = profiler.getTotalTime(ExecutionProfiler.Stage.CLASS_RESET);
+        Assert.assertTrue(sutTime >= 20_000_000L);
+        Assert.assertTrue(resetTime >= 50_000_000L);
+        Assert.assertTrue("Nested stage should not be counted in the enclosing one", sutTime < resetTime);
+    }
+
+    @Test
+    public void testExitClosesNestedStages() throws InterruptedException {
+        ExecutionProfiler profiler = ExecutionProfiler.getInstance();
+
+        boolean sut = profiler.enter(ExecutionProfiler.Stage.SUT);
+        // eg, a tracer callback that threw an exception
+        profiler.enter(ExecutionProfiler.Stage.TRACER);
+        profiler.exit(ExecutionProfiler.Stage.SUT, sut);
+
+        // outside of any stage, so not counted
+        Thread.sleep(50);
+        boolean reset = profiler.enter(ExecutionProfiler.Stage.CLASS_RESET);
+        profiler.exit(reset);
+
+        Assert.assertTrue(profiler.getTotalTime(ExecutionProfiler.Stage.SUT) < 50_000_000L);
+        Assert.assertTrue(profiler.getTotalTime(ExecutionProfiler.Stage.TRACER) < 50_000_000L);
+    }
+
+    @Test
+    public void testSampling() {
+        ExecutionProfiler profiler = ExecutionProfiler.getInstance();
+        profiler.setSamplingRate(4);
+
+        int measured = 0;
+        for (int i = 0; i < 8; i++) {
+            boolean m = profiler.enter(ExecutionProfiler.Stage.TRACER);
+            if (m) {
+                measured++;
+            }
+            profiler.exit(m);
+        }
+        Assert.assertEquals(2, measured);
+
+        // non-sampled stages are always measured
+        boolean m = profiler.enter(ExecutionProfiler.Stage.OBSERVER);
+        Assert.assertTrue(m);
+        profiler.exit(m);
+    }
+
+    @Test
+    public void testContexts() {
+        ExecutionProfiler profiler = ExecutionProfiler.getInstance();
+
+        profiler.setPhase("SEARCH");
+        profiler.setGoal("goal");
+        boolean m = profiler.enter(ExecutionProfiler.Stage.SUT);
+        profiler.exit(m);
+
+        profiler.setGoal(null);
+        profiler.setPhase("MINIMIZATION");
+        m = profiler.enter(ExecutionProfiler.Stage.SUT);
+        profiler.exit(m);
+
+        Map<String, long[]> time = profiler.getTimeByContext();
+        Assert.assertTrue(time.containsKey("SEARCH:goal"));
+        Assert.assertTrue(time.containsKey("MINIMIZATION"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSamplingRate() {
+        ExecutionProfiler.getInstance().setSamplingRate(0);
+    }
+}
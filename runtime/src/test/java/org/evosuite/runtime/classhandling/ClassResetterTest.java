@@ -20,6 +20,8 @@
 package org.evosuite.runtime.classhandling;
 
 import com.examples.with.different.packagename.classhandling.MutableEnum;
+import com.examples.with.different.packagename.classhandling.StaticCounter;
+import com.examples.with.different.packagename.classhandling.StaticList;
 import org.evosuite.runtime.RuntimeSettings;
 import org.evosuite.runtime.instrumentation.EvoClassLoader;
 import org.junit.Assert;
@@ -27,6 +29,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 
 
 public class ClassResetterTest {
@@ -87,4 +90,68 @@ public class ClassResetterTest {
         Assert.assertEquals("a", getter.invoke(enums[0]));
         Assert.assertEquals("b", getter.invoke(enums[1]));
     }
+
+    @Test
+    public void testRestoreOfStaticFields() throws Exception {
+
+        ClassLoader loader = new EvoClassLoader();
+        boolean resetValue = RuntimeSettings.resetStaticState;
+        RuntimeSettings.resetStaticState = true;
+        ClassResetter.getInstance().setClassLoader(loader);
+
+        try {
+            String cut = StaticCounter.class.getCanonicalName();
+            Class<?> klass = loader.loadClass(cut);
+            Method inc = klass.getDeclaredMethod("inc");
+            Method getCounter = klass.getDeclaredMethod("getCounter");
+            Method getName = klass.getDeclaredMethod("getName");
+
+            //no snapshot yet
+            inc.invoke(null);
+            Assert.assertFalse(ClassResetter.getInstance().restoreStaticFields(cut, null));
+
+            ClassResetter.getInstance().reset(cut);
+            ClassResetter.getInstance().takeStaticFieldSnapshot(cut);
+            Assert.assertEquals(0, getCounter.invoke(null));
+
+            inc.invoke(null);
+            Assert.assertTrue(ClassResetter.getInstance().restoreStaticFields(cut, Collections.singleton("counter")));
+            Assert.assertEquals(0, getCounter.invoke(null));
+            Assert.assertEquals("bar", getName.invoke(null));
+
+            Assert.assertTrue(ClassResetter.getInstance().restoreStaticFields(cut, null));
+            Assert.assertEquals("foo", getName.invoke(null));
+
+            Assert.assertFalse(ClassResetter.getInstance().restoreStaticFields(cut, Collections.singleton("foo")));
+        } finally {
+            RuntimeSettings.resetStaticState = resetValue;
+        }
+    }
+
+    @Test
+    public void testNoRestoreOfMutableStaticFields() throws Exception {
+
+        ClassLoader loader = new EvoClassLoader();
+        boolean resetValue = RuntimeSettings.resetStaticState;
+        RuntimeSettings.resetStaticState = true;
+        ClassResetter.getInstance().setClassLoader(loader);
+
+        try {
+            String cut = StaticList.class.getCanonicalName();
+            Class<?> klass = loader.loadClass(cut);
+            Method add = klass.getDeclaredMethod("add", String.class);
+            Method size = klass.getDeclaredMethod("size");
+
+            add.invoke(null, "foo");
+            ClassResetter.getInstance().reset(cut);
+            ClassResetter.getInstance().takeStaticFieldSnapshot(cut);
+            Assert.assertEquals(0, size.invoke(null));
+
+            //the list could be modified without any write to the field
+            add.invoke(null, "foo");
+            Assert.assertFalse(ClassResetter.getInstance().restoreStaticFields(cut, null));
+        } finally {
+            RuntimeSettings.resetStaticState = resetValue;
+        }
+    }
 }
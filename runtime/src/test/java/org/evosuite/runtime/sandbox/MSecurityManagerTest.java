@@ -334,5 +334,99 @@ public class MSecurityManagerTest {
         future.get((long) Math.pow(1000, 1000), TimeUnit.MILLISECONDS);
     }
 
+    @Test
+    public void testRepeatedChecksKeepTheSameDecision() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+
+        final File tmp = new File(System.getProperty("java.io.tmpdir"), "evosuite_cache_" + System.currentTimeMillis());
+
+        Future<?> future = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 3; i++) {
+                    //cacheable, and allowed
+                    Assert.assertNotNull(System.getProperty("java.version"));
+
+                    //not cacheable, and forbidden
+                    try {
+                        System.setSecurityManager(null);
+                        Assert.fail("Failed to block setting the security manager");
+                    } catch (SecurityException e) {
+                        //expected
+                    }
+
+                    //cacheable, and forbidden
+                    try {
+                        new java.net.ServerSocket(0).close();
+                        Assert.fail("Failed to block opening a server socket");
+                    } catch (SecurityException e) {
+                        //expected
+                    } catch (IOException e) {
+                        throw new Error(e);
+                    }
+
+                    try {
+                        tmp.createNewFile();
+                        Assert.fail("Failed to block creating a new file");
+                    } catch (SecurityException e) {
+                        //expected
+                    } catch (IOException e) {
+                        throw new Error(e);
+                    }
+                }
 
+                //a decision taken before is reused
+                int hits = securityManager.getNumberOfCacheHits();
+                Assert.assertNotNull(System.getProperty("java.version"));
+                Assert.assertEquals(hits + 1, securityManager.getNumberOfCacheHits());
+            }
+        });
+        future.get(1000, TimeUnit.MILLISECONDS);
+
+        //the thread that created the security manager is still privileged
+        Assert.assertTrue(tmp.createNewFile());
+        tmp.delete();
+    }
+
+    private static boolean canCreateFile(File file) {
+        try {
+            file.createNewFile();
+            return true;
+        } catch (SecurityException e) {
+            return false;
+        } catch (IOException e) {
+            throw new Error(e);
+        }
+    }
+
+    @Test
+    public void testRemovePrivilegedThread() throws InterruptedException {
+
+        final File tmp = new File(System.getProperty("java.io.tmpdir"), "evosuite_privileged_" + System.currentTimeMillis());
+        final CountDownLatch checked = new CountDownLatch(1);
+        final CountDownLatch removed = new CountDownLatch(1);
+        final boolean[] allowed = new boolean[2];
+
+        Thread thread = new Thread(() -> {
+            allowed[0] = canCreateFile(tmp);
+            checked.countDown();
+            try {
+                removed.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            allowed[1] = canCreateFile(tmp);
+        });
+        securityManager.addPrivilegedThread(thread);
+        thread.start();
+
+        checked.await(1000, TimeUnit.MILLISECONDS);
+        tmp.delete();
+        securityManager.removePrivilegedThread(thread);
+        removed.countDown();
+        thread.join(1000);
+
+        Assert.assertTrue(allowed[0]);
+        Assert.assertFalse(allowed[1]);
+        Assert.assertFalse(tmp.exists());
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.vfs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class ChunkedByteStoreTest {
+
+    private static byte[] sequence(int n) {
+        byte[] data = new byte[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    @Test
+    public void testWriteAndReadAcrossChunks() {
+        ChunkedByteStore store = new ChunkedByteStore();
+        int n = ChunkedByteStore.CHUNK_SIZE * 2 + 10;
+        byte[] data = sequence(n);
+
+        store.write(0, data, 0, n);
+        Assert.assertEquals(n, store.size());
+
+        byte[] read = new byte[n];
+        Assert.assertEquals(n, store.read(0, read, 0, n));
+        Assert.assertArrayEquals(data, read);
+
+        Assert.assertEquals(data[ChunkedByteStore.CHUNK_SIZE + 1] & 0xFF, store.read(ChunkedByteStore.CHUNK_SIZE + 1));
+        Assert.assertEquals(-1, store.read(n));
+
+        //partial read at the end
+        Assert.assertEquals(10, store.read(n - 10, read, 0, 100));
+        Assert.assertEquals(0, store.read(n + 5, read, 0, 100));
+    }
+
+    @Test
+    public void testByteBuffers() {
+        ChunkedByteStore store = new ChunkedByteStore();
+        int n = ChunkedByteStore.CHUNK_SIZE + 3;
+        byte[] data = sequence(n);
+
+        store.write(5, ByteBuffer.wrap(data));
+        Assert.assertEquals(n + 5, store.size());
+        Assert.assertEquals(0, store.read(0));
+
+        ByteBuffer dst = ByteBuffer.allocate(n);
+        Assert.assertEquals(n, store.read(5, dst));
+        Assert.assertArrayEquals(data, dst.array());
+    }
+
+    @Test
+    public void testShrinkAndGrowIsZeroFilled() {
+        ChunkedByteStore store = new ChunkedByteStore();
+        int n = ChunkedByteStore.CHUNK_SIZE + 100;
+        byte[] data = new byte[n];
+        Arrays.fill(data, (byte) 7);
+        store.write(0, data, 0, n);
+
+        store.setLength(50);
+        Assert.assertEquals(50, store.size());
+        Assert.assertEquals(7, store.read(49));
+        Assert.assertEquals(-1, store.read(50));
+
+        store.setLength(n);
+        Assert.assertEquals(7, store.read(49));
+        Assert.assertEquals(0, store.read(50));
+        Assert.assertEquals(0, store.read(n - 1));
+
+        store.clear();
+        Assert.assertEquals(0, store.size());
+        store.setLength(10);
+        Assert.assertEquals(0, store.read(0));
+    }
+}